@@ -3,9 +3,11 @@ package com.taskflow;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @MapperScan("com.taskflow.mapper")
+@EnableScheduling
 public class TaskflowApplication {
     public static void main(String[] args) {
         SpringApplication.run(TaskflowApplication.class, args);
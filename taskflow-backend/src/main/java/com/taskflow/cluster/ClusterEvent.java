@@ -0,0 +1,21 @@
+package com.taskflow.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// An invalidation written by another node, republished locally as a Spring event
+@Getter
+@AllArgsConstructor
+public class ClusterEvent {
+
+    private final String channel;
+    private final String payload;
+
+    public boolean is(String name) {
+        return channel.equals(name);
+    }
+
+    public Long key() {
+        return Long.valueOf(payload);
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskflow.cluster;
+
+import com.taskflow.websocket.EventBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Tells the other nodes to drop a cached entry; each cache still evicts its own copy. Sent after commit so
+// no node reloads the entry before the change is visible, and received as a ClusterEvent on the others.
+@Component
+@RequiredArgsConstructor
+public class ClusterInvalidator {
+
+    public static final String MEMBERSHIP_USER = "membership-user";
+    public static final String MEMBERSHIP_WORKSPACE = "membership-workspace";
+    public static final String USER_SEARCH = "user-search";
+    public static final String DEPENDENCY_GRAPH = "dependency-graph";
+    public static final String SCHEDULE = "schedule";
+
+    // Looked up on use: the outbox bus sits behind the broker config, which needs the caches that call this
+    private final ObjectProvider<EventBus> eventBus;
+
+    public void invalidate(String channel, Long key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventBus.getObject().broadcast(channel, String.valueOf(key));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventBus.getObject().broadcast(channel, String.valueOf(key));
+            }
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskflow.cluster;
+
+import com.taskflow.mapper.JobRunMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Scheduled jobs fire on every replica; the primary key on job_run lets exactly one of them run each occurrence
+@Component
+@RequiredArgsConstructor
+public class JobRunClaims {
+
+    private final JobRunMapper jobRunMapper;
+
+    public boolean claim(String jobName, String runKey) {
+        return jobRunMapper.claim(jobName, runKey) == 1;
+    }
+}
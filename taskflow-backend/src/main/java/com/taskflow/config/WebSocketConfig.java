@@ -1,14 +1,30 @@
 package com.taskflow.config;
 
+import com.taskflow.websocket.OutboundBackpressureInterceptor;
+import com.taskflow.websocket.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final OutboundBackpressureInterceptor outboundBackpressureInterceptor;
+
+    @Value("${taskflow.realtime.outbound.send-time-limit:10000}")
+    private int sendTimeLimit;
+
+    @Value("${taskflow.realtime.outbound.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
@@ -16,6 +32,22 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     }
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // The handshake stays open (SockJS cannot send headers); the token is checked on the STOMP CONNECT frame
         registry.addEndpoint("/ws").setAllowedOriginPatterns("*").withSockJS();
     }
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(outboundBackpressureInterceptor);
+    }
+    // A client that cannot take a frame within the time limit, or lets this much pile up in its socket buffer,
+    // is disconnected; it resyncs when it reconnects
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit);
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
 }
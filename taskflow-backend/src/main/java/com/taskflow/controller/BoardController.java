@@ -4,11 +4,14 @@ import com.taskflow.dto.request.BoardColumnCreateRequest;
 import com.taskflow.dto.request.BoardColumnReorderRequest;
 import com.taskflow.dto.request.BoardColumnUpdateRequest;
 import com.taskflow.dto.request.BoardCreateRequest;
+import com.taskflow.dto.request.RankMoveRequest;
 import com.taskflow.dto.response.ApiResponse;
 import com.taskflow.dto.response.BoardColumnResponse;
 import com.taskflow.dto.response.BoardResponse;
 import com.taskflow.service.BoardService;
+import com.taskflow.service.support.TaskFieldSet;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -27,6 +31,7 @@ public class BoardController {
 
     private final BoardService boardService;
 
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'MEMBER')")
     @PostMapping("/api/v1/workspaces/{workspaceId}/boards")
     public ApiResponse<BoardResponse> createBoard(
             @PathVariable Long workspaceId,
@@ -36,18 +41,24 @@ public class BoardController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
     @GetMapping("/api/v1/workspaces/{workspaceId}/boards")
     public ApiResponse<List<BoardResponse>> listBoards(@PathVariable Long workspaceId) {
         List<BoardResponse> response = boardService.listBoards(workspaceId);
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.board(#id, 'VIEWER')")
     @GetMapping("/api/v1/boards/{id}")
-    public ApiResponse<BoardResponse> getBoard(@PathVariable Long id) {
-        BoardResponse response = boardService.getBoard(id);
+    public ApiResponse<BoardResponse> getBoard(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include) {
+        BoardResponse response = boardService.getBoard(id, TaskFieldSet.parse(fields, include));
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.board(#id, 'MEMBER')")
     @PutMapping("/api/v1/boards/{id}")
     public ApiResponse<BoardResponse> updateBoard(
             @PathVariable Long id,
@@ -56,12 +67,14 @@ public class BoardController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.board(#id, 'MEMBER')")
     @DeleteMapping("/api/v1/boards/{id}")
     public ApiResponse<Void> deleteBoard(@PathVariable Long id) {
         boardService.deleteBoard(id);
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.board(#id, 'MEMBER')")
     @PostMapping("/api/v1/boards/{id}/columns")
     public ApiResponse<BoardColumnResponse> addColumn(
             @PathVariable Long id,
@@ -70,6 +83,7 @@ public class BoardController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.column(#id, 'MEMBER')")
     @PutMapping("/api/v1/columns/{id}")
     public ApiResponse<BoardColumnResponse> updateColumn(
             @PathVariable Long id,
@@ -78,12 +92,14 @@ public class BoardController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.column(#id, 'MEMBER')")
     @DeleteMapping("/api/v1/columns/{id}")
     public ApiResponse<Void> deleteColumn(@PathVariable Long id) {
         boardService.deleteColumn(id);
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.board(#id, 'MEMBER')")
     @PutMapping("/api/v1/boards/{id}/columns/reorder")
     public ApiResponse<Void> reorderColumns(
             @PathVariable Long id,
@@ -91,4 +107,13 @@ public class BoardController {
         boardService.reorderColumns(id, request);
         return ApiResponse.success();
     }
+
+    @PreAuthorize("@workspaceAuthz.column(#id, 'MEMBER')")
+    @PutMapping("/api/v1/columns/{id}/move-between")
+    public ApiResponse<BoardColumnResponse> moveColumnBetween(
+            @PathVariable Long id,
+            @RequestBody RankMoveRequest request) {
+        BoardColumnResponse response = boardService.moveColumnBetween(id, request);
+        return ApiResponse.success(response);
+    }
 }
@@ -6,6 +6,7 @@ import com.taskflow.dto.response.ApiResponse;
 import com.taskflow.dto.response.CommentResponse;
 import com.taskflow.service.CommentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,6 +25,7 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'MEMBER')")
     @PostMapping("/api/v1/tasks/{taskId}/comments")
     public ApiResponse<CommentResponse> createComment(
             @PathVariable Long taskId,
@@ -33,12 +35,14 @@ public class CommentController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'VIEWER')")
     @GetMapping("/api/v1/tasks/{taskId}/comments")
     public ApiResponse<List<CommentResponse>> listComments(@PathVariable Long taskId) {
         List<CommentResponse> response = commentService.listComments(taskId);
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.comment(#id, 'MEMBER')")
     @PutMapping("/api/v1/comments/{id}")
     public ApiResponse<CommentResponse> updateComment(
             @PathVariable Long id,
@@ -47,6 +51,7 @@ public class CommentController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.comment(#id, 'MEMBER')")
     @DeleteMapping("/api/v1/comments/{id}")
     public ApiResponse<Void> deleteComment(@PathVariable Long id) {
         commentService.deleteComment(id);
@@ -6,6 +6,7 @@ import com.taskflow.dto.response.ApiResponse;
 import com.taskflow.dto.response.LabelResponse;
 import com.taskflow.service.LabelService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +19,7 @@ public class LabelController {
 
     private final LabelService labelService;
 
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'MEMBER')")
     @PostMapping("/api/v1/workspaces/{workspaceId}/labels")
     public ApiResponse<LabelResponse> createLabel(
             @PathVariable Long workspaceId,
@@ -27,12 +29,14 @@ public class LabelController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
     @GetMapping("/api/v1/workspaces/{workspaceId}/labels")
     public ApiResponse<List<LabelResponse>> listLabels(@PathVariable Long workspaceId) {
         List<LabelResponse> response = labelService.listLabels(workspaceId);
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.label(#id, 'MEMBER')")
     @PutMapping("/api/v1/labels/{id}")
     public ApiResponse<LabelResponse> updateLabel(
             @PathVariable Long id,
@@ -41,24 +45,28 @@ public class LabelController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.label(#id, 'MEMBER')")
     @DeleteMapping("/api/v1/labels/{id}")
     public ApiResponse<Void> deleteLabel(@PathVariable Long id) {
         labelService.deleteLabel(id);
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'VIEWER')")
     @GetMapping("/api/v1/tasks/{taskId}/labels")
     public ApiResponse<List<LabelResponse>> getTaskLabels(@PathVariable Long taskId) {
         List<LabelResponse> response = labelService.getTaskLabels(taskId);
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'MEMBER') and @workspaceAuthz.label(#labelId, 'MEMBER')")
     @PostMapping("/api/v1/tasks/{taskId}/labels/{labelId}")
     public ApiResponse<Void> addLabelToTask(@PathVariable Long taskId, @PathVariable Long labelId) {
         labelService.addLabelToTask(taskId, labelId);
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'MEMBER') and @workspaceAuthz.label(#labelId, 'MEMBER')")
     @DeleteMapping("/api/v1/tasks/{taskId}/labels/{labelId}")
     public ApiResponse<Void> removeLabelFromTask(@PathVariable Long taskId, @PathVariable Long labelId) {
         labelService.removeLabelFromTask(taskId, labelId);
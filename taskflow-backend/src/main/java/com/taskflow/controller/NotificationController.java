@@ -1,6 +1,7 @@
 package com.taskflow.controller;
 
 import com.taskflow.dto.response.ApiResponse;
+import com.taskflow.dto.response.NotificationPageResponse;
 import com.taskflow.dto.response.NotificationResponse;
 import com.taskflow.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -27,6 +29,15 @@ public class NotificationController {
         return ApiResponse.success(response);
     }
 
+    @GetMapping("/inbox")
+    public ApiResponse<NotificationPageResponse> listInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = Long.parseLong(SecurityContextHolder.getContext().getAuthentication().getName());
+        NotificationPageResponse response = notificationService.listInbox(userId, cursor, size);
+        return ApiResponse.success(response);
+    }
+
     @GetMapping("/unread-count")
     public ApiResponse<Long> getUnreadCount() {
         Long userId = Long.parseLong(SecurityContextHolder.getContext().getAuthentication().getName());
@@ -36,7 +47,8 @@ public class NotificationController {
 
     @PutMapping("/{id}/read")
     public ApiResponse<Void> markAsRead(@PathVariable Long id) {
-        notificationService.markAsRead(id);
+        Long userId = Long.parseLong(SecurityContextHolder.getContext().getAuthentication().getName());
+        notificationService.markAsRead(userId, id);
         return ApiResponse.success();
     }
 
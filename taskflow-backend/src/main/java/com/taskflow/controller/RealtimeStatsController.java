@@ -0,0 +1,26 @@
+package com.taskflow.controller;
+
+import com.taskflow.dto.response.ApiResponse;
+import com.taskflow.dto.response.RealtimeOutboundStatsResponse;
+import com.taskflow.websocket.OutboundBackpressureInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/realtime")
+@RequiredArgsConstructor
+public class RealtimeStatsController {
+
+    private final OutboundBackpressureInterceptor outboundBackpressureInterceptor;
+
+    @PreAuthorize("@adminAuthz.isAdmin()")
+    @GetMapping("/outbound")
+    public ApiResponse<RealtimeOutboundStatsResponse> getOutboundStats() {
+        RealtimeOutboundStatsResponse response = new RealtimeOutboundStatsResponse(
+                outboundBackpressureInterceptor.getStats(), outboundBackpressureInterceptor.getSessionStats());
+        return ApiResponse.success(response);
+    }
+}
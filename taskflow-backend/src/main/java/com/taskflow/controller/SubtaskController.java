@@ -1,5 +1,6 @@
 package com.taskflow.controller;
 
+import com.taskflow.dto.request.RankMoveRequest;
 import com.taskflow.dto.request.SubtaskCreateRequest;
 import com.taskflow.dto.request.SubtaskReorderRequest;
 import com.taskflow.dto.request.SubtaskUpdateRequest;
@@ -7,6 +8,7 @@ import com.taskflow.dto.response.ApiResponse;
 import com.taskflow.dto.response.SubtaskResponse;
 import com.taskflow.service.SubtaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,12 +26,14 @@ public class SubtaskController {
 
     private final SubtaskService subtaskService;
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'VIEWER')")
     @GetMapping("/api/v1/tasks/{taskId}/subtasks")
     public ApiResponse<List<SubtaskResponse>> listSubtasks(@PathVariable Long taskId) {
         List<SubtaskResponse> response = subtaskService.listSubtasks(taskId);
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'MEMBER')")
     @PostMapping("/api/v1/tasks/{taskId}/subtasks")
     public ApiResponse<SubtaskResponse> createSubtask(
             @PathVariable Long taskId,
@@ -38,6 +42,7 @@ public class SubtaskController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.subtask(#id, 'MEMBER')")
     @PutMapping("/api/v1/subtasks/{id}")
     public ApiResponse<SubtaskResponse> updateSubtask(
             @PathVariable Long id,
@@ -46,21 +51,33 @@ public class SubtaskController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.subtask(#id, 'MEMBER')")
     @DeleteMapping("/api/v1/subtasks/{id}")
     public ApiResponse<Void> deleteSubtask(@PathVariable Long id) {
         subtaskService.deleteSubtask(id);
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.subtask(#id, 'MEMBER')")
     @PutMapping("/api/v1/subtasks/{id}/toggle")
     public ApiResponse<SubtaskResponse> toggleSubtask(@PathVariable Long id) {
         SubtaskResponse response = subtaskService.toggleSubtask(id);
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.subtasks(#request.items?.![id], 'MEMBER')")
     @PutMapping("/api/v1/subtasks/reorder")
     public ApiResponse<Void> reorderSubtasks(@Validated @RequestBody SubtaskReorderRequest request) {
         subtaskService.reorderSubtasks(request);
         return ApiResponse.success();
     }
+
+    @PreAuthorize("@workspaceAuthz.subtask(#id, 'MEMBER')")
+    @PutMapping("/api/v1/subtasks/{id}/move-between")
+    public ApiResponse<SubtaskResponse> moveSubtaskBetween(
+            @PathVariable Long id,
+            @RequestBody RankMoveRequest request) {
+        SubtaskResponse response = subtaskService.moveSubtaskBetween(id, request);
+        return ApiResponse.success(response);
+    }
 }
@@ -4,6 +4,7 @@ import com.taskflow.dto.response.ApiResponse;
 import com.taskflow.dto.response.TaskActivityResponse;
 import com.taskflow.service.TaskActivityService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +17,7 @@ public class TaskActivityController {
 
     private final TaskActivityService taskActivityService;
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'VIEWER')")
     @GetMapping("/api/v1/tasks/{taskId}/activities")
     public ApiResponse<List<TaskActivityResponse>> getTaskActivities(@PathVariable Long taskId) {
         List<TaskActivityResponse> response = taskActivityService.getTaskActivities(taskId);
@@ -0,0 +1,29 @@
+package com.taskflow.controller;
+
+import com.taskflow.dto.request.TaskBulkUpdateRequest;
+import com.taskflow.dto.response.ApiResponse;
+import com.taskflow.dto.response.TaskBulkUpdateResponse;
+import com.taskflow.service.TaskBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TaskBulkController {
+
+    private final TaskBulkService taskBulkService;
+
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'MEMBER')")
+    @PutMapping("/api/v1/workspaces/{workspaceId}/tasks/bulk")
+    public ApiResponse<TaskBulkUpdateResponse> bulkUpdate(
+            @PathVariable Long workspaceId,
+            @Validated @RequestBody TaskBulkUpdateRequest request) {
+        TaskBulkUpdateResponse response = taskBulkService.bulkUpdate(workspaceId, request);
+        return ApiResponse.success(response);
+    }
+}
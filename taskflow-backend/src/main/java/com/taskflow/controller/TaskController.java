@@ -1,15 +1,20 @@
 package com.taskflow.controller;
 
+import com.taskflow.dto.request.RankMoveRequest;
 import com.taskflow.dto.request.TaskCreateRequest;
 import com.taskflow.dto.request.TaskMoveRequest;
 import com.taskflow.dto.request.TaskStatusUpdateRequest;
 import com.taskflow.dto.request.TaskUpdateRequest;
 import com.taskflow.dto.response.ApiResponse;
+import com.taskflow.dto.response.GanttResponse;
+import com.taskflow.dto.response.TaskDeltaResyncResponse;
 import com.taskflow.dto.response.TaskListResponse;
 import com.taskflow.dto.response.TaskResponse;
 import com.taskflow.service.TaskService;
+import com.taskflow.service.support.TaskFieldSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -28,8 +33,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TaskService taskService;
 
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'MEMBER')")
     @PostMapping("/api/v1/workspaces/{workspaceId}/tasks")
     public ApiResponse<TaskResponse> createTask(
             @PathVariable Long workspaceId,
@@ -39,6 +47,7 @@ public class TaskController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
     @GetMapping("/api/v1/workspaces/{workspaceId}/tasks")
     public ApiResponse<TaskListResponse> listTasks(
             @PathVariable Long workspaceId,
@@ -49,17 +58,41 @@ public class TaskController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
-        TaskListResponse response = taskService.listTasks(workspaceId, status, priority, assigneeId, keyword, page, size, sortBy, sortDir);
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include) {
+        TaskFieldSet fieldSet = TaskFieldSet.parse(fields, include);
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        page = Math.max(page, 1);
+        if ("cursor".equalsIgnoreCase(paging) || cursor != null) {
+            TaskListResponse response = taskService.listTasksByCursor(workspaceId, status, priority, assigneeId, keyword, cursor, size, sortBy, sortDir, withTotal, fieldSet);
+            return ApiResponse.success(response);
+        }
+        TaskListResponse response = taskService.listTasks(workspaceId, status, priority, assigneeId, keyword, page, size, sortBy, sortDir, fieldSet);
         return ApiResponse.success(response);
     }
 
+    // Catch-up for real-time clients that missed deltas; without "after" it only reports the current sequence
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
+    @GetMapping("/api/v1/workspaces/{workspaceId}/tasks/deltas")
+    public ApiResponse<TaskDeltaResyncResponse> getTaskDeltas(
+            @PathVariable Long workspaceId,
+            @RequestParam(required = false) Long after) {
+        TaskDeltaResyncResponse response = taskService.getTaskDeltas(workspaceId, after);
+        return ApiResponse.success(response);
+    }
+
+    @PreAuthorize("@workspaceAuthz.task(#id, 'VIEWER')")
     @GetMapping("/api/v1/tasks/{id}")
     public ApiResponse<TaskResponse> getTask(@PathVariable Long id) {
         TaskResponse response = taskService.getTask(id);
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#id, 'MEMBER')")
     @PutMapping("/api/v1/tasks/{id}")
     public ApiResponse<TaskResponse> updateTask(
             @PathVariable Long id,
@@ -68,12 +101,14 @@ public class TaskController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#id, 'MEMBER')")
     @DeleteMapping("/api/v1/tasks/{id}")
     public ApiResponse<Void> deleteTask(@PathVariable Long id) {
         taskService.deleteTask(id);
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#id, 'MEMBER')")
     @PutMapping("/api/v1/tasks/{id}/status")
     public ApiResponse<TaskResponse> updateStatus(
             @PathVariable Long id,
@@ -82,6 +117,7 @@ public class TaskController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#id, 'MEMBER')")
     @PutMapping("/api/v1/tasks/{id}/move")
     public ApiResponse<TaskResponse> moveTask(
             @PathVariable Long id,
@@ -90,18 +126,44 @@ public class TaskController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#id, 'MEMBER')")
+    @PutMapping("/api/v1/tasks/{id}/move-between")
+    public ApiResponse<TaskResponse> moveTaskBetween(
+            @PathVariable Long id,
+            @RequestBody RankMoveRequest request) {
+        TaskResponse response = taskService.moveTaskBetween(id, request);
+        return ApiResponse.success(response);
+    }
+
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
     @GetMapping("/api/v1/workspaces/{workspaceId}/tasks/calendar")
     public ApiResponse<List<TaskResponse>> getCalendarTasks(
             @PathVariable Long workspaceId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
-        List<TaskResponse> response = taskService.getCalendarTasks(workspaceId, start, end);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include) {
+        List<TaskResponse> response = taskService.getCalendarTasks(workspaceId, start, end, TaskFieldSet.parse(fields, include));
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
     @GetMapping("/api/v1/workspaces/{workspaceId}/tasks/gantt")
-    public ApiResponse<List<TaskResponse>> getGanttTasks(@PathVariable Long workspaceId) {
-        List<TaskResponse> response = taskService.getGanttTasks(workspaceId);
+    public ApiResponse<List<TaskResponse>> getGanttTasks(
+            @PathVariable Long workspaceId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include) {
+        List<TaskResponse> response = taskService.getGanttTasks(workspaceId, TaskFieldSet.parse(fields, include));
+        return ApiResponse.success(response);
+    }
+
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
+    @GetMapping("/api/v1/workspaces/{workspaceId}/tasks/gantt/schedule")
+    public ApiResponse<GanttResponse> getGanttSchedule(
+            @PathVariable Long workspaceId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include) {
+        GanttResponse response = taskService.getGanttSchedule(workspaceId, TaskFieldSet.parse(fields, include));
         return ApiResponse.success(response);
     }
 }
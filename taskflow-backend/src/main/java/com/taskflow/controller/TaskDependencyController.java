@@ -5,6 +5,7 @@ import com.taskflow.dto.response.ApiResponse;
 import com.taskflow.dto.response.TaskResponse;
 import com.taskflow.service.TaskDependencyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,6 +23,7 @@ public class TaskDependencyController {
 
     private final TaskDependencyService taskDependencyService;
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'MEMBER')")
     @PostMapping("/api/v1/tasks/{taskId}/dependencies")
     public ApiResponse<Void> addDependency(
             @PathVariable Long taskId,
@@ -30,6 +32,7 @@ public class TaskDependencyController {
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'MEMBER')")
     @DeleteMapping("/api/v1/tasks/{taskId}/dependencies")
     public ApiResponse<Void> removeDependency(
             @PathVariable Long taskId,
@@ -39,9 +42,34 @@ public class TaskDependencyController {
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'VIEWER')")
     @GetMapping("/api/v1/tasks/{taskId}/dependencies")
     public ApiResponse<List<TaskResponse>> getDependencies(@PathVariable Long taskId) {
         List<TaskResponse> response = taskDependencyService.getDependencies(taskId);
         return ApiResponse.success(response);
     }
+
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'VIEWER')")
+    @GetMapping("/api/v1/tasks/{taskId}/dependencies/upstream")
+    public ApiResponse<List<TaskResponse>> getTransitivePredecessors(@PathVariable Long taskId) {
+        return ApiResponse.success(taskDependencyService.getTransitivePredecessors(taskId));
+    }
+
+    @PreAuthorize("@workspaceAuthz.task(#taskId, 'VIEWER')")
+    @GetMapping("/api/v1/tasks/{taskId}/dependencies/downstream")
+    public ApiResponse<List<TaskResponse>> getTransitiveSuccessors(@PathVariable Long taskId) {
+        return ApiResponse.success(taskDependencyService.getTransitiveSuccessors(taskId));
+    }
+
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
+    @GetMapping("/api/v1/workspaces/{workspaceId}/dependencies/order")
+    public ApiResponse<List<Long>> getTopologicalOrder(@PathVariable Long workspaceId) {
+        return ApiResponse.success(taskDependencyService.getTopologicalOrder(workspaceId));
+    }
+
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
+    @GetMapping("/api/v1/workspaces/{workspaceId}/dependencies/blocked")
+    public ApiResponse<List<TaskResponse>> getBlockedTasks(@PathVariable Long workspaceId) {
+        return ApiResponse.success(taskDependencyService.getBlockedTasks(workspaceId));
+    }
 }
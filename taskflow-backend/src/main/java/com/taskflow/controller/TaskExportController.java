@@ -0,0 +1,41 @@
+package com.taskflow.controller;
+
+import com.taskflow.service.TaskExportService;
+import com.taskflow.service.support.DataFormat;
+import com.taskflow.service.support.TaskFieldSet;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+public class TaskExportController {
+
+    private final TaskExportService taskExportService;
+
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
+    @GetMapping("/api/v1/workspaces/{workspaceId}/tasks/export")
+    public void exportTasks(
+            @PathVariable Long workspaceId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            HttpServletResponse response) throws IOException {
+        DataFormat dataFormat = DataFormat.fromParam(format);
+        TaskFieldSet fieldSet = TaskFieldSet.parse(fields, include);
+
+        response.setContentType(dataFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks-" + workspaceId + "." + dataFormat.getExtension() + "\"");
+        taskExportService.exportTasks(workspaceId, dataFormat, fieldSet, response.getOutputStream());
+    }
+}
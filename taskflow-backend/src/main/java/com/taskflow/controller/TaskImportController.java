@@ -0,0 +1,37 @@
+package com.taskflow.controller;
+
+import com.taskflow.dto.response.ApiResponse;
+import com.taskflow.dto.response.TaskImportResponse;
+import com.taskflow.service.TaskImportService;
+import com.taskflow.service.support.DataFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class TaskImportController {
+
+    private final TaskImportService taskImportService;
+
+    // The body is the raw CSV or NDJSON document and is read as a stream
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'MEMBER')")
+    @PostMapping("/api/v1/workspaces/{workspaceId}/tasks/import")
+    public ApiResponse<TaskImportResponse> importTasks(
+            @PathVariable Long workspaceId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Integer chunkSize,
+            HttpServletRequest request) throws IOException {
+        Long userId = Long.parseLong(SecurityContextHolder.getContext().getAuthentication().getName());
+        TaskImportResponse response = taskImportService.importTasks(
+                workspaceId, DataFormat.fromParam(format), chunkSize, request.getInputStream(), userId);
+        return ApiResponse.success(response);
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskflow.controller;
+
+import com.taskflow.dto.response.ApiResponse;
+import com.taskflow.dto.response.TaskSearchResponse;
+import com.taskflow.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TaskSearchController {
+
+    private final TaskSearchService taskSearchService;
+
+    @PreAuthorize("@workspaceAuthz.workspace(#workspaceId, 'VIEWER')")
+    @GetMapping("/api/v1/workspaces/{workspaceId}/tasks/search")
+    public ApiResponse<List<TaskSearchResponse>> searchTasks(
+            @PathVariable Long workspaceId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<TaskSearchResponse> response = taskSearchService.searchTasks(workspaceId, q, limit);
+        return ApiResponse.success(response);
+    }
+}
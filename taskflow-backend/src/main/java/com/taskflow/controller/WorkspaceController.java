@@ -9,6 +9,7 @@ import com.taskflow.dto.response.WorkspaceMemberResponse;
 import com.taskflow.dto.response.WorkspaceResponse;
 import com.taskflow.service.WorkspaceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -43,12 +44,14 @@ public class WorkspaceController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#id, 'VIEWER')")
     @GetMapping("/{id}")
     public ApiResponse<WorkspaceResponse> getWorkspace(@PathVariable Long id) {
         WorkspaceResponse response = workspaceService.getWorkspace(id);
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#id, 'ADMIN')")
     @PutMapping("/{id}")
     public ApiResponse<WorkspaceResponse> updateWorkspace(
             @PathVariable Long id,
@@ -57,40 +60,48 @@ public class WorkspaceController {
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#id, 'OWNER')")
     @DeleteMapping("/{id}")
     public ApiResponse<Void> deleteWorkspace(@PathVariable Long id) {
         workspaceService.deleteWorkspace(id);
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#id, 'ADMIN')")
     @PostMapping("/{id}/members")
     public ApiResponse<Void> inviteMember(
             @PathVariable Long id,
             @Validated @RequestBody MemberInviteRequest request) {
-        workspaceService.inviteMember(id, request);
+        Long actorId = Long.parseLong(SecurityContextHolder.getContext().getAuthentication().getName());
+        workspaceService.inviteMember(id, request, actorId);
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#id, 'VIEWER')")
     @GetMapping("/{id}/members")
     public ApiResponse<List<WorkspaceMemberResponse>> getMembers(@PathVariable Long id) {
         List<WorkspaceMemberResponse> response = workspaceService.getMembers(id);
         return ApiResponse.success(response);
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#id, 'ADMIN')")
     @PutMapping("/{id}/members/{userId}/role")
     public ApiResponse<Void> updateMemberRole(
             @PathVariable Long id,
             @PathVariable Long userId,
             @Validated @RequestBody MemberRoleUpdateRequest request) {
-        workspaceService.updateMemberRole(id, userId, request);
+        Long actorId = Long.parseLong(SecurityContextHolder.getContext().getAuthentication().getName());
+        workspaceService.updateMemberRole(id, userId, request, actorId);
         return ApiResponse.success();
     }
 
+    @PreAuthorize("@workspaceAuthz.workspace(#id, 'ADMIN')")
     @DeleteMapping("/{id}/members/{userId}")
     public ApiResponse<Void> removeMember(
             @PathVariable Long id,
             @PathVariable Long userId) {
-        workspaceService.removeMember(id, userId);
+        Long actorId = Long.parseLong(SecurityContextHolder.getContext().getAuthentication().getName());
+        workspaceService.removeMember(id, userId, actorId);
         return ApiResponse.success();
     }
 }
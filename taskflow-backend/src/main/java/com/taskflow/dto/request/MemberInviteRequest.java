@@ -2,6 +2,7 @@ package com.taskflow.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
 @Data
@@ -11,5 +12,6 @@ public class MemberInviteRequest {
     private Long userId;
 
     @NotBlank(message = "Role is required")
+    @Pattern(regexp = "OWNER|ADMIN|MEMBER|VIEWER", message = "Role must be OWNER, ADMIN, MEMBER or VIEWER")
     private String role;
 }
@@ -1,11 +1,13 @@
 package com.taskflow.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
 @Data
 public class MemberRoleUpdateRequest {
 
     @NotBlank(message = "Role is required")
+    @Pattern(regexp = "OWNER|ADMIN|MEMBER|VIEWER", message = "Role must be OWNER, ADMIN, MEMBER or VIEWER")
     private String role;
 }
@@ -0,0 +1,16 @@
+package com.taskflow.dto.request;
+
+import lombok.Data;
+
+@Data
+public class RankMoveRequest {
+
+    // Target column, tasks only; defaults to the task's current column
+    private Long boardColumnId;
+
+    // Item that should end up directly before the moved one, null for the start of the list
+    private Long previousId;
+
+    // Item that should end up directly after the moved one, null for the end of the list
+    private Long nextId;
+}
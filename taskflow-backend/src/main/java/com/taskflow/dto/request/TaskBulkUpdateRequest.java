@@ -0,0 +1,28 @@
+package com.taskflow.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBulkUpdateRequest {
+
+    @NotEmpty(message = "Task IDs are required")
+    @Size(max = 500, message = "At most 500 tasks can be updated at once")
+    private List<Long> taskIds;
+
+    private String status;
+
+    private String priority;
+
+    private Long assigneeId;
+
+    // Appends the tasks to the end of this column in the given order
+    private Long boardColumnId;
+
+    private List<Long> addLabelIds;
+
+    private List<Long> removeLabelIds;
+}
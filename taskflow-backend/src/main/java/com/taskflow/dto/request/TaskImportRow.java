@@ -0,0 +1,38 @@
+package com.taskflow.dto.request;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class TaskImportRow {
+
+    private String title;
+
+    private String description;
+
+    private String priority;
+
+    private String status;
+
+    private LocalDate startDate;
+
+    private LocalDate dueDate;
+
+    private Integer progress;
+
+    private Long assigneeId;
+
+    private Long boardColumnId;
+
+    private Long parentTaskId;
+
+    private Integer position;
+
+    // Label names of the target workspace
+    private List<String> labels;
+
+    // Subtask titles, in order
+    private List<String> subtasks;
+}
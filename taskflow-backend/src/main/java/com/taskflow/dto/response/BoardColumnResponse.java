@@ -16,6 +16,7 @@ public class BoardColumnResponse {
     private String name;
     private String color;
     private Integer position;
+    private String rankKey;
     private Integer wipLimit;
     private List<TaskResponse> tasks;
 }
@@ -0,0 +1,16 @@
+package com.taskflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GanttEdgeResponse {
+
+    private Long predecessorTaskId;
+    private Long successorTaskId;
+    private String dependencyType;
+    private boolean critical;
+}
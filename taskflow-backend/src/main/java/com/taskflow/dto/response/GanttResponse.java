@@ -0,0 +1,19 @@
+package com.taskflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GanttResponse {
+
+    private List<GanttTaskResponse> tasks;
+    private List<GanttEdgeResponse> edges;
+    private List<Long> criticalPath;
+    private LocalDate projectEnd;
+}
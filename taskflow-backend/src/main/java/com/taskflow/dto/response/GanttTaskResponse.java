@@ -0,0 +1,19 @@
+package com.taskflow.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GanttTaskResponse {
+
+    private TaskResponse task;
+    private LocalDate earliestStart;
+    private LocalDate earliestFinish;
+    private LocalDate latestStart;
+    private LocalDate latestFinish;
+    private Integer slack;
+    private boolean critical;
+}
@@ -0,0 +1,17 @@
+package com.taskflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RealtimeOutboundStatsResponse {
+
+    private Map<String, Long> totals;
+    // Keyed by STOMP session id
+    private Map<String, Map<String, Long>> sessions;
+}
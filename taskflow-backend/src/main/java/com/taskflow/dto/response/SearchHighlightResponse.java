@@ -0,0 +1,15 @@
+package com.taskflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHighlightResponse {
+
+    private String field;
+    private int start;
+    private int end;
+}
@@ -14,4 +14,5 @@ public class SubtaskResponse {
     private String title;
     private Integer isCompleted;
     private Integer position;
+    private String rankKey;
 }
@@ -0,0 +1,17 @@
+package com.taskflow.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBulkResultResponse {
+
+    private Long taskId;
+    private boolean success;
+    private String error;
+}
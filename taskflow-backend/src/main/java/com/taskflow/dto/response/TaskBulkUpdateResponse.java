@@ -0,0 +1,16 @@
+package com.taskflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkUpdateResponse {
+
+    private int updated;
+    private List<TaskBulkResultResponse> results;
+}
@@ -0,0 +1,19 @@
+package com.taskflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDeltaResponse {
+
+    private long seq;
+    private String type;
+    private Long taskId;
+    // Only the fields that changed; a CREATED delta carries every field
+    private Map<String, Object> fields;
+}
@@ -0,0 +1,18 @@
+package com.taskflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDeltaResyncResponse {
+
+    private long seq;
+    // True when the missed deltas are no longer retained and the client must reload the board
+    private boolean reset;
+    private List<TaskDeltaResponse> deltas;
+}
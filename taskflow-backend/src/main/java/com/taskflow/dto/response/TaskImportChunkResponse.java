@@ -0,0 +1,17 @@
+package com.taskflow.dto.response;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class TaskImportChunkResponse {
+
+    private int chunk;
+    private int firstRow;
+    private int lastRow;
+    private int imported;
+    private int failed;
+    private List<TaskImportErrorResponse> errors = new ArrayList<>();
+}
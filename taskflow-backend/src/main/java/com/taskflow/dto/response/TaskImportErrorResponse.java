@@ -0,0 +1,15 @@
+package com.taskflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorResponse {
+
+    // 0 when the error applies to the whole chunk
+    private int row;
+    private String message;
+}
@@ -0,0 +1,15 @@
+package com.taskflow.dto.response;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class TaskImportResponse {
+
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private List<TaskImportChunkResponse> chunks = new ArrayList<>();
+}
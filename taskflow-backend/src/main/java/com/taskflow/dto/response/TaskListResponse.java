@@ -16,4 +16,6 @@ public class TaskListResponse {
     private long size;
     private long current;
     private long pages;
+    private boolean hasMore;
+    private String nextCursor;
 }
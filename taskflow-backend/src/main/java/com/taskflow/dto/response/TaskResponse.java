@@ -1,5 +1,6 @@
 package com.taskflow.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TaskResponse {
 
     private Long id;
@@ -27,6 +29,7 @@ public class TaskResponse {
     private Long creatorId;
     private Long parentTaskId;
     private Integer position;
+    private String rankKey;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
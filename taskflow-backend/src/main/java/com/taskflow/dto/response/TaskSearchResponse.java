@@ -0,0 +1,17 @@
+package com.taskflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponse {
+
+    private TaskResponse task;
+    private double score;
+    private List<SearchHighlightResponse> highlights;
+}
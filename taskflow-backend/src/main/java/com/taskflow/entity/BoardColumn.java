@@ -24,6 +24,9 @@ public class BoardColumn {
     @TableField("position")
     private Integer position;
 
+    @TableField("rank_key")
+    private String rankKey;
+
     @TableField("wip_limit")
     private Integer wipLimit;
 
@@ -0,0 +1,20 @@
+package com.taskflow.entity;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@TableName("notification_read_mark")
+public class NotificationReadMark {
+
+    @TableId(value = "user_id", type = IdType.INPUT)
+    private Long userId;
+
+    @TableField("last_read_notification_id")
+    private Long lastReadNotificationId;
+
+    @TableField("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.taskflow.entity;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@TableName("realtime_outbox")
+public class RealtimeOutbox {
+
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    @TableField("node_id")
+    private String nodeId;
+
+    @TableField("destination")
+    private String destination;
+
+    @TableField("payload")
+    private String payload;
+
+    @TableField("created_at")
+    private LocalDateTime createdAt;
+}
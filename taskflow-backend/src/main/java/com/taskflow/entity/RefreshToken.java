@@ -15,8 +15,8 @@ public class RefreshToken {
     @TableField("user_id")
     private Long userId;
 
-    @TableField("token")
-    private String token;
+    @TableField("token_hash")
+    private String tokenHash;
 
     @TableField("expires_at")
     private LocalDateTime expiresAt;
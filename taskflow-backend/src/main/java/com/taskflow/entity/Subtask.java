@@ -24,6 +24,9 @@ public class Subtask {
     @TableField("position")
     private Integer position;
 
+    @TableField("rank_key")
+    private String rankKey;
+
     @TableField(value = "created_at", fill = FieldFill.INSERT)
     private LocalDateTime createdAt;
 
@@ -52,6 +52,9 @@ public class Task {
     @TableField("position")
     private Integer position;
 
+    @TableField("rank_key")
+    private String rankKey;
+
     @TableField(value = "created_at", fill = FieldFill.INSERT)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,33 @@
+package com.taskflow.entity;
+
+import com.baomidou.mybatisplus.annotation.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@TableName("task_delta")
+public class TaskDelta {
+
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    @TableField("workspace_id")
+    private Long workspaceId;
+
+    @TableField("seq")
+    private Long seq;
+
+    @TableField("type")
+    private String type;
+
+    @TableField("task_id")
+    private Long taskId;
+
+    // Changed fields as JSON
+    @TableField("fields")
+    private String fields;
+
+    @TableField("created_at")
+    private LocalDateTime createdAt;
+}
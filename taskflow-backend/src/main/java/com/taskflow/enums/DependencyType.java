@@ -0,0 +1,17 @@
+package com.taskflow.enums;
+
+public enum DependencyType {
+    FINISH_TO_START,
+    START_TO_START,
+    FINISH_TO_FINISH,
+    START_TO_FINISH;
+
+    public static DependencyType fromValue(String value) {
+        for (DependencyType type : values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
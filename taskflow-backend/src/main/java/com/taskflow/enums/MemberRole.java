@@ -4,5 +4,14 @@ public enum MemberRole {
     OWNER,
     ADMIN,
     MEMBER,
-    VIEWER
+    VIEWER;
+
+    public static MemberRole fromValue(String value) {
+        for (MemberRole role : values()) {
+            if (role.name().equals(value)) {
+                return role;
+            }
+        }
+        return null;
+    }
 }
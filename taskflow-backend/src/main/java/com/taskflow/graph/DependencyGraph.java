@@ -0,0 +1,348 @@
+package com.taskflow.graph;
+
+import com.taskflow.enums.DependencyType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Task dependency DAG of one workspace; edges point from predecessor to successor
+public class DependencyGraph {
+
+    private static final DependencyType[] TYPES = DependencyType.values();
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int edgeCount;
+
+    public static final class Edge {
+        private final long predecessorId;
+        private final long successorId;
+        private final DependencyType type;
+
+        Edge(long predecessorId, long successorId, DependencyType type) {
+            this.predecessorId = predecessorId;
+            this.successorId = successorId;
+            this.type = type;
+        }
+
+        public long getPredecessorId() {
+            return predecessorId;
+        }
+
+        public long getSuccessorId() {
+            return successorId;
+        }
+
+        public DependencyType getType() {
+            return type;
+        }
+    }
+
+    // Adds the edge unless it would close a cycle; returns false in that case
+    public boolean addEdge(long predecessorId, long successorId, DependencyType type) {
+        lock.writeLock().lock();
+        try {
+            if (predecessorId == successorId || reaches(successorId, predecessorId)) {
+                return false;
+            }
+            Node pred = nodes.computeIfAbsent(predecessorId, Node::new);
+            Node succ = nodes.computeIfAbsent(successorId, Node::new);
+            if (pred.out.indexOf(successorId) >= 0) {
+                return true;
+            }
+            pred.out.add(successorId, type);
+            succ.in.add(predecessorId, type);
+            edgeCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeEdge(long predecessorId, long successorId) {
+        lock.writeLock().lock();
+        try {
+            Node pred = nodes.get(predecessorId);
+            Node succ = nodes.get(successorId);
+            if (pred == null || succ == null || !pred.out.remove(successorId)) {
+                return;
+            }
+            succ.in.remove(predecessorId);
+            edgeCount--;
+            dropIfIsolated(pred);
+            dropIfIsolated(succ);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeNode(long taskId) {
+        lock.writeLock().lock();
+        try {
+            Node node = nodes.remove(taskId);
+            if (node == null) {
+                return;
+            }
+            for (int i = 0; i < node.out.size; i++) {
+                Node succ = nodes.get(node.out.ids[i]);
+                succ.in.remove(taskId);
+                dropIfIsolated(succ);
+            }
+            for (int i = 0; i < node.in.size; i++) {
+                Node pred = nodes.get(node.in.ids[i]);
+                pred.out.remove(taskId);
+                dropIfIsolated(pred);
+            }
+            edgeCount -= node.out.size + node.in.size;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] predecessors(long taskId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(taskId);
+            return node != null ? Arrays.copyOf(node.in.ids, node.in.size) : new long[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] successors(long taskId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(taskId);
+            return node != null ? Arrays.copyOf(node.out.ids, node.out.size) : new long[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Edge> incomingEdges(long taskId) {
+        lock.readLock().lock();
+        try {
+            List<Edge> edges = new ArrayList<>();
+            Node node = nodes.get(taskId);
+            if (node != null) {
+                for (int i = 0; i < node.in.size; i++) {
+                    edges.add(new Edge(node.in.ids[i], taskId, TYPES[node.in.types[i]]));
+                }
+            }
+            return edges;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] transitivePredecessors(long taskId) {
+        lock.readLock().lock();
+        try {
+            return walk(taskId, false);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] transitiveSuccessors(long taskId) {
+        lock.readLock().lock();
+        try {
+            return walk(taskId, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Kahn's algorithm; ready nodes are released in id order so the result is stable
+    public long[] topologicalOrder() {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> inDegree = new HashMap<>(nodes.size() * 2);
+            PriorityQueue<Long> ready = new PriorityQueue<>();
+            for (Node node : nodes.values()) {
+                inDegree.put(node.id, node.in.size);
+                if (node.in.size == 0) {
+                    ready.add(node.id);
+                }
+            }
+            long[] order = new long[nodes.size()];
+            int count = 0;
+            while (!ready.isEmpty()) {
+                long id = ready.poll();
+                order[count++] = id;
+                AdjacencyList out = nodes.get(id).out;
+                for (int i = 0; i < out.size; i++) {
+                    long next = out.ids[i];
+                    if (inDegree.merge(next, -1, Integer::sum) == 0) {
+                        ready.add(next);
+                    }
+                }
+            }
+            return order;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] nodeIds() {
+        lock.readLock().lock();
+        try {
+            return nodes.keySet().stream().mapToLong(Long::longValue).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void forEachEdge(Consumer<Edge> consumer) {
+        lock.readLock().lock();
+        try {
+            for (Node node : nodes.values()) {
+                for (int i = 0; i < node.out.size; i++) {
+                    consumer.accept(new Edge(node.id, node.out.ids[i], TYPES[node.out.types[i]]));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int edgeCount() {
+        lock.readLock().lock();
+        try {
+            return edgeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Iterative DFS reachability check, O(V+E) in the worst case
+    private boolean reaches(long fromId, long targetId) {
+        if (!nodes.containsKey(fromId) || !nodes.containsKey(targetId)) {
+            return false;
+        }
+        Set<Long> visited = new HashSet<>();
+        LongStack stack = new LongStack();
+        stack.push(fromId);
+        visited.add(fromId);
+        while (!stack.isEmpty()) {
+            AdjacencyList out = nodes.get(stack.pop()).out;
+            for (int i = 0; i < out.size; i++) {
+                long next = out.ids[i];
+                if (next == targetId) {
+                    return true;
+                }
+                if (visited.add(next)) {
+                    stack.push(next);
+                }
+            }
+        }
+        return false;
+    }
+
+    private long[] walk(long startId, boolean forward) {
+        Node start = nodes.get(startId);
+        if (start == null) {
+            return new long[0];
+        }
+        Set<Long> visited = new HashSet<>();
+        LongStack result = new LongStack();
+        LongStack stack = new LongStack();
+        stack.push(startId);
+        while (!stack.isEmpty()) {
+            Node node = nodes.get(stack.pop());
+            AdjacencyList adjacent = forward ? node.out : node.in;
+            for (int i = 0; i < adjacent.size; i++) {
+                long next = adjacent.ids[i];
+                if (visited.add(next)) {
+                    result.push(next);
+                    stack.push(next);
+                }
+            }
+        }
+        return result.toArray();
+    }
+
+    private void dropIfIsolated(Node node) {
+        if (node.in.size == 0 && node.out.size == 0) {
+            nodes.remove(node.id);
+        }
+    }
+
+    private static final class Node {
+        private final long id;
+        private final AdjacencyList in = new AdjacencyList();
+        private final AdjacencyList out = new AdjacencyList();
+
+        Node(long id) {
+            this.id = id;
+        }
+    }
+
+    private static final class AdjacencyList {
+        private long[] ids = new long[2];
+        private byte[] types = new byte[2];
+        private int size;
+
+        void add(long id, DependencyType type) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                types = Arrays.copyOf(types, size * 2);
+            }
+            ids[size] = id;
+            types[size] = (byte) type.ordinal();
+            size++;
+        }
+
+        int indexOf(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        boolean remove(long id) {
+            int index = indexOf(id);
+            if (index < 0) {
+                return false;
+            }
+            size--;
+            ids[index] = ids[size];
+            types[index] = types[size];
+            return true;
+        }
+    }
+
+    private static final class LongStack {
+        private long[] values = new long[16];
+        private int size;
+
+        void push(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long pop() {
+            return values[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskflow.graph;
+
+import com.taskflow.cluster.ClusterEvent;
+import com.taskflow.cluster.ClusterInvalidator;
+import com.taskflow.entity.TaskDependency;
+import com.taskflow.enums.DependencyType;
+import com.taskflow.mapper.TaskDependencyMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Lazily builds one dependency graph per workspace and keeps it for incremental updates. Other nodes drop their copy
+// when an edge changes here; writes check for cycles against the table, not against a cached copy.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DependencyGraphRegistry {
+
+    private final TaskDependencyMapper taskDependencyMapper;
+    private final ClusterInvalidator clusterInvalidator;
+
+    private final Map<Long, DependencyGraph> graphs = new ConcurrentHashMap<>();
+
+    public DependencyGraph get(Long workspaceId) {
+        return graphs.computeIfAbsent(workspaceId, this::load);
+    }
+
+    // The committed graph with the dependency rows share-locked, for a write that must not close a cycle. The caller
+    // holds the workspace lock, so no other node can add an edge until this transaction ends.
+    public DependencyGraph loadForWrite(Long workspaceId) {
+        DependencyGraph graph = build(workspaceId, taskDependencyMapper.selectByWorkspaceIdLocked(workspaceId));
+        graphs.put(workspaceId, graph);
+        return graph;
+    }
+
+    public void evict(Long workspaceId) {
+        graphs.remove(workspaceId);
+    }
+
+    // Called after an edge change has been applied here; the other nodes reload after commit
+    public void changed(Long workspaceId) {
+        clusterInvalidator.invalidate(ClusterInvalidator.DEPENDENCY_GRAPH, workspaceId);
+    }
+
+    public void removeTask(Long workspaceId, Long taskId) {
+        DependencyGraph graph = graphs.get(workspaceId);
+        if (graph != null) {
+            graph.removeNode(taskId);
+        }
+        changed(workspaceId);
+    }
+
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (event.is(ClusterInvalidator.DEPENDENCY_GRAPH)) {
+            evict(event.key());
+        }
+    }
+
+    private DependencyGraph load(Long workspaceId) {
+        return build(workspaceId, taskDependencyMapper.selectByWorkspaceId(workspaceId));
+    }
+
+    private DependencyGraph build(Long workspaceId, List<TaskDependency> dependencies) {
+        DependencyGraph graph = new DependencyGraph();
+        for (TaskDependency dependency : dependencies) {
+            DependencyType type = DependencyType.fromValue(dependency.getDependencyType());
+            if (type == null) {
+                type = DependencyType.FINISH_TO_START;
+            }
+            if (!graph.addEdge(dependency.getPredecessorTaskId(), dependency.getSuccessorTaskId(), type)) {
+                log.warn("Skipping dependency {} in workspace {}: it closes a cycle", dependency.getId(), workspaceId);
+            }
+        }
+        return graph;
+    }
+}
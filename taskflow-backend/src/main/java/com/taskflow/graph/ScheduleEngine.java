@@ -0,0 +1,123 @@
+package com.taskflow.graph;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.cluster.ClusterEvent;
+import com.taskflow.cluster.ClusterInvalidator;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.TaskMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Caches the critical path schedule per workspace; structural changes drop it, date changes patch it once committed.
+// Other nodes drop their copy on either kind of change.
+@Component
+@RequiredArgsConstructor
+public class ScheduleEngine {
+
+    private final TaskMapper taskMapper;
+    private final DependencyGraphRegistry dependencyGraphRegistry;
+    private final ClusterInvalidator clusterInvalidator;
+
+    private final Map<Long, WorkspaceSchedule> schedules = new ConcurrentHashMap<>();
+
+    public WorkspaceSchedule get(Long workspaceId) {
+        return schedules.computeIfAbsent(workspaceId, this::build);
+    }
+
+    public void invalidate(Long workspaceId) {
+        schedules.remove(workspaceId);
+    }
+
+    // Dates changed outside a task update, such as an import; the other nodes rebuild after commit
+    public void changed(Long workspaceId) {
+        invalidate(workspaceId);
+        clusterInvalidator.invalidate(ClusterInvalidator.SCHEDULE, workspaceId);
+    }
+
+    // Another node changed the dependency edges or task dates this schedule was built from
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (event.is(ClusterInvalidator.DEPENDENCY_GRAPH) || event.is(ClusterInvalidator.SCHEDULE)) {
+            invalidate(event.key());
+        }
+    }
+
+    // The task is copied now; a rolled back update must not leave its dates in the cached plan
+    public void onDatesChanged(Task task) {
+        Long workspaceId = task.getWorkspaceId();
+        Long taskId = task.getId();
+        LocalDate startDate = task.getStartDate();
+        LocalDate dueDate = task.getDueDate();
+        clusterInvalidator.invalidate(ClusterInvalidator.SCHEDULE, workspaceId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyDates(workspaceId, taskId, startDate, dueDate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyDates(workspaceId, taskId, startDate, dueDate);
+            }
+        });
+    }
+
+    private void applyDates(Long workspaceId, Long taskId, LocalDate startDate, LocalDate dueDate) {
+        WorkspaceSchedule schedule = schedules.get(workspaceId);
+        if (schedule == null) {
+            return;
+        }
+        if (schedule.contains(taskId)) {
+            schedule.updateDates(taskId, startDate, dueDate);
+        } else if (startDate != null || dueDate != null) {
+            // The task enters the plan, which changes its shape
+            invalidate(workspaceId);
+        }
+    }
+
+    // Dated tasks plus every task on a dependency edge; undated ones are zero-length steps
+    private WorkspaceSchedule build(Long workspaceId) {
+        List<DependencyGraph.Edge> edges = new ArrayList<>();
+        dependencyGraphRegistry.get(workspaceId).forEachEdge(edges::add);
+        Set<Long> linked = new LinkedHashSet<>();
+        for (DependencyGraph.Edge edge : edges) {
+            linked.add(edge.getPredecessorId());
+            linked.add(edge.getSuccessorId());
+        }
+
+        LambdaQueryWrapper<Task> query = new LambdaQueryWrapper<>();
+        query.select(Task::getId, Task::getStartDate, Task::getDueDate);
+        query.eq(Task::getWorkspaceId, workspaceId);
+        query.and(w -> w.isNotNull(Task::getStartDate).or().isNotNull(Task::getDueDate));
+        List<Task> tasks = taskMapper.selectList(query);
+        for (Task task : tasks) {
+            linked.remove(task.getId());
+        }
+
+        int n = tasks.size() + linked.size();
+        long[] ids = new long[n];
+        LocalDate[] startDates = new LocalDate[n];
+        LocalDate[] dueDates = new LocalDate[n];
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            ids[i] = task.getId();
+            startDates[i] = task.getStartDate();
+            dueDates[i] = task.getDueDate();
+        }
+        int i = tasks.size();
+        for (Long taskId : linked) {
+            ids[i++] = taskId;
+        }
+        return new WorkspaceSchedule(ids, startDates, dueDates, edges);
+    }
+}
@@ -0,0 +1,396 @@
+package com.taskflow.graph;
+
+import com.taskflow.enums.DependencyType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Critical path schedule of one workspace. Days are epoch days; finish values are exclusive. A task without dates
+// that sits on a dependency chain is a zero-length step: it takes its start from its predecessors and passes it on.
+public class WorkspaceSchedule {
+
+    private static final DependencyType[] TYPES = DependencyType.values();
+    // Start of an undated task nothing dated leads into; far enough from the long range that bounds stay exact
+    private static final long UNSCHEDULED = Long.MIN_VALUE / 4;
+
+    private final Map<Long, Integer> indexOf;
+    private final long[] ids;
+    private final long[] startConstraint;
+    private final long[] duration;
+    private final long[] earliestStart;
+    private final long[] earliestFinish;
+    private final long[] latestStart;
+    private final long[] latestFinish;
+    private final int[][] successors;
+    private final byte[][] successorTypes;
+    private final int[][] predecessors;
+    private final byte[][] predecessorTypes;
+    private final int[] order;
+    private final int[] rank;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long projectEnd;
+
+    public static final class ScheduledTask {
+        private final LocalDate earliestStart;
+        private final LocalDate earliestFinish;
+        private final LocalDate latestStart;
+        private final LocalDate latestFinish;
+        private final int slack;
+
+        // A zero-length step finishes on the day it starts
+        ScheduledTask(long es, long ef, long ls, long lf) {
+            this.earliestStart = LocalDate.ofEpochDay(es);
+            this.earliestFinish = LocalDate.ofEpochDay(Math.max(es, ef - 1));
+            this.latestStart = LocalDate.ofEpochDay(ls);
+            this.latestFinish = LocalDate.ofEpochDay(Math.max(ls, lf - 1));
+            this.slack = (int) (ls - es);
+        }
+
+        public LocalDate getEarliestStart() {
+            return earliestStart;
+        }
+
+        public LocalDate getEarliestFinish() {
+            return earliestFinish;
+        }
+
+        public LocalDate getLatestStart() {
+            return latestStart;
+        }
+
+        public LocalDate getLatestFinish() {
+            return latestFinish;
+        }
+
+        public int getSlack() {
+            return slack;
+        }
+
+        public boolean isCritical() {
+            return slack <= 0;
+        }
+    }
+
+    public static final class ScheduledEdge {
+        private final long predecessorId;
+        private final long successorId;
+        private final DependencyType type;
+        private final boolean critical;
+
+        ScheduledEdge(long predecessorId, long successorId, DependencyType type, boolean critical) {
+            this.predecessorId = predecessorId;
+            this.successorId = successorId;
+            this.type = type;
+            this.critical = critical;
+        }
+
+        public long getPredecessorId() {
+            return predecessorId;
+        }
+
+        public long getSuccessorId() {
+            return successorId;
+        }
+
+        public DependencyType getType() {
+            return type;
+        }
+
+        public boolean isCritical() {
+            return critical;
+        }
+    }
+
+    WorkspaceSchedule(long[] taskIds, LocalDate[] startDates, LocalDate[] dueDates, List<DependencyGraph.Edge> edges) {
+        int n = taskIds.length;
+        this.ids = taskIds;
+        this.indexOf = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indexOf.put(taskIds[i], i);
+        }
+        this.startConstraint = new long[n];
+        this.duration = new long[n];
+        for (int i = 0; i < n; i++) {
+            setDates(i, startDates[i], dueDates[i]);
+        }
+
+        int[] outCount = new int[n];
+        int[] inCount = new int[n];
+        List<int[]> resolved = new ArrayList<>(edges.size());
+        for (DependencyGraph.Edge edge : edges) {
+            Integer pred = indexOf.get(edge.getPredecessorId());
+            Integer succ = indexOf.get(edge.getSuccessorId());
+            if (pred == null || succ == null) {
+                throw new IllegalArgumentException("Edge " + edge.getPredecessorId() + " -> "
+                        + edge.getSuccessorId() + " has a task outside the schedule");
+            }
+            resolved.add(new int[]{pred, succ, edge.getType().ordinal()});
+            outCount[pred]++;
+            inCount[succ]++;
+        }
+        this.successors = new int[n][];
+        this.successorTypes = new byte[n][];
+        this.predecessors = new int[n][];
+        this.predecessorTypes = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            successors[i] = new int[outCount[i]];
+            successorTypes[i] = new byte[outCount[i]];
+            predecessors[i] = new int[inCount[i]];
+            predecessorTypes[i] = new byte[inCount[i]];
+        }
+        int[] outFill = new int[n];
+        int[] inFill = new int[n];
+        for (int[] edge : resolved) {
+            int pred = edge[0];
+            int succ = edge[1];
+            successors[pred][outFill[pred]] = succ;
+            successorTypes[pred][outFill[pred]++] = (byte) edge[2];
+            predecessors[succ][inFill[succ]] = pred;
+            predecessorTypes[succ][inFill[succ]++] = (byte) edge[2];
+        }
+
+        this.order = topologicalOrder(inCount);
+        this.rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[order[i]] = i;
+        }
+
+        this.earliestStart = new long[n];
+        this.earliestFinish = new long[n];
+        this.latestStart = new long[n];
+        this.latestFinish = new long[n];
+        for (int i : order) {
+            forward(i);
+        }
+        projectEnd = computeProjectEnd();
+        backwardAll();
+    }
+
+    public boolean contains(long taskId) {
+        return indexOf.containsKey(taskId);
+    }
+
+    public ScheduledTask get(long taskId) {
+        lock.readLock().lock();
+        try {
+            Integer i = indexOf.get(taskId);
+            return i != null && earliestStart[i] != UNSCHEDULED
+                    ? new ScheduledTask(earliestStart[i], earliestFinish[i], latestStart[i], latestFinish[i])
+                    : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ScheduledEdge> edges() {
+        lock.readLock().lock();
+        try {
+            List<ScheduledEdge> result = new ArrayList<>();
+            for (int pred : order) {
+                for (int k = 0; k < successors[pred].length; k++) {
+                    int succ = successors[pred][k];
+                    DependencyType type = TYPES[successorTypes[pred][k]];
+                    boolean critical = isCritical(pred) && isCritical(succ)
+                            && startBound(type, pred, succ) == earliestStart[succ];
+                    result.add(new ScheduledEdge(ids[pred], ids[succ], type, critical));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Critical tasks in schedule order
+    public List<Long> criticalPath() {
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>();
+            Integer[] byStart = Arrays.stream(order).boxed().toArray(Integer[]::new);
+            Arrays.sort(byStart, Comparator.<Integer>comparingLong(i -> earliestStart[i]).thenComparingInt(i -> rank[i]));
+            for (int i : byStart) {
+                if (isCritical(i)) {
+                    result.add(ids[i]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LocalDate getProjectEnd() {
+        lock.readLock().lock();
+        try {
+            return projectEnd > UNSCHEDULED ? LocalDate.ofEpochDay(projectEnd - 1) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Re-plans after a date change, touching only successors whose earliest dates move and
+    // predecessors whose latest dates move; a shifted project end forces a full backward pass
+    public int updateDates(long taskId, LocalDate startDate, LocalDate dueDate) {
+        lock.writeLock().lock();
+        try {
+            int changed = indexOf.get(taskId);
+            setDates(changed, startDate, dueDate);
+
+            int recomputed = 0;
+            PriorityQueue<Integer> forwardQueue = new PriorityQueue<>(Comparator.comparingInt(i -> rank[i]));
+            boolean[] queued = new boolean[ids.length];
+            forwardQueue.add(changed);
+            queued[changed] = true;
+            while (!forwardQueue.isEmpty()) {
+                int i = forwardQueue.poll();
+                long oldStart = earliestStart[i];
+                long oldFinish = earliestFinish[i];
+                forward(i);
+                recomputed++;
+                if (i == changed || oldStart != earliestStart[i] || oldFinish != earliestFinish[i]) {
+                    for (int succ : successors[i]) {
+                        if (!queued[succ]) {
+                            queued[succ] = true;
+                            forwardQueue.add(succ);
+                        }
+                    }
+                }
+            }
+
+            long newEnd = computeProjectEnd();
+            if (newEnd != projectEnd) {
+                projectEnd = newEnd;
+                backwardAll();
+                return recomputed + ids.length;
+            }
+
+            PriorityQueue<Integer> backwardQueue = new PriorityQueue<>(Comparator.comparingInt(i -> -rank[i]));
+            Arrays.fill(queued, false);
+            backwardQueue.add(changed);
+            queued[changed] = true;
+            while (!backwardQueue.isEmpty()) {
+                int i = backwardQueue.poll();
+                long oldStart = latestStart[i];
+                long oldFinish = latestFinish[i];
+                backward(i);
+                recomputed++;
+                if (i == changed || oldStart != latestStart[i] || oldFinish != latestFinish[i]) {
+                    for (int pred : predecessors[i]) {
+                        if (!queued[pred]) {
+                            queued[pred] = true;
+                            backwardQueue.add(pred);
+                        }
+                    }
+                }
+            }
+            return recomputed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setDates(int i, LocalDate startDate, LocalDate dueDate) {
+        if (startDate == null && dueDate == null) {
+            startConstraint[i] = UNSCHEDULED;
+            duration[i] = 0;
+            return;
+        }
+        LocalDate start = startDate != null ? startDate : dueDate;
+        LocalDate finish = dueDate != null && !dueDate.isBefore(start) ? dueDate : start;
+        startConstraint[i] = start.toEpochDay();
+        duration[i] = finish.toEpochDay() - start.toEpochDay() + 1;
+    }
+
+    private void forward(int i) {
+        long es = startConstraint[i];
+        for (int k = 0; k < predecessors[i].length; k++) {
+            es = Math.max(es, startBound(TYPES[predecessorTypes[i][k]], predecessors[i][k], i));
+        }
+        earliestStart[i] = es;
+        earliestFinish[i] = es + duration[i];
+    }
+
+    private void backward(int i) {
+        long lf = projectEnd;
+        for (int k = 0; k < successors[i].length; k++) {
+            lf = Math.min(lf, finishBound(TYPES[successorTypes[i][k]], i, successors[i][k]));
+        }
+        latestFinish[i] = lf;
+        latestStart[i] = lf - duration[i];
+    }
+
+    private void backwardAll() {
+        for (int k = order.length - 1; k >= 0; k--) {
+            backward(order[k]);
+        }
+    }
+
+    // Earliest start the successor may take given one predecessor
+    private long startBound(DependencyType type, int pred, int succ) {
+        switch (type) {
+            case START_TO_START:
+                return earliestStart[pred];
+            case FINISH_TO_FINISH:
+                return earliestFinish[pred] - duration[succ];
+            case START_TO_FINISH:
+                return earliestStart[pred] - duration[succ];
+            default:
+                return earliestFinish[pred];
+        }
+    }
+
+    // Latest finish the predecessor may take given one successor
+    private long finishBound(DependencyType type, int pred, int succ) {
+        switch (type) {
+            case START_TO_START:
+                return latestStart[succ] + duration[pred];
+            case FINISH_TO_FINISH:
+                return latestFinish[succ];
+            case START_TO_FINISH:
+                return latestFinish[succ] + duration[pred];
+            default:
+                return latestStart[succ];
+        }
+    }
+
+    private boolean isCritical(int i) {
+        return earliestStart[i] != UNSCHEDULED && latestStart[i] - earliestStart[i] <= 0;
+    }
+
+    private long computeProjectEnd() {
+        long end = UNSCHEDULED;
+        for (long finish : earliestFinish) {
+            end = Math.max(end, finish);
+        }
+        return end;
+    }
+
+    private int[] topologicalOrder(int[] inCount) {
+        int n = ids.length;
+        int[] remaining = Arrays.copyOf(inCount, n);
+        int[] result = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] == 0) {
+                result[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int i = result[head++];
+            for (int succ : successors[i]) {
+                if (--remaining[succ] == 0) {
+                    result[tail++] = succ;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskflow.mapper;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface JobRunMapper {
+
+    // 1 when this call claimed the run, 0 when another node already had it
+    @Insert("INSERT IGNORE INTO job_run (job_name, run_key, claimed_at) VALUES (#{jobName}, #{runKey}, NOW(3))")
+    int claim(@Param("jobName") String jobName, @Param("runKey") String runKey);
+}
@@ -2,8 +2,47 @@ package com.taskflow.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.taskflow.entity.Notification;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Mapper
 public interface NotificationMapper extends BaseMapper<Notification> {
+
+    // One multi-row INSERT per batch; generated ids are written back onto the entities
+    @Insert("<script>INSERT INTO notification (user_id, type, title, content, reference_id, is_read, created_at) VALUES "
+            + "<foreach collection='notifications' item='n' separator=','>"
+            + "(#{n.userId}, #{n.type}, #{n.title}, #{n.content}, #{n.referenceId}, #{n.isRead}, #{n.createdAt})"
+            + "</foreach></script>")
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    int insertAll(@Param("notifications") List<Notification> notifications);
+
+    @Select("SELECT MAX(id) FROM notification WHERE user_id = #{userId}")
+    Long selectMaxId(@Param("userId") Long userId);
+
+    // Range scan on idx_notification_read_created
+    @Select("SELECT id FROM notification WHERE is_read = 1 AND created_at < #{cutoff} "
+            + "ORDER BY created_at LIMIT #{limit}")
+    List<Long> selectReadIdsBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Unflagged rows covered by their user's read mark; one range on idx_notification_user_created per mark
+    @Select("SELECT n.id FROM notification_read_mark m "
+            + "JOIN notification n ON n.user_id = m.user_id AND n.id <= m.last_read_notification_id "
+            + "WHERE m.last_read_notification_id > 0 AND n.created_at < #{cutoff} AND n.is_read = 0 "
+            + "LIMIT #{limit}")
+    List<Long> selectMarkedReadIdsBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Copies the rows as read; the caller deletes them from the live table in the same transaction
+    @Insert("<script>INSERT IGNORE INTO notification_archive "
+            + "(id, user_id, type, title, content, reference_id, is_read, created_at, archived_at) "
+            + "SELECT id, user_id, type, title, content, reference_id, 1, created_at, NOW() "
+            + "FROM notification WHERE id IN "
+            + "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach></script>")
+    int copyToArchive(@Param("ids") Collection<Long> ids);
 }
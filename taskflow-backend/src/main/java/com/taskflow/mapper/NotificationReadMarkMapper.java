@@ -0,0 +1,19 @@
+package com.taskflow.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.taskflow.entity.NotificationReadMark;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface NotificationReadMarkMapper extends BaseMapper<NotificationReadMark> {
+
+    // Single-row upsert; the mark only ever moves forward
+    @Insert("INSERT INTO notification_read_mark (user_id, last_read_notification_id, updated_at) "
+            + "VALUES (#{userId}, #{lastReadId}, NOW()) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "last_read_notification_id = GREATEST(last_read_notification_id, VALUES(last_read_notification_id)), "
+            + "updated_at = NOW()")
+    int advance(@Param("userId") Long userId, @Param("lastReadId") Long lastReadId);
+}
@@ -0,0 +1,33 @@
+package com.taskflow.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.taskflow.entity.RealtimeOutbox;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
+
+@Mapper
+public interface RealtimeOutboxMapper extends BaseMapper<RealtimeOutbox> {
+
+    @Insert("<script>INSERT INTO realtime_outbox (node_id, destination, payload, created_at) VALUES "
+            + "<foreach collection='rows' item='r' separator=','>"
+            + "(#{r.nodeId}, #{r.destination}, #{r.payload}, #{r.createdAt})"
+            + "</foreach></script>")
+    int insertAll(@Param("rows") List<RealtimeOutbox> rows);
+
+    @Select("SELECT MAX(id) FROM realtime_outbox")
+    Long selectMaxId();
+
+    // Ids only, so polling an idle table never reads payloads
+    @Select("SELECT id FROM realtime_outbox WHERE id > #{afterId} AND node_id <> #{nodeId} ORDER BY id LIMIT #{limit}")
+    List<Long> selectIdsAfter(@Param("afterId") long afterId, @Param("nodeId") String nodeId, @Param("limit") int limit);
+
+    // Ids written within the last windowMillis by the database clock, whatever order they committed in
+    @Select("SELECT id FROM realtime_outbox WHERE written_at >= NOW(3) - INTERVAL #{windowMillis} * 1000 MICROSECOND "
+            + "AND node_id <> #{nodeId} AND id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<Long> selectRecentIds(@Param("windowMillis") long windowMillis, @Param("nodeId") String nodeId,
+                               @Param("afterId") long afterId, @Param("limit") int limit);
+}
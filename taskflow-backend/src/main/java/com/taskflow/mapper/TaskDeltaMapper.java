@@ -0,0 +1,21 @@
+package com.taskflow.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.taskflow.entity.TaskDelta;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+@Mapper
+public interface TaskDeltaMapper extends BaseMapper<TaskDelta> {
+
+    // Takes the next number and holds the workspace's sequence row locked until commit, so deltas commit in
+    // sequence order whichever node allocates them
+    @Insert("INSERT INTO workspace_delta_seq (workspace_id, seq) VALUES (#{workspaceId}, 1) "
+            + "ON DUPLICATE KEY UPDATE seq = seq + 1")
+    int incrementSeq(@Param("workspaceId") Long workspaceId);
+
+    @Select("SELECT seq FROM workspace_delta_seq WHERE workspace_id = #{workspaceId}")
+    Long selectSeq(@Param("workspaceId") Long workspaceId);
+}
@@ -3,7 +3,27 @@ package com.taskflow.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.taskflow.entity.TaskDependency;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
 
 @Mapper
 public interface TaskDependencyMapper extends BaseMapper<TaskDependency> {
+
+    @Select("SELECT d.id, d.predecessor_task_id, d.successor_task_id, d.dependency_type, d.created_at "
+            + "FROM task_dependency d "
+            + "JOIN task s ON s.id = d.successor_task_id AND s.deleted = 0 "
+            + "JOIN task p ON p.id = d.predecessor_task_id AND p.deleted = 0 "
+            + "WHERE s.workspace_id = #{workspaceId}")
+    List<TaskDependency> selectByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    // A locking read sees rows committed after this transaction's snapshot was taken
+    @Select("SELECT d.id, d.predecessor_task_id, d.successor_task_id, d.dependency_type, d.created_at "
+            + "FROM task_dependency d "
+            + "JOIN task s ON s.id = d.successor_task_id AND s.deleted = 0 "
+            + "JOIN task p ON p.id = d.predecessor_task_id AND p.deleted = 0 "
+            + "WHERE s.workspace_id = #{workspaceId} "
+            + "LOCK IN SHARE MODE")
+    List<TaskDependency> selectByWorkspaceIdLocked(@Param("workspaceId") Long workspaceId);
 }
@@ -2,8 +2,19 @@ package com.taskflow.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.taskflow.entity.TaskLabel;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
 
 @Mapper
 public interface TaskLabelMapper extends BaseMapper<TaskLabel> {
+
+    // One multi-row statement; pairs that already exist are skipped by uk_task_label
+    @Insert("<script>INSERT IGNORE INTO task_label (task_id, label_id) VALUES "
+            + "<foreach collection='taskIds' item='taskId' separator=','>"
+            + "<foreach collection='labelIds' item='labelId' separator=','>(#{taskId}, #{labelId})</foreach>"
+            + "</foreach></script>")
+    int insertIgnoreAll(@Param("taskIds") Collection<Long> taskIds, @Param("labelIds") Collection<Long> labelIds);
 }
@@ -1,9 +1,23 @@
 package com.taskflow.mapper;
 
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
 import com.taskflow.entity.Task;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.session.ResultHandler;
 
 @Mapper
 public interface TaskMapper extends BaseMapper<Task> {
+
+    // Row-by-row MySQL streaming; the wrapper must carry the select list and the deleted filter. The connection
+    // stays busy until the last row is read, so the server aborts the statement after maxMillis.
+    @Select("SELECT /*+ MAX_EXECUTION_TIME(${maxMillis}) */ ${ew.sqlSelect} FROM task ${ew.customSqlSegment}")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    void streamTasks(@Param(Constants.WRAPPER) Wrapper<Task> wrapper, @Param("maxMillis") long maxMillis,
+                     ResultHandler<Task> handler);
 }
@@ -3,7 +3,13 @@ package com.taskflow.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.taskflow.entity.Workspace;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
 
 @Mapper
 public interface WorkspaceMapper extends BaseMapper<Workspace> {
+
+    // Serializes writes that must see each other, such as dependency edges, until the transaction ends
+    @Select("SELECT id FROM workspace WHERE id = #{id} FOR UPDATE")
+    Long lockById(@Param("id") Long id);
 }
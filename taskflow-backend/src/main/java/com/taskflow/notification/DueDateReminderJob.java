@@ -0,0 +1,67 @@
+package com.taskflow.notification;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.cluster.JobRunClaims;
+import com.taskflow.entity.Task;
+import com.taskflow.enums.NotificationType;
+import com.taskflow.enums.TaskStatus;
+import com.taskflow.mapper.TaskMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Once a day, reminds assignees of open tasks due tomorrow; pages through tasks by id to keep each query small.
+// Every replica fires the cron, but only the one that claims the day sends reminders.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DueDateReminderJob {
+
+    private static final String JOB_NAME = "due-date-reminder";
+    private static final int PAGE_SIZE = 1000;
+
+    private final TaskMapper taskMapper;
+    private final NotificationDispatcher notificationDispatcher;
+    private final JobRunClaims jobRunClaims;
+
+    @Scheduled(cron = "${taskflow.notification.due-reminder-cron:0 0 8 * * *}")
+    public void remind() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        if (!jobRunClaims.claim(JOB_NAME, tomorrow.toString())) {
+            log.debug("Due date reminders for {} are handled by another node", tomorrow);
+            return;
+        }
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            LambdaQueryWrapper<Task> query = new LambdaQueryWrapper<>();
+            query.select(Task::getId, Task::getTitle, Task::getAssigneeId);
+            query.eq(Task::getDueDate, tomorrow);
+            query.isNotNull(Task::getAssigneeId);
+            query.notIn(Task::getStatus, TaskStatus.DONE.name(), TaskStatus.CANCELLED.name());
+            query.gt(Task::getId, lastId);
+            query.orderByAsc(Task::getId);
+            query.last("LIMIT " + PAGE_SIZE);
+            List<Task> tasks = taskMapper.selectList(query);
+
+            for (Task task : tasks) {
+                notificationDispatcher.publish(new NotificationEvent(task.getAssigneeId(),
+                        NotificationType.DUE_DATE_REMINDER, "Task due tomorrow",
+                        "\"" + task.getTitle() + "\" is due on " + tomorrow, task.getId()));
+            }
+            total += tasks.size();
+            if (tasks.size() < PAGE_SIZE) {
+                break;
+            }
+            lastId = tasks.get(tasks.size() - 1).getId();
+        }
+
+        if (total > 0) {
+            log.info("Queued {} due date reminders for {}", total, tomorrow);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.taskflow.notification;
+
+import com.taskflow.dto.response.NotificationResponse;
+import com.taskflow.security.JwtPrincipal;
+import com.taskflow.service.NotificationService;
+import com.taskflow.websocket.TaskWebSocketHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Producers only enqueue (after their transaction commits); one worker thread drains the queue, inserts each
+// batch with a single multi-row statement and pushes the saved notifications over WebSocket.
+// When the queue is full events are dropped and counted rather than slowing the request down.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private final NotificationService notificationService;
+    private final TaskWebSocketHandler taskWebSocketHandler;
+
+    @Value("${taskflow.notification.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${taskflow.notification.batch-size:200}")
+    private int batchSize;
+
+    @Value("${taskflow.notification.shutdown-timeout:10000}")
+    private long shutdownTimeoutMillis;
+
+    private BlockingQueue<NotificationEvent> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::run, "notification-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // Skips notifying users about their own actions
+    public void publish(NotificationEvent event) {
+        if (event.getUserId() == null || event.getUserId().equals(currentUserId())) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(event);
+            }
+        });
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("queued", (long) queue.size());
+        stats.put("enqueued", enqueued.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("delivered", delivered.sum());
+        stats.put("failed", failed.sum());
+        stats.put("batches", batches.sum());
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.notification.stats-interval:300000}")
+    public void logStats() {
+        if (enqueued.sum() > 0 || dropped.sum() > 0) {
+            log.info("Notification dispatcher stats: {}", getStats());
+        }
+    }
+
+    // Stops accepting work, then lets the worker flush whatever is still queued
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(shutdownTimeoutMillis);
+        if (!queue.isEmpty()) {
+            log.warn("Notification dispatcher stopped with {} undelivered events", queue.size());
+        }
+    }
+
+    private void enqueue(NotificationEvent event) {
+        if (running && queue.offer(event)) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+            log.debug("Notification queue full, dropping {} for user {}", event.getType(), event.getUserId());
+        }
+    }
+
+    private void run() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationEvent first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<NotificationEvent> batch) {
+        List<NotificationResponse> saved;
+        try {
+            saved = notificationService.createNotifications(batch);
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.error("Failed to store {} notifications", batch.size(), e);
+            return;
+        }
+        batches.increment();
+
+        for (int i = 0; i < saved.size(); i++) {
+            try {
+                taskWebSocketHandler.broadcastNotification(batch.get(i).getUserId(), saved.get(i));
+            } catch (RuntimeException e) {
+                log.warn("Failed to push notification {} to user {}", saved.get(i).getId(), batch.get(i).getUserId(), e);
+            }
+        }
+        delivered.add(saved.size());
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskflow.notification;
+
+import com.taskflow.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NotificationEvent {
+
+    private final Long userId;
+    private final NotificationType type;
+    private final String title;
+    private final String content;
+    private final Long referenceId;
+}
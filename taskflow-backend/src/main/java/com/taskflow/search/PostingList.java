@@ -0,0 +1,52 @@
+package com.taskflow.search;
+
+import java.util.Arrays;
+
+// Doc ids kept sorted in primitive arrays; new tasks have the highest ids, so inserts are mostly appends
+class PostingList {
+
+    private long[] docIds = new long[4];
+    private int[] freqs = new int[4];
+    private int size;
+
+    void put(long docId, int freq) {
+        int idx = Arrays.binarySearch(docIds, 0, size, docId);
+        if (idx >= 0) {
+            freqs[idx] = freq;
+            return;
+        }
+        int insertAt = -idx - 1;
+        if (size == docIds.length) {
+            int capacity = size + (size >> 1) + 1;
+            docIds = Arrays.copyOf(docIds, capacity);
+            freqs = Arrays.copyOf(freqs, capacity);
+        }
+        System.arraycopy(docIds, insertAt, docIds, insertAt + 1, size - insertAt);
+        System.arraycopy(freqs, insertAt, freqs, insertAt + 1, size - insertAt);
+        docIds[insertAt] = docId;
+        freqs[insertAt] = freq;
+        size++;
+    }
+
+    void remove(long docId) {
+        int idx = Arrays.binarySearch(docIds, 0, size, docId);
+        if (idx < 0) {
+            return;
+        }
+        System.arraycopy(docIds, idx + 1, docIds, idx, size - idx - 1);
+        System.arraycopy(freqs, idx + 1, freqs, idx, size - idx - 1);
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long docId(int i) {
+        return docIds[i];
+    }
+
+    int freq(int i) {
+        return freqs[i];
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskflow.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+
+    private final long taskId;
+    private final double score;
+}
@@ -0,0 +1,91 @@
+package com.taskflow.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Latin/digit runs become lowercase words, CJK runs become overlapping bigrams. Indexed text also gets every CJK
+// character as a unigram, so a one-character query (which is a unigram) finds it inside longer runs.
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Token {
+        private final String term;
+        private final int start;
+        private final int end;
+    }
+
+    public static List<Token> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // Tokens in start order, including CJK unigrams
+    public static List<Token> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<Token> tokenize(String text, boolean unigrams) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isCjk(c)) {
+                int j = i;
+                while (j < length && isCjk(text.charAt(j))) {
+                    j++;
+                }
+                if (j - i == 1) {
+                    tokens.add(new Token(text.substring(i, j), i, j));
+                } else {
+                    for (int k = i; k < j; k++) {
+                        if (unigrams) {
+                            tokens.add(new Token(text.substring(k, k + 1), k, k + 1));
+                        }
+                        if (k < j - 1) {
+                            tokens.add(new Token(text.substring(k, k + 2), k, k + 2));
+                        }
+                    }
+                }
+                i = j;
+            } else if (Character.isLetterOrDigit(c)) {
+                int j = i;
+                while (j < length && Character.isLetterOrDigit(text.charAt(j)) && !isCjk(text.charAt(j))) {
+                    j++;
+                }
+                tokens.add(new Token(text.substring(i, j).toLowerCase(), i, j));
+                i = j;
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    public static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (Token token : tokenize(text)) {
+            terms.add(token.getTerm());
+        }
+        return terms;
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
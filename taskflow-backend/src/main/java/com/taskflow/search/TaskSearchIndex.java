@@ -0,0 +1,54 @@
+package com.taskflow.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TaskSearchIndex {
+
+    // Title matches count double so they rank above description and comment matches
+    private static final int TITLE_WEIGHT = 2;
+
+    private final Map<Long, WorkspaceIndex> workspaces = new ConcurrentHashMap<>();
+
+    public void index(Long workspaceId, Long taskId, String title, String description, List<String> comments) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        int length = addTerms(termFreqs, title, TITLE_WEIGHT);
+        length += addTerms(termFreqs, description, 1);
+        for (String comment : comments) {
+            length += addTerms(termFreqs, comment, 1);
+        }
+        workspaces.computeIfAbsent(workspaceId, k -> new WorkspaceIndex()).put(taskId, termFreqs, length);
+    }
+
+    public void remove(Long workspaceId, Long taskId) {
+        WorkspaceIndex index = workspaces.get(workspaceId);
+        if (index != null) {
+            index.remove(taskId);
+        }
+    }
+
+    public List<SearchHit> search(Long workspaceId, String query, int limit) {
+        WorkspaceIndex index = workspaces.get(workspaceId);
+        if (index == null) {
+            return new ArrayList<>();
+        }
+        Set<String> terms = SearchTokenizer.terms(query);
+        return index.search(terms, limit);
+    }
+
+    private int addTerms(Map<String, Integer> termFreqs, String text, int weight) {
+        int count = 0;
+        for (SearchTokenizer.Token token : SearchTokenizer.tokenizeForIndex(text)) {
+            termFreqs.merge(token.getTerm(), weight, Integer::sum);
+            count++;
+        }
+        return count;
+    }
+}
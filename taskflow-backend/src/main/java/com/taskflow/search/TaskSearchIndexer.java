@@ -0,0 +1,147 @@
+package com.taskflow.search;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.entity.Comment;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.CommentMapper;
+import com.taskflow.mapper.TaskMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Keeps TaskSearchIndex in sync with the task and comment tables. Changes are applied once their transaction
+// commits, and a rebuild never overwrites a task that changed after the rebuild read it.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndexer {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskMapper taskMapper;
+    private final CommentMapper commentMapper;
+
+    // Guarded by this; non-null while a rebuild is running
+    private Set<Long> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread thread = new Thread(this::rebuild, "task-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        try {
+            rebuildAll(start);
+        } finally {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+        }
+    }
+
+    private void rebuildAll(long start) {
+        long lastId = 0;
+        int indexed = 0;
+        while (true) {
+            LambdaQueryWrapper<Task> query = new LambdaQueryWrapper<>();
+            query.select(Task::getId, Task::getWorkspaceId, Task::getTitle, Task::getDescription);
+            query.gt(Task::getId, lastId);
+            query.orderByAsc(Task::getId);
+            query.last("LIMIT " + REBUILD_BATCH_SIZE);
+            List<Task> tasks = taskMapper.selectList(query);
+            if (tasks.isEmpty()) {
+                break;
+            }
+
+            Map<Long, List<String>> comments = loadComments(tasks.stream().map(Task::getId).collect(Collectors.toList()));
+            synchronized (this) {
+                for (Task task : tasks) {
+                    if (!changedDuringRebuild.contains(task.getId())) {
+                        taskSearchIndex.index(task.getWorkspaceId(), task.getId(), task.getTitle(),
+                                task.getDescription(), comments.getOrDefault(task.getId(), new ArrayList<>()));
+                    }
+                }
+            }
+            indexed += tasks.size();
+            lastId = tasks.get(tasks.size() - 1).getId();
+        }
+        log.info("Task search index rebuilt: {} tasks in {} ms", indexed, System.currentTimeMillis() - start);
+    }
+
+    public void indexNewTask(Task task) {
+        afterCommit(() -> apply(task.getId(), () -> taskSearchIndex.index(task.getWorkspaceId(), task.getId(),
+                task.getTitle(), task.getDescription(), new ArrayList<>())));
+    }
+
+    public void indexTask(Task task) {
+        afterCommit(() -> {
+            List<String> comments = loadComments(List.of(task.getId())).getOrDefault(task.getId(), new ArrayList<>());
+            apply(task.getId(), () -> taskSearchIndex.index(task.getWorkspaceId(), task.getId(), task.getTitle(),
+                    task.getDescription(), comments));
+        });
+    }
+
+    public void refreshTask(Long taskId) {
+        afterCommit(() -> {
+            Task task = taskMapper.selectById(taskId);
+            if (task != null) {
+                List<String> comments = loadComments(List.of(taskId)).getOrDefault(taskId, new ArrayList<>());
+                apply(taskId, () -> taskSearchIndex.index(task.getWorkspaceId(), taskId, task.getTitle(),
+                        task.getDescription(), comments));
+            }
+        });
+    }
+
+    public void removeTask(Task task) {
+        afterCommit(() -> apply(task.getId(), () -> taskSearchIndex.remove(task.getWorkspaceId(), task.getId())));
+    }
+
+    private synchronized void apply(Long taskId, Runnable change) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(taskId);
+        }
+        change.run();
+    }
+
+    // A rolled-back change must never reach the index
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private Map<Long, List<String>> loadComments(Collection<Long> taskIds) {
+        LambdaQueryWrapper<Comment> query = new LambdaQueryWrapper<>();
+        query.select(Comment::getTaskId, Comment::getContent);
+        query.in(Comment::getTaskId, taskIds);
+        return commentMapper.selectList(query).stream()
+                .collect(Collectors.groupingBy(Comment::getTaskId,
+                        Collectors.mapping(Comment::getContent, Collectors.toList())));
+    }
+}
@@ -0,0 +1,564 @@
+package com.taskflow.search;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.cluster.ClusterEvent;
+import com.taskflow.cluster.ClusterInvalidator;
+import com.taskflow.dto.response.UserResponse;
+import com.taskflow.entity.User;
+import com.taskflow.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory user lookup: sorted prefix index over usernames and emails, trigram index for infix matches.
+// Each user lives in a numbered slot of parallel arrays, and the indexes hold primitive slot numbers, so a
+// million users fit in the default heap. The index is filled in the background after startup, with prefix
+// queries against the database until it is ready, and changes made on one node are reloaded on the others.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 5000;
+    private static final int INITIAL_SLOTS = 1024;
+
+    private static final int EXACT_MATCH = 4;
+    private static final int USERNAME_PREFIX = 3;
+    private static final int EMAIL_PREFIX = 2;
+    private static final int INFIX_MATCH = 1;
+
+    private final UserMapper userMapper;
+    private final ClusterInvalidator clusterInvalidator;
+
+    // Everything below is guarded by lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SlotMap slotOf = new SlotMap();
+    private long[] ids = new long[INITIAL_SLOTS];
+    private String[] usernames = new String[INITIAL_SLOTS];
+    private String[] emails = new String[INITIAL_SLOTS];
+    private String[] avatarUrls = new String[INITIAL_SLOTS];
+    // Lower-cased copies; the same instance as the original when it is already lower case
+    private String[] lowerUsernames = new String[INITIAL_SLOTS];
+    private String[] lowerEmails = new String[INITIAL_SLOTS];
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    // Occupied slots ordered by (lower-cased value, user id); only maintained once the index is ready
+    private int[] byUsername = new int[0];
+    private int[] byEmail = new int[0];
+    private int prefixSize;
+    private final Map<String, Postings> trigrams = new HashMap<>();
+
+    // Users changed while a rebuild is running; the rebuild must not overwrite them with what it read earlier
+    private Set<Long> changedDuringRebuild;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread thread = new Thread(this::rebuild, "user-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        boolean complete = false;
+        try {
+            long lastId = 0;
+            while (true) {
+                LambdaQueryWrapper<User> query = new LambdaQueryWrapper<>();
+                query.select(User::getId, User::getUsername, User::getEmail, User::getAvatarUrl);
+                query.gt(User::getId, lastId);
+                query.orderByAsc(User::getId);
+                query.last("LIMIT " + REBUILD_BATCH_SIZE);
+                List<User> batch = userMapper.selectList(query);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                // One lock per batch, so live updates are not held up by the whole rebuild
+                lock.writeLock().lock();
+                try {
+                    for (User user : batch) {
+                        if (!changedDuringRebuild.contains(user.getId())) {
+                            putLocked(toResponse(user));
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            complete = true;
+        } catch (RuntimeException e) {
+            log.error("User search index rebuild failed; searches keep going to the database", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+                if (complete) {
+                    // Sorting once is far cheaper than keeping the prefix order while a million users arrive
+                    sortPrefixes();
+                    trigrams.values().forEach(Postings::trim);
+                    ready = true;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        if (complete) {
+            log.info("User search index rebuilt: {} users in {} ms", slotOf.size(),
+                    System.currentTimeMillis() - started);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Indexes the user here once the transaction commits, and has the other nodes reload it
+    public void index(UserResponse user) {
+        clusterInvalidator.invalidate(ClusterInvalidator.USER_SEARCH, user.getId());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(user);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(user);
+            }
+        });
+    }
+
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (!event.is(ClusterInvalidator.USER_SEARCH)) {
+            return;
+        }
+        User user = userMapper.selectById(event.key());
+        if (user != null) {
+            put(toResponse(user));
+        } else {
+            remove(event.key());
+        }
+    }
+
+    public void put(UserResponse user) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(user.getId());
+            }
+            putLocked(user);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(userId);
+            }
+            removeLocked(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<UserResponse> search(String keyword, int limit) {
+        String kw = keyword.trim().toLowerCase();
+        if (kw.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (!ready) {
+            return searchDatabase(kw, limit);
+        }
+
+        // Best score per user: exact > username prefix > email prefix > infix
+        Map<Integer, Integer> slotScores = new LinkedHashMap<>();
+        Map<Long, Integer> scores = new HashMap<>();
+        List<UserResponse> results = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            collectPrefix(byUsername, lowerUsernames, kw, USERNAME_PREFIX, limit, slotScores);
+            collectPrefix(byEmail, lowerEmails, kw, EMAIL_PREFIX, limit, slotScores);
+            if (slotScores.size() < limit && kw.length() >= 3) {
+                collectInfix(kw, limit, slotScores);
+            }
+            for (Map.Entry<Integer, Integer> entry : slotScores.entrySet()) {
+                int slot = entry.getKey();
+                int score = kw.equals(lowerUsernames[slot]) || kw.equals(lowerEmails[slot])
+                        ? EXACT_MATCH : entry.getValue();
+                scores.put(ids[slot], score);
+                results.add(new UserResponse(ids[slot], usernames[slot], emails[slot], avatarUrls[slot]));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        sort(results, scores);
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+    }
+
+    // Prefix matches only, until the index has been built
+    private List<UserResponse> searchDatabase(String kw, int limit) {
+        LambdaQueryWrapper<User> query = new LambdaQueryWrapper<>();
+        query.select(User::getId, User::getUsername, User::getEmail, User::getAvatarUrl);
+        query.and(w -> w.likeRight(User::getUsername, kw).or().likeRight(User::getEmail, kw));
+        query.last("LIMIT " + limit);
+        Map<Long, Integer> scores = new HashMap<>();
+        List<UserResponse> results = new ArrayList<>();
+        for (User user : userMapper.selectList(query)) {
+            int score = lower(user.getUsername()).startsWith(kw) ? USERNAME_PREFIX : EMAIL_PREFIX;
+            if (kw.equals(lower(user.getUsername())) || kw.equals(lower(user.getEmail()))) {
+                score = EXACT_MATCH;
+            }
+            scores.put(user.getId(), score);
+            results.add(toResponse(user));
+        }
+        sort(results, scores);
+        return results;
+    }
+
+    private void sort(List<UserResponse> results, Map<Long, Integer> scores) {
+        results.sort(Comparator.<UserResponse>comparingInt(u -> -scores.get(u.getId()))
+                .thenComparingInt(u -> u.getUsername().length())
+                .thenComparing(UserResponse::getUsername));
+    }
+
+    private void putLocked(UserResponse user) {
+        removeLocked(user.getId());
+        int slot = allocateSlot();
+        ids[slot] = user.getId();
+        usernames[slot] = user.getUsername();
+        emails[slot] = user.getEmail();
+        avatarUrls[slot] = user.getAvatarUrl();
+        lowerUsernames[slot] = lower(user.getUsername());
+        lowerEmails[slot] = lower(user.getEmail());
+        slotOf.put(user.getId(), slot);
+
+        if (ready) {
+            byUsername = insertOrdered(byUsername, lowerUsernames, slot);
+            byEmail = insertOrdered(byEmail, lowerEmails, slot);
+            prefixSize++;
+        }
+        for (String trigram : trigramsOf(slot)) {
+            trigrams.computeIfAbsent(trigram, k -> new Postings()).add(slot);
+        }
+    }
+
+    private void removeLocked(Long userId) {
+        int slot = slotOf.remove(userId);
+        if (slot < 0) {
+            return;
+        }
+        if (ready) {
+            removeOrdered(byUsername, lowerUsernames, slot);
+            removeOrdered(byEmail, lowerEmails, slot);
+            prefixSize--;
+        }
+        for (String trigram : trigramsOf(slot)) {
+            Postings slots = trigrams.get(trigram);
+            if (slots != null && slots.remove(slot) && slots.size == 0) {
+                trigrams.remove(trigram);
+            }
+        }
+        ids[slot] = 0;
+        usernames[slot] = null;
+        emails[slot] = null;
+        avatarUrls[slot] = null;
+        lowerUsernames[slot] = null;
+        lowerEmails[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            int capacity = slotCount + (slotCount >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            usernames = Arrays.copyOf(usernames, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            avatarUrls = Arrays.copyOf(avatarUrls, capacity);
+            lowerUsernames = Arrays.copyOf(lowerUsernames, capacity);
+            lowerEmails = Arrays.copyOf(lowerEmails, capacity);
+        }
+        return slotCount++;
+    }
+
+    private void sortPrefixes() {
+        Integer[] occupied = new Integer[slotOf.size()];
+        int n = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (ids[slot] != 0) {
+                occupied[n++] = slot;
+            }
+        }
+        Arrays.sort(occupied, 0, n, (a, b) -> compare(lowerUsernames, a, b));
+        byUsername = new int[n];
+        for (int i = 0; i < n; i++) {
+            byUsername[i] = occupied[i];
+        }
+        Arrays.sort(occupied, 0, n, (a, b) -> compare(lowerEmails, a, b));
+        byEmail = new int[n];
+        for (int i = 0; i < n; i++) {
+            byEmail[i] = occupied[i];
+        }
+        prefixSize = n;
+    }
+
+    private int compare(String[] keys, int a, int b) {
+        int byKey = keys[a].compareTo(keys[b]);
+        return byKey != 0 ? byKey : Long.compare(ids[a], ids[b]);
+    }
+
+    // First position in order whose slot sorts at or after the given slot (or key, when slot is -1)
+    private int lowerBound(int[] order, String[] keys, String key, int slot) {
+        int lo = 0;
+        int hi = prefixSize;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int at = order[mid];
+            int cmp = keys[at].compareTo(key);
+            if (cmp == 0 && slot >= 0) {
+                cmp = Long.compare(ids[at], ids[slot]);
+            }
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int[] insertOrdered(int[] order, String[] keys, int slot) {
+        int at = lowerBound(order, keys, keys[slot], slot);
+        if (prefixSize == order.length) {
+            order = Arrays.copyOf(order, prefixSize + (prefixSize >> 1) + 16);
+        }
+        System.arraycopy(order, at, order, at + 1, prefixSize - at);
+        order[at] = slot;
+        return order;
+    }
+
+    private void removeOrdered(int[] order, String[] keys, int slot) {
+        int at = lowerBound(order, keys, keys[slot], slot);
+        if (at < prefixSize && order[at] == slot) {
+            System.arraycopy(order, at + 1, order, at, prefixSize - at - 1);
+        }
+    }
+
+    private void collectPrefix(int[] order, String[] keys, String kw, int score, int limit,
+                               Map<Integer, Integer> scores) {
+        int collected = 0;
+        for (int i = lowerBound(order, keys, kw, -1); i < prefixSize && collected < limit; i++) {
+            int slot = order[i];
+            if (!keys[slot].startsWith(kw)) {
+                break;
+            }
+            scores.merge(slot, score, Math::max);
+            collected++;
+        }
+    }
+
+    private void collectInfix(String kw, int limit, Map<Integer, Integer> scores) {
+        // Intersect trigram postings, starting from the rarest, then verify the substring
+        List<Postings> postings = new ArrayList<>();
+        for (int i = 0; i + 3 <= kw.length(); i++) {
+            Postings slots = trigrams.get(kw.substring(i, i + 3));
+            if (slots == null) {
+                return;
+            }
+            postings.add(slots);
+        }
+        postings.sort(Comparator.comparingInt(p -> p.size));
+        Postings rarest = postings.get(0);
+        int[] candidates = Arrays.copyOf(rarest.slots, rarest.size);
+        int count = candidates.length;
+        for (int i = 1; i < postings.size() && count > 0; i++) {
+            count = postings.get(i).retain(candidates, count);
+        }
+
+        for (int i = 0; i < count && scores.size() < limit; i++) {
+            int slot = candidates[i];
+            if (lowerUsernames[slot].contains(kw) || lowerEmails[slot].contains(kw)) {
+                scores.putIfAbsent(slot, INFIX_MATCH);
+            }
+        }
+    }
+
+    private Set<String> trigramsOf(int slot) {
+        Set<String> result = new HashSet<>();
+        addTrigrams(lowerUsernames[slot], result);
+        addTrigrams(lowerEmails[slot], result);
+        return result;
+    }
+
+    private void addTrigrams(String value, Set<String> result) {
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            result.add(value.substring(i, i + 3));
+        }
+    }
+
+    private UserResponse toResponse(User user) {
+        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(), user.getAvatarUrl());
+    }
+
+    private String lower(String value) {
+        return value != null ? value.toLowerCase() : "";
+    }
+
+    // Sorted slot numbers. Slots are mostly handed out in ascending order, so adding is usually an append.
+    private static final class Postings {
+        private int[] slots = new int[2];
+        private int size;
+
+        private void add(int slot) {
+            int at = size == 0 || slots[size - 1] < slot ? size : Arrays.binarySearch(slots, 0, size, slot);
+            if (at < 0) {
+                at = -at - 1;
+            } else if (at < size) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size + (size >> 1) + 1);
+            }
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            slots[at] = slot;
+            size++;
+        }
+
+        private boolean remove(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(slots, at + 1, slots, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        // Keeps the first count candidates that are also in this list, in place; returns how many remain
+        private int retain(int[] candidates, int count) {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (Arrays.binarySearch(slots, 0, size, candidates[i]) >= 0) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            return kept;
+        }
+
+        private void trim() {
+            if (slots.length > size) {
+                slots = Arrays.copyOf(slots, Math.max(size, 1));
+            }
+        }
+    }
+
+    // User id to slot, open addressing over primitive arrays. Ids are positive, so 0 marks an empty bucket.
+    private static final class SlotMap {
+        private long[] keys = new long[INITIAL_SLOTS * 2];
+        private int[] values = new int[INITIAL_SLOTS * 2];
+        private int size;
+
+        private int size() {
+            return size;
+        }
+
+        private void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int i = bucket(key, keys.length);
+            while (keys[i] != 0 && keys[i] != key) {
+                i = (i + 1) & (keys.length - 1);
+            }
+            if (keys[i] == 0) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        // Returns the removed slot, or -1
+        private int remove(long key) {
+            int i = bucket(key, keys.length);
+            while (keys[i] != key) {
+                if (keys[i] == 0) {
+                    return -1;
+                }
+                i = (i + 1) & (keys.length - 1);
+            }
+            int removed = values[i];
+            size--;
+            // Shift later entries of the probe run back so lookups never stop at the hole
+            int hole = i;
+            int j = i;
+            while (true) {
+                j = (j + 1) & (keys.length - 1);
+                if (keys[j] == 0) {
+                    break;
+                }
+                int home = bucket(keys[j], keys.length);
+                if (((j - home) & (keys.length - 1)) >= ((j - hole) & (keys.length - 1))) {
+                    keys[hole] = keys[j];
+                    values[hole] = values[j];
+                    hole = j;
+                }
+            }
+            keys[hole] = 0;
+            return removed;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int bucket(long key, int capacity) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & (capacity - 1);
+        }
+    }
+}
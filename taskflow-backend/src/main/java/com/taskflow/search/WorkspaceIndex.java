@@ -0,0 +1,120 @@
+package com.taskflow.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Inverted index for a single workspace, scored with BM25
+class WorkspaceIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, DocEntry> docs = new HashMap<>();
+    private long totalLength;
+
+    private static class DocEntry {
+        private final String[] terms;
+        private final int length;
+
+        private DocEntry(String[] terms, int length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    void put(long docId, Map<String, Integer> termFreqs, int length) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            String[] terms = new String[termFreqs.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new PostingList()).put(docId, entry.getValue());
+                terms[i++] = entry.getKey();
+            }
+            docs.put(docId, new DocEntry(terms, length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(long docId) {
+        DocEntry entry = docs.remove(docId);
+        if (entry == null) {
+            return;
+        }
+        for (String term : entry.terms) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(docId);
+                if (list.size() == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= entry.length;
+    }
+
+    List<SearchHit> search(Collection<String> terms, int limit) {
+        lock.readLock().lock();
+        try {
+            int docCount = docs.size();
+            if (docCount == 0 || terms.isEmpty()) {
+                return new ArrayList<>();
+            }
+            double avgLength = Math.max(1.0, (double) totalLength / docCount);
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                int df = list.size();
+                double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < df; i++) {
+                    long docId = list.docId(i);
+                    int tf = list.freq(i);
+                    int length = docs.get(docId).length;
+                    double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / avgLength));
+                    scores.merge(docId, idf * norm, Double::sum);
+                }
+            }
+
+            // Keep the top `limit` hits in a min-heap
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::getScore));
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                if (top.size() < limit) {
+                    top.add(new SearchHit(entry.getKey(), entry.getValue()));
+                } else if (entry.getValue() > top.peek().getScore()) {
+                    top.poll();
+                    top.add(new SearchHit(entry.getKey(), entry.getValue()));
+                }
+            }
+            List<SearchHit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// Operators are listed by user id in configuration; there is no admin role in the user model
+@Component("adminAuthz")
+public class AdminAuthz {
+
+    @Value("${taskflow.admin.user-ids:}")
+    private Set<Long> adminUserIds;
+
+    public boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof JwtPrincipal principal
+                && adminUserIds.contains(principal.getUserId());
+    }
+}
@@ -1,7 +1,6 @@
 package com.taskflow.security;
 
-import com.taskflow.entity.User;
-import com.taskflow.mapper.UserMapper;
+import com.taskflow.service.support.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -14,18 +13,18 @@ import java.util.ArrayList;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserMapper userMapper;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String userIdStr) throws UsernameNotFoundException {
         Long userId = Long.parseLong(userIdStr);
-        User user = userMapper.selectById(userId);
-        if (user == null) {
+        if (userCache.get(userId) == null) {
             throw new UsernameNotFoundException("User not found with id: " + userId);
         }
+        // Not on the request path (JwtAuthenticationFilter builds its principal from claims); passwords are checked in AuthService
         return new org.springframework.security.core.userdetails.User(
-                String.valueOf(user.getId()),
-                user.getPasswordHash(),
+                String.valueOf(userId),
+                "",
                 new ArrayList<>()
         );
     }
@@ -0,0 +1,35 @@
+package com.taskflow.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Shared by the HTTP filter and STOMP CONNECT. The principal comes entirely from the signed claims; revoked users
+// are caught in memory, not by a DB lookup.
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticator {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+
+    // Returns null for an invalid, expired or revoked token
+    public JwtPrincipal authenticate(String token) {
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        if (claims == null || claims.getSubject() == null) {
+            return null;
+        }
+
+        Long userId;
+        try {
+            userId = Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        if (tokenRevocationList.isRevoked(userId, issuedAt)) {
+            return null;
+        }
+        return new JwtPrincipal(userId, claims.get("username", String.class));
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflow.security;
+
+import lombok.Getter;
+
+import java.security.Principal;
+
+// Authenticated caller built from access-token claims; getName() stays the user id that controllers parse
+@Getter
+public class JwtPrincipal implements Principal {
+
+    private final Long userId;
+    private final String username;
+
+    public JwtPrincipal(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskflow.security;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.entity.RefreshToken;
+import com.taskflow.mapper.RefreshTokenMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Refresh tokens are persisted only as SHA-256 hashes; lookups are a unique-key point read
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final int SWEEP_BATCH_SIZE = 1000;
+    private static final int REVOKED_CACHE_SIZE = 10000;
+
+    private final RefreshTokenMapper refreshTokenMapper;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${jwt.refresh-token-max-per-user:10}")
+    private int maxTokensPerUser;
+
+    // Recently revoked hashes, so replays of a logged-out token are rejected without a query
+    private final Set<String> recentlyRevoked = Collections.newSetFromMap(
+            Collections.synchronizedMap(new LinkedHashMap<String, Boolean>(256, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > REVOKED_CACHE_SIZE;
+                }
+            }));
+
+    public String issue(Long userId) {
+        String tokenValue = jwtTokenProvider.generateRefreshTokenValue();
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUserId(userId);
+        refreshToken.setTokenHash(hash(tokenValue));
+        refreshToken.setExpiresAt(LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000));
+        refreshToken.setIsRevoked(0);
+        refreshToken.setCreatedAt(LocalDateTime.now());
+        refreshTokenMapper.insert(refreshToken);
+
+        trimUserTokens(userId);
+        return tokenValue;
+    }
+
+    // Returns the stored row, or null when the token is unknown or was revoked recently
+    public RefreshToken find(String tokenValue) {
+        String tokenHash = hash(tokenValue);
+        if (recentlyRevoked.contains(tokenHash)) {
+            return null;
+        }
+        LambdaQueryWrapper<RefreshToken> query = new LambdaQueryWrapper<>();
+        query.eq(RefreshToken::getTokenHash, tokenHash);
+        return refreshTokenMapper.selectOne(query);
+    }
+
+    public void revoke(String tokenValue) {
+        String tokenHash = hash(tokenValue);
+        recentlyRevoked.add(tokenHash);
+
+        LambdaQueryWrapper<RefreshToken> query = new LambdaQueryWrapper<>();
+        query.eq(RefreshToken::getTokenHash, tokenHash);
+        refreshTokenMapper.delete(query);
+    }
+
+    // Ends every session of the user, e.g. after a password change
+    public void revokeUser(Long userId) {
+        LambdaQueryWrapper<RefreshToken> query = new LambdaQueryWrapper<>();
+        query.select(RefreshToken::getTokenHash);
+        query.eq(RefreshToken::getUserId, userId);
+        refreshTokenMapper.selectList(query).forEach(token -> recentlyRevoked.add(token.getTokenHash()));
+
+        LambdaQueryWrapper<RefreshToken> deleteQuery = new LambdaQueryWrapper<>();
+        deleteQuery.eq(RefreshToken::getUserId, userId);
+        refreshTokenMapper.delete(deleteQuery);
+    }
+
+    // Deletes expired rows in bounded chunks so the sweep never holds long locks. Revoked tokens are deleted when
+    // they are revoked, so a range scan on idx_refresh_token_expires is all this needs.
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-sweep-interval:3600000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            LambdaQueryWrapper<RefreshToken> query = new LambdaQueryWrapper<>();
+            query.lt(RefreshToken::getExpiresAt, now);
+            query.last("LIMIT " + SWEEP_BATCH_SIZE);
+            deleted = refreshTokenMapper.delete(query);
+            total += deleted;
+        } while (deleted == SWEEP_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Swept {} expired refresh tokens", total);
+        }
+    }
+
+    // Keeps only the newest tokens per user; older sessions are dropped on the next login
+    private void trimUserTokens(Long userId) {
+        LambdaQueryWrapper<RefreshToken> query = new LambdaQueryWrapper<>();
+        query.select(RefreshToken::getId);
+        query.eq(RefreshToken::getUserId, userId);
+        query.orderByDesc(RefreshToken::getCreatedAt, RefreshToken::getId);
+        query.last("LIMIT " + SWEEP_BATCH_SIZE + " OFFSET " + maxTokensPerUser);
+        List<Long> staleIds = refreshTokenMapper.selectList(query).stream()
+                .map(RefreshToken::getId)
+                .collect(Collectors.toList());
+        if (!staleIds.isEmpty()) {
+            refreshTokenMapper.deleteBatchIds(staleIds);
+        }
+    }
+
+    private String hash(String tokenValue) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenValue.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
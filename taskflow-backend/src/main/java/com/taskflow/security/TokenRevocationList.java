@@ -0,0 +1,36 @@
+package com.taskflow.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Users whose access tokens issued before a cut-off must be rejected, currently after a password change.
+// Entries only need to outlive the access-token lifetime, so the set stays small.
+@Component
+public class TokenRevocationList {
+
+    @Value("${jwt.access-token-expiration}")
+    private long accessTokenExpiration;
+
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public void revokeUser(Long userId) {
+        // iat has second precision, so tokens from earlier in the same second survive the cut-off
+        long cutoff = System.currentTimeMillis() / 1000 * 1000;
+        revokedBefore.merge(userId, cutoff, Math::max);
+    }
+
+    public boolean isRevoked(Long userId, long issuedAtMillis) {
+        Long cutoff = revokedBefore.get(userId);
+        return cutoff != null && issuedAtMillis < cutoff;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-sweep-interval:60000}")
+    public void sweep() {
+        long oldestLiveIssue = System.currentTimeMillis() - accessTokenExpiration;
+        revokedBefore.values().removeIf(cutoff -> cutoff < oldestLiveIssue);
+    }
+}
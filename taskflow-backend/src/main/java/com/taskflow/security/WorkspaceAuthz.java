@@ -0,0 +1,283 @@
+package com.taskflow.security;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.cluster.ClusterEvent;
+import com.taskflow.cluster.ClusterInvalidator;
+import com.taskflow.entity.Board;
+import com.taskflow.entity.BoardColumn;
+import com.taskflow.entity.Comment;
+import com.taskflow.entity.Label;
+import com.taskflow.entity.Subtask;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.WorkspaceMember;
+import com.taskflow.enums.MemberRole;
+import com.taskflow.mapper.BoardColumnMapper;
+import com.taskflow.mapper.BoardMapper;
+import com.taskflow.mapper.CommentMapper;
+import com.taskflow.mapper.LabelMapper;
+import com.taskflow.mapper.SubtaskMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.mapper.WorkspaceMemberMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Workspace access checks for @PreAuthorize. Each user's memberships are held in memory for a short TTL and dropped
+// on every node when they change; the workspace owning a board/column/task/label/comment/subtask never changes,
+// so it is cached after first use.
+// Role order follows MemberRole: OWNER > ADMIN > MEMBER > VIEWER.
+@Component("workspaceAuthz")
+@RequiredArgsConstructor
+public class WorkspaceAuthz {
+
+    private static final int RESOURCE_CACHE_SIZE = 50000;
+
+    private final WorkspaceMemberMapper workspaceMemberMapper;
+    private final BoardMapper boardMapper;
+    private final BoardColumnMapper boardColumnMapper;
+    private final TaskMapper taskMapper;
+    private final LabelMapper labelMapper;
+    private final CommentMapper commentMapper;
+    private final SubtaskMapper subtaskMapper;
+    private final ClusterInvalidator clusterInvalidator;
+
+    // Upper bound on how long a role change can go unnoticed if an invalidation from another node is lost
+    @Value("${taskflow.security.membership-ttl:30000}")
+    private long membershipTtlMillis;
+
+    private final Map<Long, Memberships> memberships = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a load that raced with a membership change is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<Long, Long> boardWorkspaces = lruMap();
+    private final Map<Long, Long> columnWorkspaces = lruMap();
+    private final Map<Long, Long> taskWorkspaces = lruMap();
+    private final Map<Long, Long> labelWorkspaces = lruMap();
+    private final Map<Long, Long> commentWorkspaces = lruMap();
+    private final Map<Long, Long> subtaskWorkspaces = lruMap();
+
+    public boolean workspace(Long workspaceId, String minRole) {
+        return hasRole(currentUserId(), workspaceId, minRole);
+    }
+
+    // For callers without a security context, such as STOMP frames
+    public boolean hasRole(Long userId, Long workspaceId, String minRole) {
+        if (userId == null || workspaceId == null) {
+            return false;
+        }
+        MemberRole role = membershipsOf(userId).get(workspaceId);
+        return role != null && role.ordinal() <= MemberRole.valueOf(minRole).ordinal();
+    }
+
+    public boolean board(Long boardId, String minRole) {
+        return workspace(resolve(boardWorkspaces, boardId, this::loadBoardWorkspace), minRole);
+    }
+
+    public boolean column(Long columnId, String minRole) {
+        return workspace(resolve(columnWorkspaces, columnId, this::loadColumnWorkspace), minRole);
+    }
+
+    public boolean task(Long taskId, String minRole) {
+        return workspace(resolve(taskWorkspaces, taskId, this::loadTaskWorkspace), minRole);
+    }
+
+    public boolean label(Long labelId, String minRole) {
+        return workspace(resolve(labelWorkspaces, labelId, this::loadLabelWorkspace), minRole);
+    }
+
+    public boolean comment(Long commentId, String minRole) {
+        return workspace(resolve(commentWorkspaces, commentId, this::loadCommentWorkspace), minRole);
+    }
+
+    public boolean subtask(Long subtaskId, String minRole) {
+        return workspace(resolve(subtaskWorkspaces, subtaskId, this::loadSubtaskWorkspace), minRole);
+    }
+
+    public boolean subtasks(Collection<Long> subtaskIds, String minRole) {
+        if (subtaskIds == null) {
+            return false;
+        }
+        for (Long subtaskId : subtaskIds) {
+            if (!subtask(subtaskId, minRole)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Drops the user's cached memberships now and again after commit, so a concurrent reload cannot keep stale roles.
+    // Other nodes drop theirs once the change has committed.
+    public void invalidateUser(Long userId) {
+        evict(userId);
+        clusterInvalidator.invalidate(ClusterInvalidator.MEMBERSHIP_USER, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    public void invalidateWorkspace(Long workspaceId) {
+        evictWorkspace(workspaceId);
+        clusterInvalidator.invalidate(ClusterInvalidator.MEMBERSHIP_WORKSPACE, workspaceId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictWorkspace(workspaceId);
+                }
+            });
+        }
+    }
+
+    // Runs before listeners that re-check access, such as the STOMP subscription registry
+    @Order(0)
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (event.is(ClusterInvalidator.MEMBERSHIP_USER)) {
+            evict(event.key());
+        } else if (event.is(ClusterInvalidator.MEMBERSHIP_WORKSPACE)) {
+            evictWorkspace(event.key());
+        }
+    }
+
+    private void evict(Long userId) {
+        generation.incrementAndGet();
+        memberships.remove(userId);
+    }
+
+    private void evictWorkspace(Long workspaceId) {
+        generation.incrementAndGet();
+        memberships.values().removeIf(cached -> cached.roles.containsKey(workspaceId));
+    }
+
+    private Map<Long, MemberRole> membershipsOf(Long userId) {
+        long now = System.currentTimeMillis();
+        Memberships cached = memberships.get(userId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.roles;
+        }
+
+        long loadGeneration = generation.get();
+        LambdaQueryWrapper<WorkspaceMember> query = new LambdaQueryWrapper<>();
+        query.select(WorkspaceMember::getWorkspaceId, WorkspaceMember::getRole);
+        query.eq(WorkspaceMember::getUserId, userId);
+        // Member rows outlive a soft-deleted workspace; they grant nothing once it is gone
+        query.inSql(WorkspaceMember::getWorkspaceId, "SELECT id FROM workspace WHERE deleted = 0");
+        Map<Long, MemberRole> loaded = new HashMap<>();
+        for (WorkspaceMember member : workspaceMemberMapper.selectList(query)) {
+            // An unknown role grants nothing rather than failing every check for the user
+            MemberRole role = MemberRole.fromValue(member.getRole());
+            if (role != null) {
+                loaded.put(member.getWorkspaceId(), role);
+            }
+        }
+        Map<Long, MemberRole> roles = Collections.unmodifiableMap(loaded);
+
+        if (generation.get() == loadGeneration) {
+            memberships.put(userId, new Memberships(roles, now + membershipTtlMillis));
+        }
+        return roles;
+    }
+
+    private Long resolve(Map<Long, Long> cache, Long id, Function<Long, Long> loader) {
+        if (id == null) {
+            return null;
+        }
+        Long workspaceId = cache.get(id);
+        if (workspaceId == null) {
+            workspaceId = loader.apply(id);
+            if (workspaceId != null) {
+                cache.put(id, workspaceId);
+            }
+        }
+        return workspaceId;
+    }
+
+    private Long loadBoardWorkspace(Long boardId) {
+        LambdaQueryWrapper<Board> query = new LambdaQueryWrapper<>();
+        query.select(Board::getWorkspaceId).eq(Board::getId, boardId);
+        Board board = boardMapper.selectOne(query);
+        return board != null ? board.getWorkspaceId() : null;
+    }
+
+    private Long loadColumnWorkspace(Long columnId) {
+        LambdaQueryWrapper<BoardColumn> query = new LambdaQueryWrapper<>();
+        query.select(BoardColumn::getBoardId).eq(BoardColumn::getId, columnId);
+        BoardColumn column = boardColumnMapper.selectOne(query);
+        return column != null ? resolve(boardWorkspaces, column.getBoardId(), this::loadBoardWorkspace) : null;
+    }
+
+    private Long loadTaskWorkspace(Long taskId) {
+        LambdaQueryWrapper<Task> query = new LambdaQueryWrapper<>();
+        query.select(Task::getWorkspaceId).eq(Task::getId, taskId);
+        Task task = taskMapper.selectOne(query);
+        return task != null ? task.getWorkspaceId() : null;
+    }
+
+    private Long loadLabelWorkspace(Long labelId) {
+        LambdaQueryWrapper<Label> query = new LambdaQueryWrapper<>();
+        query.select(Label::getWorkspaceId).eq(Label::getId, labelId);
+        Label label = labelMapper.selectOne(query);
+        return label != null ? label.getWorkspaceId() : null;
+    }
+
+    private Long loadCommentWorkspace(Long commentId) {
+        LambdaQueryWrapper<Comment> query = new LambdaQueryWrapper<>();
+        query.select(Comment::getTaskId).eq(Comment::getId, commentId);
+        Comment comment = commentMapper.selectOne(query);
+        return comment != null ? resolve(taskWorkspaces, comment.getTaskId(), this::loadTaskWorkspace) : null;
+    }
+
+    private Long loadSubtaskWorkspace(Long subtaskId) {
+        LambdaQueryWrapper<Subtask> query = new LambdaQueryWrapper<>();
+        query.select(Subtask::getTaskId).eq(Subtask::getId, subtaskId);
+        Subtask subtask = subtaskMapper.selectOne(query);
+        return subtask != null ? resolve(taskWorkspaces, subtask.getTaskId(), this::loadTaskWorkspace) : null;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtPrincipal principal)) {
+            return null;
+        }
+        return principal.getUserId();
+    }
+
+    private static Map<Long, Long> lruMap() {
+        return Collections.synchronizedMap(new LinkedHashMap<Long, Long>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > RESOURCE_CACHE_SIZE;
+            }
+        });
+    }
+
+    private static final class Memberships {
+        private final Map<Long, MemberRole> roles;
+        private final long expiresAt;
+
+        private Memberships(Map<Long, MemberRole> roles, long expiresAt) {
+            this.roles = roles;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.taskflow.dto.request.BoardColumnCreateRequest;
 import com.taskflow.dto.request.BoardColumnReorderRequest;
 import com.taskflow.dto.request.BoardColumnUpdateRequest;
 import com.taskflow.dto.request.BoardCreateRequest;
+import com.taskflow.dto.request.RankMoveRequest;
 import com.taskflow.dto.response.BoardColumnResponse;
 import com.taskflow.dto.response.BoardResponse;
+import com.taskflow.service.support.TaskFieldSet;
 
 import java.util.List;
 
@@ -15,6 +17,8 @@ public interface BoardService {
 
     BoardResponse getBoard(Long id);
 
+    BoardResponse getBoard(Long id, TaskFieldSet fieldSet);
+
     List<BoardResponse> listBoards(Long workspaceId);
 
     BoardResponse updateBoard(Long id, BoardCreateRequest request);
@@ -28,4 +32,6 @@ public interface BoardService {
     void deleteColumn(Long id);
 
     void reorderColumns(Long boardId, BoardColumnReorderRequest request);
+
+    BoardColumnResponse moveColumnBetween(Long id, RankMoveRequest request);
 }
@@ -1,6 +1,8 @@
 package com.taskflow.service;
 
+import com.taskflow.dto.response.NotificationPageResponse;
 import com.taskflow.dto.response.NotificationResponse;
+import com.taskflow.notification.NotificationEvent;
 
 import java.util.List;
 
@@ -8,9 +10,13 @@ public interface NotificationService {
 
     void createNotification(Long userId, String type, String title, String content, Long referenceId);
 
+    List<NotificationResponse> createNotifications(List<NotificationEvent> events);
+
     List<NotificationResponse> listNotifications(Long userId);
 
-    void markAsRead(Long id);
+    NotificationPageResponse listInbox(Long userId, String cursor, Integer size);
+
+    void markAsRead(Long userId, Long id);
 
     void markAllAsRead(Long userId);
 
@@ -1,5 +1,6 @@
 package com.taskflow.service;
 
+import com.taskflow.dto.request.RankMoveRequest;
 import com.taskflow.dto.request.SubtaskCreateRequest;
 import com.taskflow.dto.request.SubtaskReorderRequest;
 import com.taskflow.dto.request.SubtaskUpdateRequest;
@@ -19,5 +20,7 @@ public interface SubtaskService {
 
     void reorderSubtasks(SubtaskReorderRequest request);
 
+    SubtaskResponse moveSubtaskBetween(Long id, RankMoveRequest request);
+
     List<SubtaskResponse> listSubtasks(Long taskId);
 }
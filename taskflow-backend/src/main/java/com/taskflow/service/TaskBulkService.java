@@ -0,0 +1,9 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.request.TaskBulkUpdateRequest;
+import com.taskflow.dto.response.TaskBulkUpdateResponse;
+
+public interface TaskBulkService {
+
+    TaskBulkUpdateResponse bulkUpdate(Long workspaceId, TaskBulkUpdateRequest request);
+}
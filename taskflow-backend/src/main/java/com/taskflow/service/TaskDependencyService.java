@@ -12,4 +12,12 @@ public interface TaskDependencyService {
     void removeDependency(Long taskId, Long predecessorId, Long successorId);
 
     List<TaskResponse> getDependencies(Long taskId);
+
+    List<TaskResponse> getTransitivePredecessors(Long taskId);
+
+    List<TaskResponse> getTransitiveSuccessors(Long taskId);
+
+    List<Long> getTopologicalOrder(Long workspaceId);
+
+    List<TaskResponse> getBlockedTasks(Long workspaceId);
 }
@@ -0,0 +1,13 @@
+package com.taskflow.service;
+
+import com.taskflow.service.support.DataFormat;
+import com.taskflow.service.support.TaskFieldSet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+
+    void exportTasks(Long workspaceId, DataFormat format, TaskFieldSet fieldSet, OutputStream outputStream)
+            throws IOException;
+}
@@ -0,0 +1,13 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.response.TaskImportResponse;
+import com.taskflow.service.support.DataFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface TaskImportService {
+
+    TaskImportResponse importTasks(Long workspaceId, DataFormat format, Integer chunkSize,
+                                   InputStream inputStream, Long creatorId) throws IOException;
+}
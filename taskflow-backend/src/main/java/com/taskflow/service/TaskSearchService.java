@@ -0,0 +1,10 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.response.TaskSearchResponse;
+
+import java.util.List;
+
+public interface TaskSearchService {
+
+    List<TaskSearchResponse> searchTasks(Long workspaceId, String query, int limit);
+}
@@ -1,11 +1,15 @@
 package com.taskflow.service;
 
+import com.taskflow.dto.request.RankMoveRequest;
 import com.taskflow.dto.request.TaskCreateRequest;
 import com.taskflow.dto.request.TaskMoveRequest;
 import com.taskflow.dto.request.TaskStatusUpdateRequest;
 import com.taskflow.dto.request.TaskUpdateRequest;
+import com.taskflow.dto.response.GanttResponse;
+import com.taskflow.dto.response.TaskDeltaResyncResponse;
 import com.taskflow.dto.response.TaskListResponse;
 import com.taskflow.dto.response.TaskResponse;
+import com.taskflow.service.support.TaskFieldSet;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,13 +25,24 @@ public interface TaskService {
     void deleteTask(Long id);
 
     TaskListResponse listTasks(Long workspaceId, String status, String priority, Long assigneeId,
-                               String keyword, int page, int size, String sortBy, String sortDir);
+                               String keyword, int page, int size, String sortBy, String sortDir,
+                               TaskFieldSet fieldSet);
+
+    TaskListResponse listTasksByCursor(Long workspaceId, String status, String priority, Long assigneeId,
+                                       String keyword, String cursor, int size, String sortBy, String sortDir,
+                                       boolean withTotal, TaskFieldSet fieldSet);
 
     TaskResponse updateStatus(Long id, TaskStatusUpdateRequest request);
 
     TaskResponse moveTask(Long id, TaskMoveRequest request);
 
-    List<TaskResponse> getCalendarTasks(Long workspaceId, LocalDate start, LocalDate end);
+    TaskResponse moveTaskBetween(Long id, RankMoveRequest request);
+
+    List<TaskResponse> getCalendarTasks(Long workspaceId, LocalDate start, LocalDate end, TaskFieldSet fieldSet);
+
+    List<TaskResponse> getGanttTasks(Long workspaceId, TaskFieldSet fieldSet);
+
+    GanttResponse getGanttSchedule(Long workspaceId, TaskFieldSet fieldSet);
 
-    List<TaskResponse> getGanttTasks(Long workspaceId);
+    TaskDeltaResyncResponse getTaskDeltas(Long workspaceId, Long after);
 }
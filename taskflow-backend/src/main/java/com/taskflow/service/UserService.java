@@ -8,6 +8,7 @@ import java.util.List;
 public interface UserService {
     UserResponse getCurrentUser(Long userId);
     UserResponse updateProfile(Long userId, String avatarUrl);
+    void changePassword(Long userId, String currentPassword, String newPassword);
     List<UserResponse> searchUsers(String keyword);
     User getUserById(Long userId);
 }
@@ -21,11 +21,11 @@ public interface WorkspaceService {
 
     void deleteWorkspace(Long id);
 
-    void inviteMember(Long workspaceId, MemberInviteRequest request);
+    void inviteMember(Long workspaceId, MemberInviteRequest request, Long actorId);
 
     List<WorkspaceMemberResponse> getMembers(Long workspaceId);
 
-    void updateMemberRole(Long workspaceId, Long userId, MemberRoleUpdateRequest request);
+    void updateMemberRole(Long workspaceId, Long userId, MemberRoleUpdateRequest request, Long actorId);
 
-    void removeMember(Long workspaceId, Long userId);
+    void removeMember(Long workspaceId, Long userId, Long actorId);
 }
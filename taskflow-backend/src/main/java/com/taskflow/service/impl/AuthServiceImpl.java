@@ -12,14 +12,15 @@ import com.taskflow.entity.Workspace;
 import com.taskflow.entity.WorkspaceMember;
 import com.taskflow.enums.MemberRole;
 import com.taskflow.exception.BusinessException;
-import com.taskflow.mapper.RefreshTokenMapper;
 import com.taskflow.mapper.UserMapper;
 import com.taskflow.mapper.WorkspaceMapper;
 import com.taskflow.mapper.WorkspaceMemberMapper;
+import com.taskflow.search.UserSearchIndex;
 import com.taskflow.security.JwtTokenProvider;
+import com.taskflow.security.PasswordHasher;
+import com.taskflow.security.RefreshTokenStore;
 import com.taskflow.service.AuthService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,11 +31,12 @@ import java.time.LocalDateTime;
 public class AuthServiceImpl implements AuthService {
 
     private final UserMapper userMapper;
-    private final RefreshTokenMapper refreshTokenMapper;
     private final WorkspaceMapper workspaceMapper;
     private final WorkspaceMemberMapper workspaceMemberMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserSearchIndex userSearchIndex;
 
     @Override
     @Transactional
@@ -53,11 +55,14 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessException("Email already exists");
         }
 
+        // Hash first so a saturated hasher rejects the request before any writes
+        String passwordHash = passwordHasher.encode(request.getPassword());
+
         // Create user
         User user = new User();
         user.setUsername(request.getUsername());
         user.setEmail(request.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHash);
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
         user.setDeleted(0);
@@ -83,12 +88,10 @@ public class AuthServiceImpl implements AuthService {
 
         // Generate tokens
         String accessToken = jwtTokenProvider.generateAccessToken(user.getId(), user.getUsername());
-        String refreshTokenValue = jwtTokenProvider.generateRefreshTokenValue();
-
-        // Save refresh token
-        saveRefreshToken(user.getId(), refreshTokenValue);
+        String refreshTokenValue = refreshTokenStore.issue(user.getId());
 
         UserResponse userResponse = toUserResponse(user);
+        userSearchIndex.index(userResponse);
         return new AuthResponse(accessToken, refreshTokenValue, userResponse);
     }
 
@@ -104,16 +107,21 @@ public class AuthServiceImpl implements AuthService {
         }
 
         // Check password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
             throw new BusinessException("Invalid username or password");
         }
 
+        // Transparently move the stored hash to the configured BCrypt cost
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            User rehashed = new User();
+            rehashed.setId(user.getId());
+            rehashed.setPasswordHash(passwordHasher.encode(request.getPassword()));
+            userMapper.updateById(rehashed);
+        }
+
         // Generate tokens
         String accessToken = jwtTokenProvider.generateAccessToken(user.getId(), user.getUsername());
-        String refreshTokenValue = jwtTokenProvider.generateRefreshTokenValue();
-
-        // Save refresh token
-        saveRefreshToken(user.getId(), refreshTokenValue);
+        String refreshTokenValue = refreshTokenStore.issue(user.getId());
 
         UserResponse userResponse = toUserResponse(user);
         return new AuthResponse(accessToken, refreshTokenValue, userResponse);
@@ -121,10 +129,8 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public AuthResponse refreshToken(RefreshTokenRequest request) {
-        // Find token in DB
-        LambdaQueryWrapper<RefreshToken> query = new LambdaQueryWrapper<>();
-        query.eq(RefreshToken::getToken, request.getRefreshToken());
-        RefreshToken refreshToken = refreshTokenMapper.selectOne(query);
+        // Find token by its hash
+        RefreshToken refreshToken = refreshTokenStore.find(request.getRefreshToken());
 
         if (refreshToken == null) {
             throw new BusinessException("Invalid refresh token");
@@ -155,26 +161,7 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void logout(RefreshTokenRequest request) {
-        // Find token
-        LambdaQueryWrapper<RefreshToken> query = new LambdaQueryWrapper<>();
-        query.eq(RefreshToken::getToken, request.getRefreshToken());
-        RefreshToken refreshToken = refreshTokenMapper.selectOne(query);
-
-        if (refreshToken != null) {
-            // Mark revoked
-            refreshToken.setIsRevoked(1);
-            refreshTokenMapper.updateById(refreshToken);
-        }
-    }
-
-    private void saveRefreshToken(Long userId, String tokenValue) {
-        RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setUserId(userId);
-        refreshToken.setToken(tokenValue);
-        refreshToken.setExpiresAt(LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenExpiration() / 1000));
-        refreshToken.setIsRevoked(0);
-        refreshToken.setCreatedAt(LocalDateTime.now());
-        refreshTokenMapper.insert(refreshToken);
+        refreshTokenStore.revoke(request.getRefreshToken());
     }
 
     private UserResponse toUserResponse(User user) {
@@ -6,25 +6,22 @@ import com.taskflow.dto.request.BoardColumnCreateRequest;
 import com.taskflow.dto.request.BoardColumnReorderRequest;
 import com.taskflow.dto.request.BoardColumnUpdateRequest;
 import com.taskflow.dto.request.BoardCreateRequest;
+import com.taskflow.dto.request.RankMoveRequest;
 import com.taskflow.dto.response.BoardColumnResponse;
 import com.taskflow.dto.response.BoardResponse;
-import com.taskflow.dto.response.SubtaskResponse;
 import com.taskflow.dto.response.TaskResponse;
-import com.taskflow.dto.response.UserResponse;
 import com.taskflow.entity.Board;
 import com.taskflow.entity.BoardColumn;
-import com.taskflow.entity.Comment;
-import com.taskflow.entity.Subtask;
 import com.taskflow.entity.Task;
-import com.taskflow.entity.User;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.BoardColumnMapper;
 import com.taskflow.mapper.BoardMapper;
-import com.taskflow.mapper.CommentMapper;
-import com.taskflow.mapper.SubtaskMapper;
 import com.taskflow.mapper.TaskMapper;
-import com.taskflow.mapper.UserMapper;
 import com.taskflow.service.BoardService;
+import com.taskflow.service.support.RankKey;
+import com.taskflow.service.support.RankOrdering;
+import com.taskflow.service.support.TaskFieldSet;
+import com.taskflow.service.support.TaskResponseAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,7 +29,10 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,9 +42,8 @@ public class BoardServiceImpl implements BoardService {
     private final BoardMapper boardMapper;
     private final BoardColumnMapper boardColumnMapper;
     private final TaskMapper taskMapper;
-    private final UserMapper userMapper;
-    private final SubtaskMapper subtaskMapper;
-    private final CommentMapper commentMapper;
+    private final TaskResponseAssembler taskResponseAssembler;
+    private final RankOrdering rankOrdering;
 
     @Override
     @Transactional
@@ -71,6 +70,7 @@ public class BoardServiceImpl implements BoardService {
             column.setName(defaultColumns[i][0]);
             column.setColor(defaultColumns[i][1]);
             column.setPosition(i);
+            column.setRankKey(RankKey.initial(i));
             column.setCreatedAt(LocalDateTime.now());
             column.setUpdatedAt(LocalDateTime.now());
             boardColumnMapper.insert(column);
@@ -81,6 +81,11 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public BoardResponse getBoard(Long id) {
+        return getBoard(id, TaskFieldSet.ALL);
+    }
+
+    @Override
+    public BoardResponse getBoard(Long id, TaskFieldSet fieldSet) {
         Board board = boardMapper.selectById(id);
         if (board == null) {
             throw new BusinessException("Board not found");
@@ -89,9 +94,25 @@ public class BoardServiceImpl implements BoardService {
         // Get columns with their tasks
         LambdaQueryWrapper<BoardColumn> columnQuery = new LambdaQueryWrapper<>();
         columnQuery.eq(BoardColumn::getBoardId, board.getId());
-        columnQuery.orderByAsc(BoardColumn::getPosition);
+        columnQuery.orderByAsc(BoardColumn::getRankKey, BoardColumn::getId);
         List<BoardColumn> columns = boardColumnMapper.selectList(columnQuery);
 
+        // Load every task on the board in one query and hydrate them as a single batch
+        Map<Long, List<TaskResponse>> tasksByColumn = new HashMap<>();
+        if (!columns.isEmpty()) {
+            List<Long> columnIds = columns.stream().map(BoardColumn::getId).collect(Collectors.toList());
+            LambdaQueryWrapper<Task> taskQuery = new LambdaQueryWrapper<>();
+            fieldSet.applyProjection(taskQuery);
+            taskQuery.in(Task::getBoardColumnId, columnIds);
+            taskQuery.orderByAsc(Task::getBoardColumnId, Task::getRankKey, Task::getId);
+            List<Task> tasks = taskMapper.selectList(taskQuery);
+            // Group by the entity's column, the response may not carry boardColumnId under ?fields=
+            List<TaskResponse> taskResponses = taskResponseAssembler.assemble(tasks, fieldSet);
+            for (int i = 0; i < tasks.size(); i++) {
+                tasksByColumn.computeIfAbsent(tasks.get(i).getBoardColumnId(), k -> new ArrayList<>()).add(taskResponses.get(i));
+            }
+        }
+
         List<BoardColumnResponse> columnResponses = columns.stream()
                 .map(col -> {
                     BoardColumnResponse colResponse = new BoardColumnResponse();
@@ -100,18 +121,9 @@ public class BoardServiceImpl implements BoardService {
                     colResponse.setName(col.getName());
                     colResponse.setColor(col.getColor());
                     colResponse.setPosition(col.getPosition());
+                    colResponse.setRankKey(col.getRankKey());
                     colResponse.setWipLimit(col.getWipLimit());
-
-                    // Fetch tasks for this column
-                    LambdaQueryWrapper<Task> taskQuery = new LambdaQueryWrapper<>();
-                    taskQuery.eq(Task::getBoardColumnId, col.getId());
-                    taskQuery.orderByAsc(Task::getPosition);
-                    List<Task> tasks = taskMapper.selectList(taskQuery);
-                    List<TaskResponse> taskResponses = tasks.stream()
-                            .map(this::buildTaskResponse)
-                            .collect(Collectors.toList());
-                    colResponse.setTasks(taskResponses);
-
+                    colResponse.setTasks(tasksByColumn.getOrDefault(col.getId(), new ArrayList<>()));
                     return colResponse;
                 })
                 .collect(Collectors.toList());
@@ -142,7 +154,7 @@ public class BoardServiceImpl implements BoardService {
             // Get columns without tasks for list view
             LambdaQueryWrapper<BoardColumn> columnQuery = new LambdaQueryWrapper<>();
             columnQuery.eq(BoardColumn::getBoardId, board.getId());
-            columnQuery.orderByAsc(BoardColumn::getPosition);
+            columnQuery.orderByAsc(BoardColumn::getRankKey, BoardColumn::getId);
             List<BoardColumn> columns = boardColumnMapper.selectList(columnQuery);
             List<BoardColumnResponse> columnResponses = columns.stream()
                     .map(col -> {
@@ -152,6 +164,7 @@ public class BoardServiceImpl implements BoardService {
                         colResp.setName(col.getName());
                         colResp.setColor(col.getColor());
                         colResp.setPosition(col.getPosition());
+                        colResp.setRankKey(col.getRankKey());
                         colResp.setWipLimit(col.getWipLimit());
                         colResp.setTasks(new ArrayList<>());
                         return colResp;
@@ -213,6 +226,7 @@ public class BoardServiceImpl implements BoardService {
         column.setColor(request.getColor());
         column.setWipLimit(request.getWipLimit());
         column.setPosition(nextPosition);
+        column.setRankKey(rankOrdering.columns().keyAtEnd(boardId));
         column.setCreatedAt(LocalDateTime.now());
         column.setUpdatedAt(LocalDateTime.now());
         boardColumnMapper.insert(column);
@@ -223,6 +237,7 @@ public class BoardServiceImpl implements BoardService {
         response.setName(column.getName());
         response.setColor(column.getColor());
         response.setPosition(column.getPosition());
+        response.setRankKey(column.getRankKey());
         response.setWipLimit(column.getWipLimit());
         response.setTasks(new ArrayList<>());
         return response;
@@ -254,6 +269,7 @@ public class BoardServiceImpl implements BoardService {
         response.setName(column.getName());
         response.setColor(column.getColor());
         response.setPosition(column.getPosition());
+        response.setRankKey(column.getRankKey());
         response.setWipLimit(column.getWipLimit());
         response.setTasks(new ArrayList<>());
         return response;
@@ -271,69 +287,39 @@ public class BoardServiceImpl implements BoardService {
     @Override
     @Transactional
     public void reorderColumns(Long boardId, BoardColumnReorderRequest request) {
-        for (BoardColumnReorderRequest.ColumnOrderItem item : request.getItems()) {
-            LambdaUpdateWrapper<BoardColumn> updateWrapper = new LambdaUpdateWrapper<>();
-            updateWrapper.eq(BoardColumn::getId, item.getId());
-            updateWrapper.eq(BoardColumn::getBoardId, boardId);
-            updateWrapper.set(BoardColumn::getPosition, item.getPosition());
-            updateWrapper.set(BoardColumn::getUpdatedAt, LocalDateTime.now());
-            boardColumnMapper.update(null, updateWrapper);
-        }
+        // The items carry a full ordering; only columns that fall out of sequence get a new key
+        List<Long> orderedIds = request.getItems().stream()
+                .sorted(Comparator.comparing(BoardColumnReorderRequest.ColumnOrderItem::getPosition))
+                .map(BoardColumnReorderRequest.ColumnOrderItem::getId)
+                .collect(Collectors.toList());
+        rankOrdering.columns().reorder(boardId, orderedIds);
     }
 
-    private TaskResponse buildTaskResponse(Task task) {
-        TaskResponse response = new TaskResponse();
-        response.setId(task.getId());
-        response.setWorkspaceId(task.getWorkspaceId());
-        response.setBoardColumnId(task.getBoardColumnId());
-        response.setTitle(task.getTitle());
-        response.setDescription(task.getDescription());
-        response.setPriority(task.getPriority());
-        response.setStatus(task.getStatus());
-        response.setStartDate(task.getStartDate());
-        response.setDueDate(task.getDueDate());
-        response.setProgress(task.getProgress());
-        response.setAssigneeId(task.getAssigneeId());
-        response.setCreatorId(task.getCreatorId());
-        response.setParentTaskId(task.getParentTaskId());
-        response.setPosition(task.getPosition());
-        response.setCreatedAt(task.getCreatedAt());
-        response.setUpdatedAt(task.getUpdatedAt());
-
-        // Fetch assignee
-        if (task.getAssigneeId() != null) {
-            User assignee = userMapper.selectById(task.getAssigneeId());
-            if (assignee != null) {
-                response.setAssignee(new UserResponse(
-                        assignee.getId(), assignee.getUsername(), assignee.getEmail(), assignee.getAvatarUrl()));
-            }
-        }
-
-        // Fetch creator
-        if (task.getCreatorId() != null) {
-            User creator = userMapper.selectById(task.getCreatorId());
-            if (creator != null) {
-                response.setCreator(new UserResponse(
-                        creator.getId(), creator.getUsername(), creator.getEmail(), creator.getAvatarUrl()));
-            }
+    @Override
+    @Transactional
+    public BoardColumnResponse moveColumnBetween(Long id, RankMoveRequest request) {
+        BoardColumn column = boardColumnMapper.selectById(id);
+        if (column == null) {
+            throw new BusinessException("Board column not found");
         }
+        column.setRankKey(rankOrdering.columns().keyBetween(
+                column.getBoardId(), id, request.getPreviousId(), request.getNextId()));
 
-        // Fetch subtasks
-        LambdaQueryWrapper<Subtask> subtaskQuery = new LambdaQueryWrapper<>();
-        subtaskQuery.eq(Subtask::getTaskId, task.getId());
-        subtaskQuery.orderByAsc(Subtask::getPosition);
-        List<Subtask> subtasks = subtaskMapper.selectList(subtaskQuery);
-        List<SubtaskResponse> subtaskResponses = subtasks.stream()
-                .map(s -> new SubtaskResponse(s.getId(), s.getTaskId(), s.getTitle(), s.getIsCompleted(), s.getPosition()))
-                .collect(Collectors.toList());
-        response.setSubtasks(subtaskResponses);
-
-        // Fetch comment count
-        LambdaQueryWrapper<Comment> commentQuery = new LambdaQueryWrapper<>();
-        commentQuery.eq(Comment::getTaskId, task.getId());
-        Long commentCount = commentMapper.selectCount(commentQuery);
-        response.setCommentCount(commentCount.intValue());
+        LambdaUpdateWrapper<BoardColumn> updateWrapper = new LambdaUpdateWrapper<>();
+        updateWrapper.eq(BoardColumn::getId, id);
+        updateWrapper.set(BoardColumn::getRankKey, column.getRankKey());
+        updateWrapper.set(BoardColumn::getUpdatedAt, LocalDateTime.now());
+        boardColumnMapper.update(null, updateWrapper);
 
+        BoardColumnResponse response = new BoardColumnResponse();
+        response.setId(column.getId());
+        response.setBoardId(column.getBoardId());
+        response.setName(column.getName());
+        response.setColor(column.getColor());
+        response.setPosition(column.getPosition());
+        response.setRankKey(column.getRankKey());
+        response.setWipLimit(column.getWipLimit());
+        response.setTasks(new ArrayList<>());
         return response;
     }
 }
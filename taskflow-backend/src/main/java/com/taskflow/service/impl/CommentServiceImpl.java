@@ -4,20 +4,26 @@ import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.taskflow.dto.request.CommentCreateRequest;
 import com.taskflow.dto.request.CommentUpdateRequest;
 import com.taskflow.dto.response.CommentResponse;
-import com.taskflow.dto.response.UserResponse;
 import com.taskflow.entity.Comment;
-import com.taskflow.entity.User;
+import com.taskflow.entity.Task;
+import com.taskflow.enums.NotificationType;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.CommentMapper;
-import com.taskflow.mapper.UserMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.notification.NotificationDispatcher;
+import com.taskflow.notification.NotificationEvent;
+import com.taskflow.search.TaskSearchIndexer;
 import com.taskflow.service.CommentService;
+import com.taskflow.service.support.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,7 +31,10 @@ import java.util.stream.Collectors;
 public class CommentServiceImpl implements CommentService {
 
     private final CommentMapper commentMapper;
-    private final UserMapper userMapper;
+    private final UserCache userCache;
+    private final TaskSearchIndexer taskSearchIndexer;
+    private final TaskMapper taskMapper;
+    private final NotificationDispatcher notificationDispatcher;
 
     @Override
     @Transactional
@@ -38,6 +47,8 @@ public class CommentServiceImpl implements CommentService {
         comment.setUpdatedAt(LocalDateTime.now());
         comment.setDeleted(0);
         commentMapper.insert(comment);
+        taskSearchIndexer.refreshTask(taskId);
+        notifyCommentAdded(taskId);
 
         return buildCommentResponse(comment);
     }
@@ -55,6 +66,7 @@ public class CommentServiceImpl implements CommentService {
         }
         comment.setUpdatedAt(LocalDateTime.now());
         commentMapper.updateById(comment);
+        taskSearchIndexer.refreshTask(comment.getTaskId());
 
         return buildCommentResponse(comment);
     }
@@ -66,6 +78,7 @@ public class CommentServiceImpl implements CommentService {
             throw new BusinessException("Comment not found");
         }
         commentMapper.deleteById(id);
+        taskSearchIndexer.refreshTask(comment.getTaskId());
     }
 
     @Override
@@ -74,9 +87,34 @@ public class CommentServiceImpl implements CommentService {
         query.eq(Comment::getTaskId, taskId);
         query.orderByAsc(Comment::getCreatedAt);
         List<Comment> comments = commentMapper.selectList(query);
+        // Warm the cache for all authors with one query before building each response
+        userCache.getAll(comments.stream().map(Comment::getUserId).collect(Collectors.toSet()));
         return comments.stream().map(this::buildCommentResponse).collect(Collectors.toList());
     }
 
+    // Tells the task's assignee and creator; the dispatcher skips whoever wrote the comment
+    private void notifyCommentAdded(Long taskId) {
+        LambdaQueryWrapper<Task> query = new LambdaQueryWrapper<>();
+        query.select(Task::getId, Task::getTitle, Task::getAssigneeId, Task::getCreatorId);
+        query.eq(Task::getId, taskId);
+        Task task = taskMapper.selectOne(query);
+        if (task == null) {
+            return;
+        }
+
+        Set<Long> recipients = new LinkedHashSet<>();
+        if (task.getAssigneeId() != null) {
+            recipients.add(task.getAssigneeId());
+        }
+        if (task.getCreatorId() != null) {
+            recipients.add(task.getCreatorId());
+        }
+        for (Long recipient : recipients) {
+            notificationDispatcher.publish(new NotificationEvent(recipient, NotificationType.COMMENT_ADDED,
+                    "New comment", "New comment on \"" + task.getTitle() + "\"", taskId));
+        }
+    }
+
     private CommentResponse buildCommentResponse(Comment comment) {
         CommentResponse response = new CommentResponse();
         response.setId(comment.getId());
@@ -86,11 +124,7 @@ public class CommentServiceImpl implements CommentService {
 
         // Fetch user
         if (comment.getUserId() != null) {
-            User user = userMapper.selectById(comment.getUserId());
-            if (user != null) {
-                response.setUser(new UserResponse(
-                        user.getId(), user.getUsername(), user.getEmail(), user.getAvatarUrl()));
-            }
+            response.setUser(userCache.get(comment.getUserId()));
         }
 
         return response;
@@ -2,15 +2,21 @@ package com.taskflow.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.taskflow.dto.response.NotificationPageResponse;
 import com.taskflow.dto.response.NotificationResponse;
 import com.taskflow.entity.Notification;
 import com.taskflow.mapper.NotificationMapper;
+import com.taskflow.mapper.NotificationReadMarkMapper;
+import com.taskflow.notification.NotificationEvent;
 import com.taskflow.service.NotificationService;
+import com.taskflow.service.support.NotificationCursor;
+import com.taskflow.service.support.NotificationReadState;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,7 +24,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int LEGACY_LIST_SIZE = 50;
+
     private final NotificationMapper notificationMapper;
+    private final NotificationReadMarkMapper notificationReadMarkMapper;
+    private final NotificationReadState notificationReadState;
 
     @Override
     @Transactional
@@ -32,53 +44,114 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setIsRead(0);
         notification.setCreatedAt(LocalDateTime.now());
         notificationMapper.insert(notification);
+        notificationReadState.onCreated(userId);
+    }
+
+    @Override
+    @Transactional
+    public List<NotificationResponse> createNotifications(List<NotificationEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(events.size());
+        for (NotificationEvent event : events) {
+            Notification notification = new Notification();
+            notification.setUserId(event.getUserId());
+            notification.setType(event.getType().name());
+            notification.setTitle(event.getTitle());
+            notification.setContent(event.getContent());
+            notification.setReferenceId(event.getReferenceId());
+            notification.setIsRead(0);
+            notification.setCreatedAt(now);
+            notifications.add(notification);
+        }
+        notificationMapper.insertAll(notifications);
+
+        List<NotificationResponse> responses = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            notificationReadState.onCreated(notification.getUserId());
+            responses.add(toNotificationResponse(notification, 0L));
+        }
+        return responses;
     }
 
     @Override
     public List<NotificationResponse> listNotifications(Long userId) {
+        return listInbox(userId, null, LEGACY_LIST_SIZE).getRecords();
+    }
+
+    // Keyset page over idx_notification_user_created, newest first; one extra row tells whether more exist
+    @Override
+    public NotificationPageResponse listInbox(Long userId, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
         LambdaQueryWrapper<Notification> query = new LambdaQueryWrapper<>();
         query.eq(Notification::getUserId, userId);
-        query.orderByDesc(Notification::getCreatedAt);
+        if (cursor != null && !cursor.isEmpty()) {
+            NotificationCursor position = NotificationCursor.decode(cursor);
+            query.and(w -> w.lt(Notification::getCreatedAt, position.getCreatedAt())
+                    .or(o -> o.eq(Notification::getCreatedAt, position.getCreatedAt())
+                            .lt(Notification::getId, position.getId())));
+        }
+        query.orderByDesc(Notification::getCreatedAt, Notification::getId);
+        query.last("LIMIT " + (pageSize + 1));
         List<Notification> notifications = notificationMapper.selectList(query);
 
-        return notifications.stream().map(this::toNotificationResponse).collect(Collectors.toList());
+        boolean hasMore = notifications.size() > pageSize;
+        if (hasMore) {
+            notifications = notifications.subList(0, pageSize);
+        }
+        String nextCursor = hasMore
+                ? NotificationCursor.after(notifications.get(notifications.size() - 1)).encode()
+                : null;
+
+        long lastReadId = notificationReadState.lastReadId(userId);
+        List<NotificationResponse> records = notifications.stream()
+                .map(n -> toNotificationResponse(n, lastReadId))
+                .collect(Collectors.toList());
+        return new NotificationPageResponse(records, hasMore, nextCursor);
     }
 
     @Override
     @Transactional
-    public void markAsRead(Long id) {
+    public void markAsRead(Long userId, Long id) {
+        // Only rows above the read mark need a per-row flag; the counter moves only if this call flipped it
         LambdaUpdateWrapper<Notification> updateWrapper = new LambdaUpdateWrapper<>();
         updateWrapper.eq(Notification::getId, id);
+        updateWrapper.eq(Notification::getUserId, userId);
+        updateWrapper.eq(Notification::getIsRead, 0);
+        updateWrapper.gt(Notification::getId, notificationReadState.lastReadId(userId));
         updateWrapper.set(Notification::getIsRead, 1);
-        notificationMapper.update(null, updateWrapper);
+        if (notificationMapper.update(null, updateWrapper) > 0) {
+            notificationReadState.onRead(userId);
+        }
     }
 
     @Override
     @Transactional
     public void markAllAsRead(Long userId) {
-        LambdaUpdateWrapper<Notification> updateWrapper = new LambdaUpdateWrapper<>();
-        updateWrapper.eq(Notification::getUserId, userId);
-        updateWrapper.eq(Notification::getIsRead, 0);
-        updateWrapper.set(Notification::getIsRead, 1);
-        notificationMapper.update(null, updateWrapper);
+        // Moves the user's read mark instead of flagging every unread row
+        Long maxId = notificationMapper.selectMaxId(userId);
+        long lastReadId = Math.max(maxId != null ? maxId : 0L, notificationReadState.lastReadId(userId));
+        if (maxId != null) {
+            notificationReadMarkMapper.advance(userId, maxId);
+        }
+        notificationReadState.onAllRead(userId, lastReadId);
     }
 
     @Override
     public long getUnreadCount(Long userId) {
-        LambdaQueryWrapper<Notification> query = new LambdaQueryWrapper<>();
-        query.eq(Notification::getUserId, userId);
-        query.eq(Notification::getIsRead, 0);
-        return notificationMapper.selectCount(query);
+        return notificationReadState.unreadCount(userId);
     }
 
-    private NotificationResponse toNotificationResponse(Notification notification) {
+    private NotificationResponse toNotificationResponse(Notification notification, long lastReadId) {
+        boolean read = (notification.getIsRead() != null && notification.getIsRead() == 1)
+                || notification.getId() <= lastReadId;
         return new NotificationResponse(
                 notification.getId(),
                 notification.getType(),
                 notification.getTitle(),
                 notification.getContent(),
                 notification.getReferenceId(),
-                notification.getIsRead(),
+                read ? 1 : 0,
                 notification.getCreatedAt()
         );
     }
@@ -2,6 +2,7 @@ package com.taskflow.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.taskflow.dto.request.RankMoveRequest;
 import com.taskflow.dto.request.SubtaskCreateRequest;
 import com.taskflow.dto.request.SubtaskReorderRequest;
 import com.taskflow.dto.request.SubtaskUpdateRequest;
@@ -10,13 +11,17 @@ import com.taskflow.entity.Subtask;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.SubtaskMapper;
 import com.taskflow.service.SubtaskService;
+import com.taskflow.service.support.RankOrdering;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +29,7 @@ import java.util.stream.Collectors;
 public class SubtaskServiceImpl implements SubtaskService {
 
     private final SubtaskMapper subtaskMapper;
+    private final RankOrdering rankOrdering;
 
     @Override
     @Transactional
@@ -41,6 +47,7 @@ public class SubtaskServiceImpl implements SubtaskService {
         subtask.setTitle(request.getTitle());
         subtask.setIsCompleted(0);
         subtask.setPosition(nextPosition);
+        subtask.setRankKey(rankOrdering.subtasks().keyAtEnd(taskId));
         subtask.setCreatedAt(LocalDateTime.now());
         subtask.setUpdatedAt(LocalDateTime.now());
         subtaskMapper.insert(subtask);
@@ -96,20 +103,50 @@ public class SubtaskServiceImpl implements SubtaskService {
     @Override
     @Transactional
     public void reorderSubtasks(SubtaskReorderRequest request) {
-        for (SubtaskReorderRequest.SubtaskOrderItem item : request.getItems()) {
-            LambdaUpdateWrapper<Subtask> updateWrapper = new LambdaUpdateWrapper<>();
-            updateWrapper.eq(Subtask::getId, item.getId());
-            updateWrapper.set(Subtask::getPosition, item.getPosition());
-            updateWrapper.set(Subtask::getUpdatedAt, LocalDateTime.now());
-            subtaskMapper.update(null, updateWrapper);
+        List<Long> orderedIds = request.getItems().stream()
+                .sorted(Comparator.comparing(SubtaskReorderRequest.SubtaskOrderItem::getPosition))
+                .map(SubtaskReorderRequest.SubtaskOrderItem::getId)
+                .collect(Collectors.toList());
+        if (orderedIds.isEmpty()) {
+            return;
         }
+
+        // The request carries no task id; resolve it, then let each list rewrite only out-of-order keys
+        LambdaQueryWrapper<Subtask> query = new LambdaQueryWrapper<>();
+        query.select(Subtask::getId, Subtask::getTaskId);
+        query.in(Subtask::getId, orderedIds);
+        Map<Long, Long> taskIds = subtaskMapper.selectList(query).stream()
+                .collect(Collectors.toMap(Subtask::getId, Subtask::getTaskId));
+        Map<Long, List<Long>> byTask = orderedIds.stream()
+                .filter(taskIds::containsKey)
+                .collect(Collectors.groupingBy(taskIds::get, LinkedHashMap::new, Collectors.toList()));
+        byTask.forEach((taskId, ids) -> rankOrdering.subtasks().reorder(taskId, ids));
+    }
+
+    @Override
+    @Transactional
+    public SubtaskResponse moveSubtaskBetween(Long id, RankMoveRequest request) {
+        Subtask subtask = subtaskMapper.selectById(id);
+        if (subtask == null) {
+            throw new BusinessException("Subtask not found");
+        }
+        subtask.setRankKey(rankOrdering.subtasks().keyBetween(
+                subtask.getTaskId(), id, request.getPreviousId(), request.getNextId()));
+
+        LambdaUpdateWrapper<Subtask> updateWrapper = new LambdaUpdateWrapper<>();
+        updateWrapper.eq(Subtask::getId, id);
+        updateWrapper.set(Subtask::getRankKey, subtask.getRankKey());
+        updateWrapper.set(Subtask::getUpdatedAt, LocalDateTime.now());
+        subtaskMapper.update(null, updateWrapper);
+
+        return toSubtaskResponse(subtask);
     }
 
     @Override
     public List<SubtaskResponse> listSubtasks(Long taskId) {
         LambdaQueryWrapper<Subtask> query = new LambdaQueryWrapper<>();
         query.eq(Subtask::getTaskId, taskId);
-        query.orderByAsc(Subtask::getPosition);
+        query.orderByAsc(Subtask::getRankKey, Subtask::getId);
         List<Subtask> subtasks = subtaskMapper.selectList(query);
         return subtasks.stream().map(this::toSubtaskResponse).collect(Collectors.toList());
     }
@@ -120,7 +157,8 @@ public class SubtaskServiceImpl implements SubtaskService {
                 subtask.getTaskId(),
                 subtask.getTitle(),
                 subtask.getIsCompleted(),
-                subtask.getPosition()
+                subtask.getPosition(),
+                subtask.getRankKey()
         );
     }
 }
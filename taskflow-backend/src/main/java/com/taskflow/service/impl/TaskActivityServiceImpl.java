@@ -2,12 +2,10 @@ package com.taskflow.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.taskflow.dto.response.TaskActivityResponse;
-import com.taskflow.dto.response.UserResponse;
 import com.taskflow.entity.TaskActivity;
-import com.taskflow.entity.User;
 import com.taskflow.mapper.TaskActivityMapper;
-import com.taskflow.mapper.UserMapper;
 import com.taskflow.service.TaskActivityService;
+import com.taskflow.service.support.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +19,7 @@ import java.util.stream.Collectors;
 public class TaskActivityServiceImpl implements TaskActivityService {
 
     private final TaskActivityMapper taskActivityMapper;
-    private final UserMapper userMapper;
+    private final UserCache userCache;
 
     @Override
     @Transactional
@@ -44,6 +42,7 @@ public class TaskActivityServiceImpl implements TaskActivityService {
         query.orderByDesc(TaskActivity::getCreatedAt);
         query.last("LIMIT 50");
         List<TaskActivity> activities = taskActivityMapper.selectList(query);
+        userCache.getAll(activities.stream().map(TaskActivity::getUserId).collect(Collectors.toSet()));
         return activities.stream().map(this::buildResponse).collect(Collectors.toList());
     }
 
@@ -58,11 +57,7 @@ public class TaskActivityServiceImpl implements TaskActivityService {
         response.setCreatedAt(activity.getCreatedAt());
 
         if (activity.getUserId() != null) {
-            User user = userMapper.selectById(activity.getUserId());
-            if (user != null) {
-                response.setUser(new UserResponse(
-                        user.getId(), user.getUsername(), user.getEmail(), user.getAvatarUrl()));
-            }
+            response.setUser(userCache.get(activity.getUserId()));
         }
 
         return response;
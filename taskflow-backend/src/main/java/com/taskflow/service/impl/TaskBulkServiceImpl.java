@@ -0,0 +1,208 @@
+package com.taskflow.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.taskflow.dto.request.TaskBulkUpdateRequest;
+import com.taskflow.dto.response.LabelResponse;
+import com.taskflow.dto.response.TaskBulkResultResponse;
+import com.taskflow.dto.response.TaskBulkUpdateResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskLabel;
+import com.taskflow.enums.NotificationType;
+import com.taskflow.enums.TaskPriority;
+import com.taskflow.enums.TaskStatus;
+import com.taskflow.exception.BusinessException;
+import com.taskflow.mapper.TaskLabelMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.notification.NotificationDispatcher;
+import com.taskflow.notification.NotificationEvent;
+import com.taskflow.service.TaskBulkService;
+import com.taskflow.service.support.RankKey;
+import com.taskflow.service.support.RankOrdering;
+import com.taskflow.service.support.TaskReferenceValidator;
+import com.taskflow.service.support.TaskResponseAssembler;
+import com.taskflow.websocket.TaskDeltaPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskBulkServiceImpl implements TaskBulkService {
+
+    private final TaskMapper taskMapper;
+    private final TaskLabelMapper taskLabelMapper;
+    private final TaskReferenceValidator taskReferenceValidator;
+    private final RankOrdering rankOrdering;
+    private final TaskDeltaPublisher taskDeltaPublisher;
+    private final NotificationDispatcher notificationDispatcher;
+    private final TaskResponseAssembler taskResponseAssembler;
+
+    @Override
+    @Transactional
+    public TaskBulkUpdateResponse bulkUpdate(Long workspaceId, TaskBulkUpdateRequest request) {
+        List<Long> addLabelIds = distinct(request.getAddLabelIds());
+        List<Long> removeLabelIds = distinct(request.getRemoveLabelIds());
+        boolean hasFieldUpdate = request.getStatus() != null || request.getPriority() != null
+                || request.getAssigneeId() != null || request.getBoardColumnId() != null;
+        if (!hasFieldUpdate && addLabelIds.isEmpty() && removeLabelIds.isEmpty()) {
+            throw new BusinessException("No bulk operation specified");
+        }
+        validate(workspaceId, request, addLabelIds, removeLabelIds);
+
+        // Keep the caller's order; it decides the order of moved cards
+        List<Long> requestedIds = distinct(request.getTaskIds());
+        LambdaQueryWrapper<Task> taskQuery = new LambdaQueryWrapper<>();
+        taskQuery.select(Task::getId);
+        taskQuery.eq(Task::getWorkspaceId, workspaceId);
+        taskQuery.in(Task::getId, requestedIds);
+        Set<Long> found = taskMapper.selectList(taskQuery).stream().map(Task::getId).collect(Collectors.toSet());
+        List<Long> taskIds = requestedIds.stream().filter(found::contains).collect(Collectors.toList());
+
+        if (!taskIds.isEmpty()) {
+            Map<Long, Map<String, Object>> changes = new LinkedHashMap<>();
+            for (Long taskId : taskIds) {
+                changes.put(taskId, new LinkedHashMap<>());
+            }
+            if (hasFieldUpdate) {
+                updateFields(taskIds, request, changes);
+            }
+            if (!addLabelIds.isEmpty() || !removeLabelIds.isEmpty()) {
+                updateLabels(taskIds, addLabelIds, removeLabelIds, changes);
+            }
+            // One delta per task, carrying both the field and the label changes
+            changes.forEach((taskId, taskChanges) -> taskDeltaPublisher.updated(workspaceId, taskId, taskChanges));
+        }
+
+        List<TaskBulkResultResponse> results = new ArrayList<>(requestedIds.size());
+        for (Long taskId : requestedIds) {
+            results.add(found.contains(taskId)
+                    ? new TaskBulkResultResponse(taskId, true, null)
+                    : new TaskBulkResultResponse(taskId, false, "Task not found"));
+        }
+        return new TaskBulkUpdateResponse(taskIds.size(), results);
+    }
+
+    private void updateFields(List<Long> taskIds, TaskBulkUpdateRequest request,
+                              Map<Long, Map<String, Object>> changes) {
+        List<Task> newlyAssigned = request.getAssigneeId() != null
+                ? newlyAssigned(taskIds, request.getAssigneeId()) : List.of();
+
+        LambdaUpdateWrapper<Task> update = new LambdaUpdateWrapper<>();
+        update.in(Task::getId, taskIds);
+        update.set(request.getStatus() != null, Task::getStatus, request.getStatus());
+        update.set(request.getPriority() != null, Task::getPriority, request.getPriority());
+        update.set(request.getAssigneeId() != null, Task::getAssigneeId, request.getAssigneeId());
+        Map<Long, String> rankKeys = Map.of();
+        if (request.getBoardColumnId() != null) {
+            rankKeys = rankKeys(taskIds, request.getBoardColumnId());
+            update.set(Task::getBoardColumnId, request.getBoardColumnId());
+            update.setSql("rank_key = " + rankCase(rankKeys));
+        }
+        update.set(Task::getUpdatedAt, LocalDateTime.now());
+        taskMapper.update(null, update);
+
+        for (Long taskId : taskIds) {
+            Map<String, Object> taskChanges = changes.get(taskId);
+            if (request.getStatus() != null) {
+                taskChanges.put("status", request.getStatus());
+            }
+            if (request.getPriority() != null) {
+                taskChanges.put("priority", request.getPriority());
+            }
+            if (request.getAssigneeId() != null) {
+                taskChanges.put("assigneeId", request.getAssigneeId());
+            }
+            if (request.getBoardColumnId() != null) {
+                taskChanges.put("boardColumnId", request.getBoardColumnId());
+                taskChanges.put("rankKey", rankKeys.get(taskId));
+            }
+        }
+        for (Task task : newlyAssigned) {
+            notificationDispatcher.publish(new NotificationEvent(request.getAssigneeId(), NotificationType.TASK_ASSIGNED,
+                    "Task assigned", "You have been assigned to \"" + task.getTitle() + "\"", task.getId()));
+        }
+    }
+
+    // Clients replace the whole label list, so each task's delta carries its labels as they are after the change
+    private void updateLabels(List<Long> taskIds, List<Long> addLabelIds, List<Long> removeLabelIds,
+                              Map<Long, Map<String, Object>> changes) {
+        if (!addLabelIds.isEmpty()) {
+            taskLabelMapper.insertIgnoreAll(taskIds, addLabelIds);
+        }
+        if (!removeLabelIds.isEmpty()) {
+            LambdaQueryWrapper<TaskLabel> removeQuery = new LambdaQueryWrapper<>();
+            removeQuery.in(TaskLabel::getTaskId, taskIds);
+            removeQuery.in(TaskLabel::getLabelId, removeLabelIds);
+            taskLabelMapper.delete(removeQuery);
+        }
+        Map<Long, List<LabelResponse>> labels = taskResponseAssembler.labelsOf(taskIds);
+        for (Long taskId : taskIds) {
+            changes.get(taskId).put("labels", labels.get(taskId));
+        }
+    }
+
+    // Tasks that are not yet assigned to the user; re-assigning to the current assignee sends nothing
+    private List<Task> newlyAssigned(List<Long> taskIds, Long assigneeId) {
+        LambdaQueryWrapper<Task> query = new LambdaQueryWrapper<>();
+        query.select(Task::getId, Task::getTitle);
+        query.in(Task::getId, taskIds);
+        query.and(w -> w.ne(Task::getAssigneeId, assigneeId).or().isNull(Task::getAssigneeId));
+        return taskMapper.selectList(query);
+    }
+
+    // Consecutive keys after the column's last card, in the caller's order
+    private Map<Long, String> rankKeys(List<Long> taskIds, Long boardColumnId) {
+        Map<Long, String> keys = new LinkedHashMap<>();
+        String key = rankOrdering.tasks().keyAtEnd(boardColumnId);
+        for (Long taskId : taskIds) {
+            keys.put(taskId, key);
+            key = RankKey.between(key, null);
+        }
+        return keys;
+    }
+
+    // CASE id WHEN ... THEN '...' END; ids are numbers and rank keys are [0-9a-z], never user text
+    private String rankCase(Map<Long, String> rankKeys) {
+        StringBuilder sql = new StringBuilder("CASE id");
+        rankKeys.forEach((taskId, key) ->
+                sql.append(" WHEN ").append(taskId.longValue()).append(" THEN '").append(key).append("'"));
+        return sql.append(" END").toString();
+    }
+
+    private void validate(Long workspaceId, TaskBulkUpdateRequest request,
+                          List<Long> addLabelIds, List<Long> removeLabelIds) {
+        if (request.getStatus() != null && !isEnumValue(TaskStatus.class, request.getStatus())) {
+            throw new BusinessException("Invalid status: " + request.getStatus());
+        }
+        if (request.getPriority() != null && !isEnumValue(TaskPriority.class, request.getPriority())) {
+            throw new BusinessException("Invalid priority: " + request.getPriority());
+        }
+        taskReferenceValidator.requireAssignee(workspaceId, request.getAssigneeId());
+        taskReferenceValidator.requireColumn(workspaceId, request.getBoardColumnId());
+        Set<Long> labelIds = new LinkedHashSet<>(addLabelIds);
+        labelIds.addAll(removeLabelIds);
+        taskReferenceValidator.requireLabels(workspaceId, labelIds);
+    }
+
+    private <E extends Enum<E>> boolean isEnumValue(Class<E> type, String value) {
+        return Arrays.stream(type.getEnumConstants()).anyMatch(e -> e.name().equals(value));
+    }
+
+    private List<Long> distinct(List<Long> ids) {
+        return ids != null
+                ? ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList())
+                : new ArrayList<>();
+    }
+}
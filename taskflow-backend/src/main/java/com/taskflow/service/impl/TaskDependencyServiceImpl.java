@@ -2,28 +2,32 @@ package com.taskflow.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.taskflow.dto.request.TaskDependencyCreateRequest;
-import com.taskflow.dto.response.SubtaskResponse;
 import com.taskflow.dto.response.TaskResponse;
-import com.taskflow.dto.response.UserResponse;
-import com.taskflow.entity.Comment;
-import com.taskflow.entity.Subtask;
 import com.taskflow.entity.Task;
 import com.taskflow.entity.TaskDependency;
-import com.taskflow.entity.User;
+import com.taskflow.enums.DependencyType;
+import com.taskflow.enums.TaskStatus;
 import com.taskflow.exception.BusinessException;
-import com.taskflow.mapper.CommentMapper;
-import com.taskflow.mapper.SubtaskMapper;
+import com.taskflow.graph.DependencyGraph;
+import com.taskflow.graph.DependencyGraphRegistry;
+import com.taskflow.graph.ScheduleEngine;
 import com.taskflow.mapper.TaskDependencyMapper;
 import com.taskflow.mapper.TaskMapper;
-import com.taskflow.mapper.UserMapper;
+import com.taskflow.mapper.WorkspaceMapper;
 import com.taskflow.service.TaskDependencyService;
+import com.taskflow.service.support.TaskResponseAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,27 +36,64 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
 
     private final TaskDependencyMapper taskDependencyMapper;
     private final TaskMapper taskMapper;
-    private final UserMapper userMapper;
-    private final SubtaskMapper subtaskMapper;
-    private final CommentMapper commentMapper;
+    private final WorkspaceMapper workspaceMapper;
+    private final TaskResponseAssembler taskResponseAssembler;
+    private final DependencyGraphRegistry dependencyGraphRegistry;
+    private final ScheduleEngine scheduleEngine;
 
     @Override
     @Transactional
     public void addDependency(Long taskId, TaskDependencyCreateRequest request) {
+        Long predecessorId = request.getPredecessorTaskId();
         Long successorId = request.getSuccessorTaskId() != null ? request.getSuccessorTaskId() : taskId;
+        if (predecessorId.equals(successorId)) {
+            throw new BusinessException("A task cannot depend on itself");
+        }
+        // The path task is the one the caller was authorized for, so it has to be one end of the edge
+        if (!taskId.equals(predecessorId) && !taskId.equals(successorId)) {
+            throw new BusinessException("The dependency must involve this task");
+        }
+
+        DependencyType type = request.getDependencyType() != null
+                ? DependencyType.fromValue(request.getDependencyType()) : DependencyType.FINISH_TO_START;
+        if (type == null) {
+            throw new BusinessException("Invalid dependency type");
+        }
+
+        Task predecessor = taskMapper.selectById(predecessorId);
+        Task successor = taskMapper.selectById(successorId);
+        if (predecessor == null || successor == null) {
+            throw new BusinessException("Task not found");
+        }
+        if (!predecessor.getWorkspaceId().equals(successor.getWorkspaceId())) {
+            throw new BusinessException("Task not found");
+        }
+
+        // Dependency writes on one workspace queue up here, whichever node they run on, and check for a cycle against
+        // the committed edges; a cached graph can miss an edge just added elsewhere
+        Long workspaceId = successor.getWorkspaceId();
+        workspaceMapper.lockById(workspaceId);
+        DependencyGraph graph = dependencyGraphRegistry.loadForWrite(workspaceId);
 
         // Check for duplicate dependency
         LambdaQueryWrapper<TaskDependency> query = new LambdaQueryWrapper<>();
-        query.eq(TaskDependency::getPredecessorTaskId, request.getPredecessorTaskId());
+        query.eq(TaskDependency::getPredecessorTaskId, predecessorId);
         query.eq(TaskDependency::getSuccessorTaskId, successorId);
         if (taskDependencyMapper.selectCount(query) > 0) {
             throw new BusinessException("This dependency already exists");
         }
 
+        if (!graph.addEdge(predecessorId, successorId, type)) {
+            throw new BusinessException("This dependency would create a cycle");
+        }
+        scheduleEngine.invalidate(workspaceId);
+        evictOnRollback(workspaceId);
+        dependencyGraphRegistry.changed(workspaceId);
+
         TaskDependency dependency = new TaskDependency();
-        dependency.setPredecessorTaskId(request.getPredecessorTaskId());
+        dependency.setPredecessorTaskId(predecessorId);
         dependency.setSuccessorTaskId(successorId);
-        dependency.setDependencyType(request.getDependencyType() != null ? request.getDependencyType() : "FINISH_TO_START");
+        dependency.setDependencyType(type.name());
         dependency.setCreatedAt(LocalDateTime.now());
         taskDependencyMapper.insert(dependency);
     }
@@ -60,6 +101,15 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
     @Override
     @Transactional
     public void removeDependency(Long taskId, Long predecessorId, Long successorId) {
+        if (!taskId.equals(predecessorId) && !taskId.equals(successorId)) {
+            throw new BusinessException("Dependency not found");
+        }
+        Long workspaceId = getTask(taskId).getWorkspaceId();
+        Task other = taskMapper.selectById(taskId.equals(predecessorId) ? successorId : predecessorId);
+        if (other == null || !workspaceId.equals(other.getWorkspaceId())) {
+            throw new BusinessException("Dependency not found");
+        }
+
         LambdaQueryWrapper<TaskDependency> query = new LambdaQueryWrapper<>();
         query.eq(TaskDependency::getPredecessorTaskId, predecessorId);
         query.eq(TaskDependency::getSuccessorTaskId, successorId);
@@ -67,83 +117,118 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         if (deleted == 0) {
             throw new BusinessException("Dependency not found");
         }
+
+        dependencyGraphRegistry.get(workspaceId).removeEdge(predecessorId, successorId);
+        scheduleEngine.invalidate(workspaceId);
+        evictOnRollback(workspaceId);
+        dependencyGraphRegistry.changed(workspaceId);
     }
 
     @Override
     public List<TaskResponse> getDependencies(Long taskId) {
-        // Get all dependencies where this task is the successor (predecessor tasks)
-        LambdaQueryWrapper<TaskDependency> query = new LambdaQueryWrapper<>();
-        query.eq(TaskDependency::getSuccessorTaskId, taskId);
-        List<TaskDependency> dependencies = taskDependencyMapper.selectList(query);
+        Task task = getTask(taskId);
+        return loadTasks(dependencyGraphRegistry.get(task.getWorkspaceId()).predecessors(taskId));
+    }
 
-        if (dependencies.isEmpty()) {
-            return new ArrayList<>();
-        }
+    @Override
+    public List<TaskResponse> getTransitivePredecessors(Long taskId) {
+        Task task = getTask(taskId);
+        return loadTasks(dependencyGraphRegistry.get(task.getWorkspaceId()).transitivePredecessors(taskId));
+    }
+
+    @Override
+    public List<TaskResponse> getTransitiveSuccessors(Long taskId) {
+        Task task = getTask(taskId);
+        return loadTasks(dependencyGraphRegistry.get(task.getWorkspaceId()).transitiveSuccessors(taskId));
+    }
 
-        List<Long> predecessorIds = dependencies.stream()
-                .map(TaskDependency::getPredecessorTaskId)
+    @Override
+    public List<Long> getTopologicalOrder(Long workspaceId) {
+        return Arrays.stream(dependencyGraphRegistry.get(workspaceId).topologicalOrder())
+                .boxed()
                 .collect(Collectors.toList());
+    }
 
-        LambdaQueryWrapper<Task> taskQuery = new LambdaQueryWrapper<>();
-        taskQuery.in(Task::getId, predecessorIds);
-        List<Task> tasks = taskMapper.selectList(taskQuery);
+    @Override
+    public List<TaskResponse> getBlockedTasks(Long workspaceId) {
+        DependencyGraph graph = dependencyGraphRegistry.get(workspaceId);
+        long[] nodeIds = graph.nodeIds();
+        if (nodeIds.length == 0) {
+            return new ArrayList<>();
+        }
 
-        return tasks.stream().map(this::buildTaskResponse).collect(Collectors.toList());
-    }
+        Map<Long, Task> tasks = taskMapper.selectBatchIds(toList(nodeIds)).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
 
-    private TaskResponse buildTaskResponse(Task task) {
-        TaskResponse response = new TaskResponse();
-        response.setId(task.getId());
-        response.setWorkspaceId(task.getWorkspaceId());
-        response.setBoardColumnId(task.getBoardColumnId());
-        response.setTitle(task.getTitle());
-        response.setDescription(task.getDescription());
-        response.setPriority(task.getPriority());
-        response.setStatus(task.getStatus());
-        response.setStartDate(task.getStartDate());
-        response.setDueDate(task.getDueDate());
-        response.setProgress(task.getProgress());
-        response.setAssigneeId(task.getAssigneeId());
-        response.setCreatorId(task.getCreatorId());
-        response.setParentTaskId(task.getParentTaskId());
-        response.setPosition(task.getPosition());
-        response.setCreatedAt(task.getCreatedAt());
-        response.setUpdatedAt(task.getUpdatedAt());
-
-        // Fetch assignee
-        if (task.getAssigneeId() != null) {
-            User assignee = userMapper.selectById(task.getAssigneeId());
-            if (assignee != null) {
-                response.setAssignee(new UserResponse(
-                        assignee.getId(), assignee.getUsername(), assignee.getEmail(), assignee.getAvatarUrl()));
+        // A task is blocked while a finish-to-start predecessor is unfinished
+        // or a start-to-start predecessor has not started
+        List<Task> blocked = new ArrayList<>();
+        for (Task task : tasks.values()) {
+            if (isClosed(task.getStatus())) {
+                continue;
+            }
+            for (DependencyGraph.Edge edge : graph.incomingEdges(task.getId())) {
+                Task predecessor = tasks.get(edge.getPredecessorId());
+                if (predecessor != null && blocks(edge.getType(), predecessor.getStatus())) {
+                    blocked.add(task);
+                    break;
+                }
             }
         }
+        blocked.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        return taskResponseAssembler.assemble(blocked);
+    }
 
-        // Fetch creator
-        if (task.getCreatorId() != null) {
-            User creator = userMapper.selectById(task.getCreatorId());
-            if (creator != null) {
-                response.setCreator(new UserResponse(
-                        creator.getId(), creator.getUsername(), creator.getEmail(), creator.getAvatarUrl()));
-            }
+    private boolean blocks(DependencyType type, String predecessorStatus) {
+        switch (type) {
+            case FINISH_TO_START:
+                return !isClosed(predecessorStatus);
+            case START_TO_START:
+                return TaskStatus.TODO.name().equals(predecessorStatus);
+            default:
+                return false;
         }
+    }
 
-        // Fetch subtasks
-        LambdaQueryWrapper<Subtask> subtaskQuery = new LambdaQueryWrapper<>();
-        subtaskQuery.eq(Subtask::getTaskId, task.getId());
-        subtaskQuery.orderByAsc(Subtask::getPosition);
-        List<Subtask> subtasks = subtaskMapper.selectList(subtaskQuery);
-        List<SubtaskResponse> subtaskResponses = subtasks.stream()
-                .map(s -> new SubtaskResponse(s.getId(), s.getTaskId(), s.getTitle(), s.getIsCompleted(), s.getPosition()))
-                .collect(Collectors.toList());
-        response.setSubtasks(subtaskResponses);
+    private boolean isClosed(String status) {
+        return TaskStatus.DONE.name().equals(status) || TaskStatus.CANCELLED.name().equals(status);
+    }
+
+    private Task getTask(Long taskId) {
+        Task task = taskMapper.selectById(taskId);
+        if (task == null) {
+            throw new BusinessException("Task not found");
+        }
+        return task;
+    }
+
+    private List<TaskResponse> loadTasks(long[] taskIds) {
+        if (taskIds.length == 0) {
+            return new ArrayList<>();
+        }
+        LambdaQueryWrapper<Task> taskQuery = new LambdaQueryWrapper<>();
+        taskQuery.in(Task::getId, toList(taskIds));
+        taskQuery.orderByAsc(Task::getId);
+        return taskResponseAssembler.assemble(taskMapper.selectList(taskQuery));
+    }
 
-        // Fetch comment count
-        LambdaQueryWrapper<Comment> commentQuery = new LambdaQueryWrapper<>();
-        commentQuery.eq(Comment::getTaskId, task.getId());
-        Long commentCount = commentMapper.selectCount(commentQuery);
-        response.setCommentCount(commentCount.intValue());
+    private List<Long> toList(long[] ids) {
+        return Arrays.stream(ids).boxed().collect(Collectors.toList());
+    }
 
-        return response;
+    // The graph is updated before commit; drop it on rollback so it reloads from the table
+    private void evictOnRollback(Long workspaceId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    dependencyGraphRegistry.evict(workspaceId);
+                    scheduleEngine.invalidate(workspaceId);
+                }
+            }
+        });
     }
 }
@@ -0,0 +1,212 @@
+package com.taskflow.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.dto.response.LabelResponse;
+import com.taskflow.dto.response.TaskResponse;
+import com.taskflow.dto.response.UserResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.exception.BusinessException;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.service.TaskExportService;
+import com.taskflow.service.support.DataFormat;
+import com.taskflow.service.support.TaskFieldSet;
+import com.taskflow.service.support.TaskResponseAssembler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "id", "workspaceId", "boardColumnId", "title", "description", "priority", "status",
+            "startDate", "dueDate", "progress", "assigneeId", "creatorId", "parentTaskId", "position",
+            "createdAt", "updatedAt");
+
+    private final TaskMapper taskMapper;
+    private final TaskResponseAssembler taskResponseAssembler;
+    private final ObjectMapper objectMapper;
+
+    // Upper bound on one download; the streaming query is aborted by the server after this long
+    @Value("${taskflow.export.max-duration:300000}")
+    private long maxDurationMillis;
+
+    // Each running export holds a pooled connection for its whole download, at the pace of the client
+    @Value("${taskflow.export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    private Semaphore running;
+
+    @PostConstruct
+    public void start() {
+        running = new Semaphore(maxConcurrent);
+    }
+
+    // Not @Transactional on purpose: the streaming result set pins its connection, so the
+    // per-chunk relation lookups have to run on other pooled connections. Concurrent exports are capped so
+    // slow downloads cannot take the pool away from regular requests.
+    @Override
+    public void exportTasks(Long workspaceId, DataFormat format, TaskFieldSet fieldSet, OutputStream outputStream)
+            throws IOException {
+        if (!running.tryAcquire()) {
+            throw new BusinessException(503, "Too many exports in progress, please try again shortly");
+        }
+        try {
+            streamTasks(workspaceId, format, fieldSet, outputStream);
+        } finally {
+            running.release();
+        }
+    }
+
+    private void streamTasks(Long workspaceId, DataFormat format, TaskFieldSet fieldSet, OutputStream outputStream)
+            throws IOException {
+        LambdaQueryWrapper<Task> query = new LambdaQueryWrapper<>();
+        query.select(Task.class, info -> fieldSet.needsDescription() || !"description".equals(info.getProperty()));
+        query.eq(Task::getWorkspaceId, workspaceId);
+        query.eq(Task::getDeleted, 0);
+        query.orderByAsc(Task::getId);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        List<String> columns = format == DataFormat.CSV ? csvColumns(fieldSet) : null;
+        if (columns != null) {
+            writeCsvRow(writer, columns);
+        }
+
+        // Only one chunk of entities and responses is alive at a time
+        List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+        try {
+            taskMapper.streamTasks(query, maxDurationMillis, context -> {
+                chunk.add(context.getResultObject());
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(writer, chunk, fieldSet, columns);
+                    chunk.clear();
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writeChunk(writer, chunk, fieldSet, columns);
+        writer.flush();
+    }
+
+    private void writeChunk(Writer writer, List<Task> chunk, TaskFieldSet fieldSet, List<String> columns) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            for (TaskResponse response : taskResponseAssembler.assemble(chunk, fieldSet)) {
+                if (columns != null) {
+                    writeCsvRow(writer, csvValues(response, columns));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(response));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> csvColumns(TaskFieldSet fieldSet) {
+        List<String> columns = CSV_COLUMNS.stream().filter(fieldSet::hasField).collect(Collectors.toList());
+        for (String relation : List.of(TaskFieldSet.ASSIGNEE, TaskFieldSet.CREATOR, TaskFieldSet.LABELS,
+                TaskFieldSet.SUBTASKS, TaskFieldSet.COMMENT_COUNT)) {
+            if (fieldSet.includes(relation)) {
+                columns.add(relation);
+            }
+        }
+        return columns;
+    }
+
+    private List<String> csvValues(TaskResponse task, List<String> columns) {
+        List<String> values = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            values.add(csvValue(task, column));
+        }
+        return values;
+    }
+
+    private String csvValue(TaskResponse task, String column) {
+        switch (column) {
+            case "id": return str(task.getId());
+            case "workspaceId": return str(task.getWorkspaceId());
+            case "boardColumnId": return str(task.getBoardColumnId());
+            case "title": return text(task.getTitle());
+            case "description": return text(task.getDescription());
+            case "priority": return str(task.getPriority());
+            case "status": return str(task.getStatus());
+            case "startDate": return str(task.getStartDate());
+            case "dueDate": return str(task.getDueDate());
+            case "progress": return str(task.getProgress());
+            case "assigneeId": return str(task.getAssigneeId());
+            case "creatorId": return str(task.getCreatorId());
+            case "parentTaskId": return str(task.getParentTaskId());
+            case "position": return str(task.getPosition());
+            case "createdAt": return str(task.getCreatedAt());
+            case "updatedAt": return str(task.getUpdatedAt());
+            case TaskFieldSet.ASSIGNEE: return username(task.getAssignee());
+            case TaskFieldSet.CREATOR: return username(task.getCreator());
+            case TaskFieldSet.LABELS:
+                return task.getLabels() == null ? "" : text(task.getLabels().stream()
+                        .map(LabelResponse::getName)
+                        .collect(Collectors.joining("|")));
+            case TaskFieldSet.SUBTASKS: return str(task.getSubtasks() == null ? null : task.getSubtasks().size());
+            case TaskFieldSet.COMMENT_COUNT: return str(task.getCommentCount());
+            default: return "";
+        }
+    }
+
+    private String username(UserResponse user) {
+        return user != null ? text(user.getUsername()) : "";
+    }
+
+    private String str(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    // Neutralises spreadsheet formulas in user-entered text
+    private String text(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' ? "'" + value : value;
+    }
+
+    private void writeCsvRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values.get(i);
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
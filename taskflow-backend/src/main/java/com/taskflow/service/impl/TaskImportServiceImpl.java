@@ -0,0 +1,480 @@
+package com.taskflow.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.dto.request.TaskImportRow;
+import com.taskflow.dto.response.TaskImportChunkResponse;
+import com.taskflow.dto.response.TaskImportErrorResponse;
+import com.taskflow.dto.response.TaskImportResponse;
+import com.taskflow.entity.Board;
+import com.taskflow.entity.BoardColumn;
+import com.taskflow.entity.Label;
+import com.taskflow.entity.Subtask;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskLabel;
+import com.taskflow.entity.WorkspaceMember;
+import com.taskflow.enums.TaskPriority;
+import com.taskflow.enums.TaskStatus;
+import com.taskflow.exception.BusinessException;
+import com.taskflow.graph.ScheduleEngine;
+import com.taskflow.mapper.BoardColumnMapper;
+import com.taskflow.mapper.BoardMapper;
+import com.taskflow.mapper.LabelMapper;
+import com.taskflow.mapper.SubtaskMapper;
+import com.taskflow.mapper.TaskLabelMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.mapper.WorkspaceMemberMapper;
+import com.taskflow.search.TaskSearchIndexer;
+import com.taskflow.service.TaskImportService;
+import com.taskflow.service.support.CsvReader;
+import com.taskflow.service.support.DataFormat;
+import com.taskflow.service.support.RankKey;
+import com.taskflow.service.support.RankOrdering;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final int MAX_CHUNK_SIZE = 5000;
+    private static final int MAX_ERRORS_PER_CHUNK = 50;
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskMapper taskMapper;
+    private final BoardMapper boardMapper;
+    private final BoardColumnMapper boardColumnMapper;
+    private final LabelMapper labelMapper;
+    private final WorkspaceMemberMapper workspaceMemberMapper;
+    private final TaskSearchIndexer taskSearchIndexer;
+    private final ScheduleEngine scheduleEngine;
+    private final RankOrdering rankOrdering;
+
+    @Value("${taskflow.import.chunk-size:1000}")
+    private int defaultChunkSize;
+
+    // Workspace lookups resolved once per import
+    private static final class ImportContext {
+        private final Long workspaceId;
+        private final Long creatorId;
+        private final Set<Long> memberIds;
+        private final Set<Long> columnIds;
+        private final Map<String, Long> labelIds;
+        private final SqlSessionTemplate batchSession;
+        // Last rank key handed out per board column, so rows append in file order
+        private final Map<Long, String> lastRankKeys = new HashMap<>();
+
+        private ImportContext(Long workspaceId, Long creatorId, Set<Long> memberIds, Set<Long> columnIds,
+                              Map<String, Long> labelIds, SqlSessionTemplate batchSession) {
+            this.workspaceId = workspaceId;
+            this.creatorId = creatorId;
+            this.memberIds = memberIds;
+            this.columnIds = columnIds;
+            this.labelIds = labelIds;
+            this.batchSession = batchSession;
+        }
+    }
+
+    private static final class ParsedRow {
+        private final int rowNumber;
+        private final TaskImportRow row;
+        private final String error;
+
+        private ParsedRow(int rowNumber, TaskImportRow row, String error) {
+            this.rowNumber = rowNumber;
+            this.row = row;
+            this.error = error;
+        }
+    }
+
+    private static final class PreparedTask {
+        private final Task task;
+        private final List<String> subtasks;
+        private final List<Long> labelIds;
+
+        private PreparedTask(Task task, List<String> subtasks, List<Long> labelIds) {
+            this.task = task;
+            this.subtasks = subtasks;
+            this.labelIds = labelIds;
+        }
+    }
+
+    // Not @Transactional: every chunk commits on its own so a bad chunk does not undo earlier ones
+    @Override
+    public TaskImportResponse importTasks(Long workspaceId, DataFormat format, Integer chunkSize,
+                                          InputStream inputStream, Long creatorId) throws IOException {
+        int size = chunkSize != null ? chunkSize : defaultChunkSize;
+        if (size < 1 || size > MAX_CHUNK_SIZE) {
+            throw new BusinessException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+
+        ImportContext context = loadContext(workspaceId, creatorId);
+        TaskImportResponse response = new TaskImportResponse();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        RowSource source = format == DataFormat.CSV ? csvSource(reader) : ndjsonSource(reader);
+        List<ParsedRow> chunk = new ArrayList<>(size);
+        ParsedRow parsed;
+        while ((parsed = source.next()) != null) {
+            chunk.add(parsed);
+            if (chunk.size() == size) {
+                importChunk(context, chunk, response);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(context, chunk, response);
+        }
+
+        if (response.getImportedRows() > 0) {
+            scheduleEngine.changed(workspaceId);
+        }
+        return response;
+    }
+
+    private ImportContext loadContext(Long workspaceId, Long creatorId) {
+        LambdaQueryWrapper<WorkspaceMember> memberQuery = new LambdaQueryWrapper<>();
+        memberQuery.select(WorkspaceMember::getUserId);
+        memberQuery.eq(WorkspaceMember::getWorkspaceId, workspaceId);
+        Set<Long> memberIds = workspaceMemberMapper.selectList(memberQuery).stream()
+                .map(WorkspaceMember::getUserId)
+                .collect(Collectors.toSet());
+
+        LambdaQueryWrapper<Board> boardQuery = new LambdaQueryWrapper<>();
+        boardQuery.select(Board::getId);
+        boardQuery.eq(Board::getWorkspaceId, workspaceId);
+        List<Long> boardIds = boardMapper.selectList(boardQuery).stream()
+                .map(Board::getId)
+                .collect(Collectors.toList());
+        Set<Long> columnIds = new HashSet<>();
+        if (!boardIds.isEmpty()) {
+            LambdaQueryWrapper<BoardColumn> columnQuery = new LambdaQueryWrapper<>();
+            columnQuery.select(BoardColumn::getId);
+            columnQuery.in(BoardColumn::getBoardId, boardIds);
+            boardColumnMapper.selectList(columnQuery).forEach(c -> columnIds.add(c.getId()));
+        }
+
+        LambdaQueryWrapper<Label> labelQuery = new LambdaQueryWrapper<>();
+        labelQuery.select(Label::getId, Label::getName);
+        labelQuery.eq(Label::getWorkspaceId, workspaceId);
+        Map<String, Long> labelIds = new HashMap<>();
+        labelMapper.selectList(labelQuery).forEach(l -> labelIds.put(l.getName().toLowerCase(), l.getId()));
+
+        return new ImportContext(workspaceId, creatorId, memberIds, columnIds, labelIds,
+                new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH));
+    }
+
+    private void importChunk(ImportContext context, List<ParsedRow> rows, TaskImportResponse response) {
+        TaskImportChunkResponse result = new TaskImportChunkResponse();
+        result.setChunk(response.getChunks().size() + 1);
+        result.setFirstRow(rows.get(0).rowNumber);
+        result.setLastRow(rows.get(rows.size() - 1).rowNumber);
+
+        Set<Long> parentIds = loadParentIds(context.workspaceId, rows);
+        List<PreparedTask> prepared = new ArrayList<>(rows.size());
+        for (ParsedRow row : rows) {
+            String error = row.error != null ? row.error : validate(context, row.row, parentIds);
+            if (error != null) {
+                addError(result, row.rowNumber, error);
+            } else {
+                prepared.add(prepare(context, row.row));
+            }
+        }
+
+        if (!prepared.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeChunk(context.batchSession, prepared));
+                result.setImported(prepared.size());
+                prepared.forEach(p -> taskSearchIndexer.indexNewTask(p.task));
+            } catch (RuntimeException e) {
+                log.warn("Task import chunk {} failed", result.getChunk(), e);
+                result.setFailed(result.getFailed() + prepared.size());
+                result.getErrors().add(new TaskImportErrorResponse(0, "Chunk could not be written: "
+                        + rootCause(e).getMessage()));
+            }
+        }
+
+        response.getChunks().add(result);
+        response.setTotalRows(response.getTotalRows() + rows.size());
+        response.setImportedRows(response.getImportedRows() + result.getImported());
+        response.setFailedRows(response.getFailedRows() + result.getFailed());
+        log.info("Task import into workspace {}: chunk {} rows {}-{} imported {} failed {}",
+                context.workspaceId, result.getChunk(), result.getFirstRow(), result.getLastRow(),
+                result.getImported(), result.getFailed());
+    }
+
+    // Tasks are flushed first so the batch executor hands back their generated ids for the child rows
+    private void writeChunk(SqlSessionTemplate batchSession, List<PreparedTask> prepared) {
+        TaskMapper batchTaskMapper = batchSession.getMapper(TaskMapper.class);
+        SubtaskMapper batchSubtaskMapper = batchSession.getMapper(SubtaskMapper.class);
+        TaskLabelMapper batchTaskLabelMapper = batchSession.getMapper(TaskLabelMapper.class);
+
+        for (PreparedTask p : prepared) {
+            batchTaskMapper.insert(p.task);
+        }
+        batchSession.flushStatements();
+
+        LocalDateTime now = LocalDateTime.now();
+        for (PreparedTask p : prepared) {
+            for (int i = 0; i < p.subtasks.size(); i++) {
+                Subtask subtask = new Subtask();
+                subtask.setTaskId(p.task.getId());
+                subtask.setTitle(p.subtasks.get(i));
+                subtask.setIsCompleted(0);
+                subtask.setPosition(i);
+                subtask.setRankKey(RankKey.initial(i));
+                subtask.setCreatedAt(now);
+                subtask.setUpdatedAt(now);
+                batchSubtaskMapper.insert(subtask);
+            }
+            for (Long labelId : p.labelIds) {
+                TaskLabel taskLabel = new TaskLabel();
+                taskLabel.setTaskId(p.task.getId());
+                taskLabel.setLabelId(labelId);
+                batchTaskLabelMapper.insert(taskLabel);
+            }
+        }
+        batchSession.flushStatements();
+    }
+
+    private Throwable rootCause(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private Set<Long> loadParentIds(Long workspaceId, List<ParsedRow> rows) {
+        Set<Long> requested = rows.stream()
+                .filter(r -> r.row != null && r.row.getParentTaskId() != null)
+                .map(r -> r.row.getParentTaskId())
+                .collect(Collectors.toSet());
+        if (requested.isEmpty()) {
+            return requested;
+        }
+        LambdaQueryWrapper<Task> query = new LambdaQueryWrapper<>();
+        query.select(Task::getId);
+        query.eq(Task::getWorkspaceId, workspaceId);
+        query.in(Task::getId, requested);
+        return taskMapper.selectList(query).stream().map(Task::getId).collect(Collectors.toSet());
+    }
+
+    private String validate(ImportContext context, TaskImportRow row, Set<Long> parentIds) {
+        if (!StringUtils.hasText(row.getTitle())) {
+            return "Task title is required";
+        }
+        if (row.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "Title must be at most " + MAX_TITLE_LENGTH + " characters";
+        }
+        if (row.getPriority() != null && !isEnumValue(TaskPriority.class, row.getPriority())) {
+            return "Invalid priority: " + row.getPriority();
+        }
+        if (row.getStatus() != null && !isEnumValue(TaskStatus.class, row.getStatus())) {
+            return "Invalid status: " + row.getStatus();
+        }
+        if (row.getProgress() != null && (row.getProgress() < 0 || row.getProgress() > 100)) {
+            return "Progress must be between 0 and 100";
+        }
+        if (row.getAssigneeId() != null && !context.memberIds.contains(row.getAssigneeId())) {
+            return "Assignee is not a member of this workspace: " + row.getAssigneeId();
+        }
+        if (row.getBoardColumnId() != null && !context.columnIds.contains(row.getBoardColumnId())) {
+            return "Board column not found in this workspace: " + row.getBoardColumnId();
+        }
+        if (row.getParentTaskId() != null && !parentIds.contains(row.getParentTaskId())) {
+            return "Parent task not found in this workspace: " + row.getParentTaskId();
+        }
+        if (row.getLabels() != null) {
+            for (String label : row.getLabels()) {
+                if (!context.labelIds.containsKey(label.toLowerCase())) {
+                    return "Unknown label: " + label;
+                }
+            }
+        }
+        if (row.getSubtasks() != null) {
+            for (String subtask : row.getSubtasks()) {
+                if (subtask.length() > MAX_TITLE_LENGTH) {
+                    return "Subtask title must be at most " + MAX_TITLE_LENGTH + " characters";
+                }
+            }
+        }
+        return null;
+    }
+
+    private <E extends Enum<E>> boolean isEnumValue(Class<E> type, String value) {
+        return Arrays.stream(type.getEnumConstants()).anyMatch(e -> e.name().equals(value));
+    }
+
+    private PreparedTask prepare(ImportContext context, TaskImportRow row) {
+        LocalDateTime now = LocalDateTime.now();
+        Task task = new Task();
+        task.setWorkspaceId(context.workspaceId);
+        task.setTitle(row.getTitle());
+        task.setDescription(row.getDescription());
+        task.setPriority(row.getPriority() != null ? row.getPriority() : "MEDIUM");
+        task.setStatus(row.getStatus() != null ? row.getStatus() : "TODO");
+        task.setStartDate(row.getStartDate());
+        task.setDueDate(row.getDueDate());
+        task.setAssigneeId(row.getAssigneeId());
+        task.setCreatorId(context.creatorId);
+        task.setParentTaskId(row.getParentTaskId());
+        task.setBoardColumnId(row.getBoardColumnId());
+        task.setProgress(row.getProgress() != null ? row.getProgress() : 0);
+        task.setPosition(row.getPosition() != null ? row.getPosition() : 0);
+        if (row.getBoardColumnId() != null) {
+            String lastKey = context.lastRankKeys.get(row.getBoardColumnId());
+            String rankKey = lastKey != null
+                    ? RankKey.between(lastKey, null)
+                    : rankOrdering.tasks().keyAtEnd(row.getBoardColumnId());
+            context.lastRankKeys.put(row.getBoardColumnId(), rankKey);
+            task.setRankKey(rankKey);
+        }
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        task.setDeleted(0);
+
+        List<String> subtasks = row.getSubtasks() != null
+                ? row.getSubtasks().stream().filter(StringUtils::hasText).collect(Collectors.toList())
+                : new ArrayList<>();
+        List<Long> labelIds = row.getLabels() != null
+                ? row.getLabels().stream().map(l -> context.labelIds.get(l.toLowerCase())).distinct()
+                        .collect(Collectors.toList())
+                : new ArrayList<>();
+        return new PreparedTask(task, subtasks, labelIds);
+    }
+
+    private void addError(TaskImportChunkResponse result, int rowNumber, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_ERRORS_PER_CHUNK) {
+            result.getErrors().add(new TaskImportErrorResponse(rowNumber, message));
+        }
+    }
+
+    private interface RowSource {
+        ParsedRow next() throws IOException;
+    }
+
+    private RowSource ndjsonSource(BufferedReader reader) {
+        int[] rowNumber = {0};
+        return () -> {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                rowNumber[0]++;
+                try {
+                    return new ParsedRow(rowNumber[0], objectMapper.readValue(line, TaskImportRow.class), null);
+                } catch (JsonProcessingException e) {
+                    return new ParsedRow(rowNumber[0], null, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        };
+    }
+
+    private RowSource csvSource(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return () -> null;
+        }
+        List<String> columns = header.stream().map(String::trim).collect(Collectors.toList());
+        int[] rowNumber = {0};
+        return () -> {
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rowNumber[0]++;
+                try {
+                    return new ParsedRow(rowNumber[0], toRow(columns, record), null);
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    return new ParsedRow(rowNumber[0], null, e.getMessage());
+                }
+            }
+            return null;
+        };
+    }
+
+    private TaskImportRow toRow(List<String> columns, List<String> record) {
+        TaskImportRow row = new TaskImportRow();
+        for (int i = 0; i < columns.size() && i < record.size(); i++) {
+            String value = record.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (columns.get(i)) {
+                case "title": row.setTitle(value); break;
+                case "description": row.setDescription(value); break;
+                case "priority": row.setPriority(value); break;
+                case "status": row.setStatus(value); break;
+                case "startDate": row.setStartDate(LocalDate.parse(value)); break;
+                case "dueDate": row.setDueDate(LocalDate.parse(value)); break;
+                case "progress": row.setProgress(parseInt(value, "progress")); break;
+                case "assigneeId": row.setAssigneeId(parseLong(value, "assigneeId")); break;
+                case "boardColumnId": row.setBoardColumnId(parseLong(value, "boardColumnId")); break;
+                case "parentTaskId": row.setParentTaskId(parseLong(value, "parentTaskId")); break;
+                case "position": row.setPosition(parseInt(value, "position")); break;
+                case "labels": row.setLabels(splitList(value)); break;
+                case "subtasks": row.setSubtasks(splitList(value)); break;
+                default: break;
+            }
+        }
+        return row;
+    }
+
+    private List<String> splitList(String value) {
+        return Arrays.stream(value.split("\\|"))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private Integer parseInt(String value, String column) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private Long parseLong(String value, String column) {
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskflow.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.dto.response.SearchHighlightResponse;
+import com.taskflow.dto.response.TaskResponse;
+import com.taskflow.dto.response.TaskSearchResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.search.SearchHit;
+import com.taskflow.search.SearchTokenizer;
+import com.taskflow.search.TaskSearchIndex;
+import com.taskflow.service.TaskSearchService;
+import com.taskflow.service.support.TaskResponseAssembler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskMapper taskMapper;
+    private final TaskResponseAssembler taskResponseAssembler;
+
+    @Override
+    public List<TaskSearchResponse> searchTasks(Long workspaceId, String query, int limit) {
+        if (!StringUtils.hasText(query)) {
+            return new ArrayList<>();
+        }
+        List<SearchHit> hits = taskSearchIndex.search(workspaceId, query, Math.min(Math.max(limit, 1), MAX_LIMIT));
+        if (hits.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Load the hit tasks in one query, skipping any the index still holds after a delete
+        LambdaQueryWrapper<Task> taskQuery = new LambdaQueryWrapper<>();
+        taskQuery.in(Task::getId, hits.stream().map(SearchHit::getTaskId).collect(Collectors.toList()));
+        Map<Long, Task> tasksById = taskMapper.selectList(taskQuery).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Task> tasks = new ArrayList<>();
+        List<SearchHit> liveHits = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            Task task = tasksById.get(hit.getTaskId());
+            if (task != null) {
+                tasks.add(task);
+                liveHits.add(hit);
+            }
+        }
+
+        Set<String> queryTerms = SearchTokenizer.terms(query);
+        List<TaskResponse> taskResponses = taskResponseAssembler.assemble(tasks);
+        List<TaskSearchResponse> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            List<SearchHighlightResponse> highlights = new ArrayList<>();
+            highlights.addAll(highlight("title", task.getTitle(), queryTerms));
+            highlights.addAll(highlight("description", task.getDescription(), queryTerms));
+            results.add(new TaskSearchResponse(taskResponses.get(i), liveHits.get(i).getScore(), highlights));
+        }
+        return results;
+    }
+
+    // Offsets of matching tokens, with overlapping CJK bigram spans merged
+    private List<SearchHighlightResponse> highlight(String field, String text, Set<String> queryTerms) {
+        List<SearchHighlightResponse> highlights = new ArrayList<>();
+        SearchHighlightResponse current = null;
+        for (SearchTokenizer.Token token : SearchTokenizer.tokenizeForIndex(text)) {
+            if (!queryTerms.contains(token.getTerm())) {
+                continue;
+            }
+            if (current != null && token.getStart() <= current.getEnd()) {
+                current.setEnd(Math.max(current.getEnd(), token.getEnd()));
+            } else {
+                current = new SearchHighlightResponse(field, token.getStart(), token.getEnd());
+                highlights.add(current);
+            }
+        }
+        return highlights;
+    }
+}
@@ -1,31 +1,39 @@
 package com.taskflow.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.taskflow.dto.request.RankMoveRequest;
 import com.taskflow.dto.request.TaskCreateRequest;
 import com.taskflow.dto.request.TaskMoveRequest;
 import com.taskflow.dto.request.TaskStatusUpdateRequest;
 import com.taskflow.dto.request.TaskUpdateRequest;
-import com.taskflow.dto.response.SubtaskResponse;
+import com.taskflow.dto.response.GanttEdgeResponse;
+import com.taskflow.dto.response.GanttResponse;
+import com.taskflow.dto.response.GanttTaskResponse;
+import com.taskflow.dto.response.TaskDeltaResyncResponse;
 import com.taskflow.dto.response.TaskListResponse;
 import com.taskflow.dto.response.TaskResponse;
-import com.taskflow.dto.response.UserResponse;
-import com.taskflow.dto.response.LabelResponse;
-import com.taskflow.entity.Comment;
-import com.taskflow.entity.Subtask;
 import com.taskflow.entity.Task;
-import com.taskflow.entity.User;
-import com.taskflow.entity.TaskLabel;
-import com.taskflow.entity.Label;
+import com.taskflow.enums.NotificationType;
 import com.taskflow.exception.BusinessException;
-import com.taskflow.mapper.CommentMapper;
-import com.taskflow.mapper.SubtaskMapper;
+import com.taskflow.graph.DependencyGraphRegistry;
+import com.taskflow.graph.ScheduleEngine;
+import com.taskflow.graph.WorkspaceSchedule;
 import com.taskflow.mapper.TaskMapper;
-import com.taskflow.mapper.UserMapper;
-import com.taskflow.mapper.TaskLabelMapper;
-import com.taskflow.mapper.LabelMapper;
+import com.taskflow.notification.NotificationDispatcher;
+import com.taskflow.notification.NotificationEvent;
+import com.taskflow.search.TaskSearchIndexer;
 import com.taskflow.service.TaskService;
 import com.taskflow.service.TaskActivityService;
+import com.taskflow.service.support.RankOrdering;
+import com.taskflow.service.support.TaskCursor;
+import com.taskflow.service.support.TaskFieldSet;
+import com.taskflow.service.support.TaskReferenceValidator;
+import com.taskflow.service.support.TaskResponseAssembler;
+import com.taskflow.service.support.TaskSortField;
+import com.taskflow.websocket.TaskDeltaPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,7 +42,10 @@ import org.springframework.util.StringUtils;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,16 +53,23 @@ import java.util.stream.Collectors;
 public class TaskServiceImpl implements TaskService {
 
     private final TaskMapper taskMapper;
-    private final UserMapper userMapper;
-    private final SubtaskMapper subtaskMapper;
-    private final CommentMapper commentMapper;
-    private final TaskLabelMapper taskLabelMapper;
-    private final LabelMapper labelMapper;
+    private final TaskResponseAssembler taskResponseAssembler;
     private final TaskActivityService taskActivityService;
+    private final TaskSearchIndexer taskSearchIndexer;
+    private final DependencyGraphRegistry dependencyGraphRegistry;
+    private final ScheduleEngine scheduleEngine;
+    private final RankOrdering rankOrdering;
+    private final TaskReferenceValidator taskReferenceValidator;
+    private final NotificationDispatcher notificationDispatcher;
+    private final TaskDeltaPublisher taskDeltaPublisher;
 
     @Override
     @Transactional
     public TaskResponse createTask(Long workspaceId, TaskCreateRequest request, Long creatorId) {
+        taskReferenceValidator.requireAssignee(workspaceId, request.getAssigneeId());
+        taskReferenceValidator.requireColumn(workspaceId, request.getBoardColumnId());
+        taskReferenceValidator.requireParent(workspaceId, null, request.getParentTaskId());
+
         Task task = new Task();
         task.setWorkspaceId(workspaceId);
         task.setTitle(request.getTitle());
@@ -64,14 +82,21 @@ public class TaskServiceImpl implements TaskService {
         task.setCreatorId(creatorId);
         task.setParentTaskId(request.getParentTaskId());
         task.setBoardColumnId(request.getBoardColumnId());
+        if (request.getBoardColumnId() != null) {
+            task.setRankKey(rankOrdering.tasks().keyAtEnd(request.getBoardColumnId()));
+        }
         task.setProgress(0);
         task.setPosition(0);
         task.setCreatedAt(LocalDateTime.now());
         task.setUpdatedAt(LocalDateTime.now());
         task.setDeleted(0);
         taskMapper.insert(task);
+        taskSearchIndexer.indexNewTask(task);
+        scheduleEngine.onDatesChanged(task);
+        notifyAssigned(task);
+        taskDeltaPublisher.created(task);
 
-        return buildTaskResponse(task);
+        return taskResponseAssembler.assemble(task);
     }
 
     @Override
@@ -80,7 +105,7 @@ public class TaskServiceImpl implements TaskService {
         if (task == null) {
             throw new BusinessException("Task not found");
         }
-        return buildTaskResponse(task);
+        return taskResponseAssembler.assemble(task);
     }
 
     @Override
@@ -90,6 +115,11 @@ public class TaskServiceImpl implements TaskService {
         if (task == null) {
             throw new BusinessException("Task not found");
         }
+        taskReferenceValidator.requireAssignee(task.getWorkspaceId(), request.getAssigneeId());
+        taskReferenceValidator.requireColumn(task.getWorkspaceId(), request.getBoardColumnId());
+        taskReferenceValidator.requireParent(task.getWorkspaceId(), id, request.getParentTaskId());
+        Long previousAssigneeId = task.getAssigneeId();
+        Map<String, Object> before = taskDeltaPublisher.fieldsOf(task);
 
         if (StringUtils.hasText(request.getTitle())) {
             task.setTitle(request.getTitle());
@@ -115,16 +145,25 @@ public class TaskServiceImpl implements TaskService {
         if (request.getParentTaskId() != null) {
             task.setParentTaskId(request.getParentTaskId());
         }
-        if (request.getBoardColumnId() != null) {
+        if (request.getBoardColumnId() != null && !request.getBoardColumnId().equals(task.getBoardColumnId())) {
             task.setBoardColumnId(request.getBoardColumnId());
+            task.setRankKey(rankOrdering.tasks().keyAtEnd(request.getBoardColumnId()));
         }
         if (request.getProgress() != null) {
             task.setProgress(request.getProgress());
         }
         task.setUpdatedAt(LocalDateTime.now());
         taskMapper.updateById(task);
+        taskSearchIndexer.indexTask(task);
+        if (request.getStartDate() != null || request.getDueDate() != null) {
+            scheduleEngine.onDatesChanged(task);
+        }
+        if (task.getAssigneeId() != null && !task.getAssigneeId().equals(previousAssigneeId)) {
+            notifyAssigned(task);
+        }
+        taskDeltaPublisher.updated(task, before);
 
-        return buildTaskResponse(task);
+        return taskResponseAssembler.assemble(task);
     }
 
     @Override
@@ -134,12 +173,83 @@ public class TaskServiceImpl implements TaskService {
             throw new BusinessException("Task not found");
         }
         taskMapper.deleteById(id);
+        taskSearchIndexer.removeTask(task);
+        dependencyGraphRegistry.removeTask(task.getWorkspaceId(), id);
+        scheduleEngine.invalidate(task.getWorkspaceId());
+        taskDeltaPublisher.deleted(task.getWorkspaceId(), id);
     }
 
     @Override
     public TaskListResponse listTasks(Long workspaceId, String status, String priority, Long assigneeId,
-                                       String keyword, int page, int size, String sortBy, String sortDir) {
+                                       String keyword, int page, int size, String sortBy, String sortDir,
+                                       TaskFieldSet fieldSet) {
         Page<Task> pageObj = new Page<>(page, size);
+        LambdaQueryWrapper<Task> queryWrapper = buildListQuery(workspaceId, status, priority, assigneeId, keyword);
+        fieldSet.applyProjection(queryWrapper);
+
+        // Sorting
+        boolean isAsc = "asc".equalsIgnoreCase(sortDir);
+        queryWrapper.orderBy(true, isAsc, TaskSortField.fromParam(sortBy).getColumn());
+
+        Page<Task> resultPage = taskMapper.selectPage(pageObj, queryWrapper);
+
+        List<TaskResponse> records = taskResponseAssembler.assemble(resultPage.getRecords(), fieldSet);
+
+        TaskListResponse response = new TaskListResponse();
+        response.setRecords(records);
+        response.setTotal(resultPage.getTotal());
+        response.setSize(resultPage.getSize());
+        response.setCurrent(resultPage.getCurrent());
+        response.setPages(resultPage.getPages());
+        response.setHasMore(resultPage.getCurrent() < resultPage.getPages());
+        return response;
+    }
+
+    @Override
+    public TaskListResponse listTasksByCursor(Long workspaceId, String status, String priority, Long assigneeId,
+                                              String keyword, String cursor, int size, String sortBy, String sortDir,
+                                              boolean withTotal, TaskFieldSet fieldSet) {
+        TaskSortField sortField = TaskSortField.fromParam(sortBy);
+        boolean isAsc = "asc".equalsIgnoreCase(sortDir);
+
+        LambdaQueryWrapper<Task> queryWrapper = buildListQuery(workspaceId, status, priority, assigneeId, keyword);
+        fieldSet.applyProjection(queryWrapper);
+        if (StringUtils.hasText(cursor)) {
+            TaskCursor position = TaskCursor.decode(cursor);
+            if (position.getSortField() != sortField || position.isAsc() != isAsc) {
+                throw new BusinessException("Cursor does not match the requested sort order");
+            }
+            applyCursor(queryWrapper, position);
+        }
+
+        // Sort key plus id tie-breaker, fetching one extra row to detect the next page
+        queryWrapper.orderBy(true, isAsc, sortField.getColumn());
+        queryWrapper.orderBy(true, isAsc, Task::getId);
+        queryWrapper.last("LIMIT " + (size + 1));
+        List<Task> tasks = taskMapper.selectList(queryWrapper);
+
+        boolean hasMore = tasks.size() > size;
+        if (hasMore) {
+            tasks = tasks.subList(0, size);
+        }
+
+        TaskListResponse response = new TaskListResponse();
+        response.setRecords(taskResponseAssembler.assemble(tasks, fieldSet));
+        response.setSize(size);
+        response.setHasMore(hasMore);
+        if (hasMore) {
+            response.setNextCursor(TaskCursor.after(tasks.get(tasks.size() - 1), sortField, isAsc).encode());
+        }
+        if (withTotal) {
+            long total = taskMapper.selectCount(buildListQuery(workspaceId, status, priority, assigneeId, keyword));
+            response.setTotal(total);
+            response.setPages(size > 0 ? (total + size - 1) / size : 0);
+        }
+        return response;
+    }
+
+    private LambdaQueryWrapper<Task> buildListQuery(Long workspaceId, String status, String priority,
+                                                    Long assigneeId, String keyword) {
         LambdaQueryWrapper<Task> queryWrapper = new LambdaQueryWrapper<>();
         queryWrapper.eq(Task::getWorkspaceId, workspaceId);
 
@@ -155,43 +265,29 @@ public class TaskServiceImpl implements TaskService {
         if (StringUtils.hasText(keyword)) {
             queryWrapper.like(Task::getTitle, keyword);
         }
+        return queryWrapper;
+    }
 
-        // Sorting
-        boolean isAsc = "asc".equalsIgnoreCase(sortDir);
-        switch (sortBy) {
-            case "title":
-                queryWrapper.orderBy(true, isAsc, Task::getTitle);
-                break;
-            case "priority":
-                queryWrapper.orderBy(true, isAsc, Task::getPriority);
-                break;
-            case "status":
-                queryWrapper.orderBy(true, isAsc, Task::getStatus);
-                break;
-            case "dueDate":
-                queryWrapper.orderBy(true, isAsc, Task::getDueDate);
-                break;
-            case "updatedAt":
-                queryWrapper.orderBy(true, isAsc, Task::getUpdatedAt);
-                break;
-            default:
-                queryWrapper.orderBy(true, isAsc, Task::getCreatedAt);
-                break;
-        }
-
-        Page<Task> resultPage = taskMapper.selectPage(pageObj, queryWrapper);
-
-        List<TaskResponse> records = resultPage.getRecords().stream()
-                .map(this::buildTaskResponse)
-                .collect(Collectors.toList());
+    private void applyCursor(LambdaQueryWrapper<Task> queryWrapper, TaskCursor cursor) {
+        SFunction<Task, ?> column = cursor.getSortField().getColumn();
+        Object value = cursor.getSortField().parse(cursor.getValue());
+        Long lastId = cursor.getId();
 
-        TaskListResponse response = new TaskListResponse();
-        response.setRecords(records);
-        response.setTotal(resultPage.getTotal());
-        response.setSize(resultPage.getSize());
-        response.setCurrent(resultPage.getCurrent());
-        response.setPages(resultPage.getPages());
-        return response;
+        // MySQL sorts NULL keys first ascending and last descending
+        if (cursor.isAsc()) {
+            if (value == null) {
+                queryWrapper.and(w -> w.isNull(column).gt(Task::getId, lastId).or().isNotNull(column));
+            } else {
+                queryWrapper.and(w -> w.gt(column, value).or(o -> o.eq(column, value).gt(Task::getId, lastId)));
+            }
+        } else {
+            if (value == null) {
+                queryWrapper.and(w -> w.isNull(column).lt(Task::getId, lastId));
+            } else {
+                queryWrapper.and(w -> w.lt(column, value).or().isNull(column)
+                        .or(o -> o.eq(column, value).lt(Task::getId, lastId)));
+            }
+        }
     }
 
     @Override
@@ -201,10 +297,12 @@ public class TaskServiceImpl implements TaskService {
         if (task == null) {
             throw new BusinessException("Task not found");
         }
+        Map<String, Object> before = taskDeltaPublisher.fieldsOf(task);
         task.setStatus(request.getStatus());
         task.setUpdatedAt(LocalDateTime.now());
         taskMapper.updateById(task);
-        return buildTaskResponse(task);
+        taskDeltaPublisher.updated(task, before);
+        return taskResponseAssembler.assemble(task);
     }
 
     @Override
@@ -214,18 +312,63 @@ public class TaskServiceImpl implements TaskService {
         if (task == null) {
             throw new BusinessException("Task not found");
         }
+        taskReferenceValidator.requireColumn(task.getWorkspaceId(), request.getBoardColumnId());
+        // position is the drop index in the target column; only this row's rank key changes
+        String rankKey = request.getPosition() != null
+                ? rankOrdering.tasks().keyAtIndex(request.getBoardColumnId(), id, request.getPosition())
+                : rankOrdering.tasks().keyAtEnd(request.getBoardColumnId());
         task.setBoardColumnId(request.getBoardColumnId());
         if (request.getPosition() != null) {
             task.setPosition(request.getPosition());
         }
+        task.setRankKey(rankKey);
         task.setUpdatedAt(LocalDateTime.now());
-        taskMapper.updateById(task);
-        return buildTaskResponse(task);
+        updatePlacement(task);
+        return taskResponseAssembler.assemble(task);
+    }
+
+    @Override
+    @Transactional
+    public TaskResponse moveTaskBetween(Long id, RankMoveRequest request) {
+        Task task = taskMapper.selectById(id);
+        if (task == null) {
+            throw new BusinessException("Task not found");
+        }
+        Long columnId = request.getBoardColumnId() != null ? request.getBoardColumnId() : task.getBoardColumnId();
+        if (columnId == null) {
+            throw new BusinessException("Board column ID is required");
+        }
+        taskReferenceValidator.requireColumn(task.getWorkspaceId(), columnId);
+        taskReferenceValidator.requireTasks(task.getWorkspaceId(),
+                Arrays.asList(request.getPreviousId(), request.getNextId()), "Neighbouring task not found");
+        task.setBoardColumnId(columnId);
+        task.setRankKey(rankOrdering.tasks().keyBetween(columnId, id, request.getPreviousId(), request.getNextId()));
+        task.setUpdatedAt(LocalDateTime.now());
+        updatePlacement(task);
+        return taskResponseAssembler.assemble(task);
+    }
+
+    // Writes only the placement columns so a drag never overwrites concurrent edits to other fields
+    private void updatePlacement(Task task) {
+        LambdaUpdateWrapper<Task> update = new LambdaUpdateWrapper<>();
+        update.eq(Task::getId, task.getId());
+        update.set(Task::getBoardColumnId, task.getBoardColumnId());
+        update.set(Task::getPosition, task.getPosition());
+        update.set(Task::getRankKey, task.getRankKey());
+        update.set(Task::getUpdatedAt, task.getUpdatedAt());
+        taskMapper.update(null, update);
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("boardColumnId", task.getBoardColumnId());
+        changes.put("position", task.getPosition());
+        changes.put("rankKey", task.getRankKey());
+        taskDeltaPublisher.updated(task.getWorkspaceId(), task.getId(), changes);
     }
 
     @Override
-    public List<TaskResponse> getCalendarTasks(Long workspaceId, LocalDate start, LocalDate end) {
+    public List<TaskResponse> getCalendarTasks(Long workspaceId, LocalDate start, LocalDate end, TaskFieldSet fieldSet) {
         LambdaQueryWrapper<Task> queryWrapper = new LambdaQueryWrapper<>();
+        fieldSet.applyProjection(queryWrapper);
         queryWrapper.eq(Task::getWorkspaceId, workspaceId);
         if (start != null) {
             queryWrapper.ge(Task::getDueDate, start);
@@ -236,92 +379,58 @@ public class TaskServiceImpl implements TaskService {
         queryWrapper.orderByAsc(Task::getDueDate);
 
         List<Task> tasks = taskMapper.selectList(queryWrapper);
-        return tasks.stream().map(this::buildTaskResponse).collect(Collectors.toList());
+        return taskResponseAssembler.assemble(tasks, fieldSet);
     }
 
     @Override
-    public List<TaskResponse> getGanttTasks(Long workspaceId) {
+    public List<TaskResponse> getGanttTasks(Long workspaceId, TaskFieldSet fieldSet) {
         LambdaQueryWrapper<Task> queryWrapper = new LambdaQueryWrapper<>();
+        fieldSet.applyProjection(queryWrapper);
         queryWrapper.eq(Task::getWorkspaceId, workspaceId);
         queryWrapper.orderByAsc(Task::getStartDate);
 
         List<Task> tasks = taskMapper.selectList(queryWrapper);
-        return tasks.stream().map(this::buildTaskResponse).collect(Collectors.toList());
+        return taskResponseAssembler.assemble(tasks, fieldSet);
     }
 
-    private TaskResponse buildTaskResponse(Task task) {
-        TaskResponse response = new TaskResponse();
-        response.setId(task.getId());
-        response.setWorkspaceId(task.getWorkspaceId());
-        response.setBoardColumnId(task.getBoardColumnId());
-        response.setTitle(task.getTitle());
-        response.setDescription(task.getDescription());
-        response.setPriority(task.getPriority());
-        response.setStatus(task.getStatus());
-        response.setStartDate(task.getStartDate());
-        response.setDueDate(task.getDueDate());
-        response.setProgress(task.getProgress());
-        response.setAssigneeId(task.getAssigneeId());
-        response.setCreatorId(task.getCreatorId());
-        response.setParentTaskId(task.getParentTaskId());
-        response.setPosition(task.getPosition());
-        response.setCreatedAt(task.getCreatedAt());
-        response.setUpdatedAt(task.getUpdatedAt());
-
-        // Fetch assignee
-        if (task.getAssigneeId() != null) {
-            User assignee = userMapper.selectById(task.getAssigneeId());
-            if (assignee != null) {
-                response.setAssignee(new UserResponse(
-                        assignee.getId(), assignee.getUsername(), assignee.getEmail(), assignee.getAvatarUrl()));
-            }
-        }
+    @Override
+    public GanttResponse getGanttSchedule(Long workspaceId, TaskFieldSet fieldSet) {
+        WorkspaceSchedule schedule = scheduleEngine.get(workspaceId);
+        List<TaskResponse> tasks = getGanttTasks(workspaceId, fieldSet);
 
-        // Fetch creator
-        if (task.getCreatorId() != null) {
-            User creator = userMapper.selectById(task.getCreatorId());
-            if (creator != null) {
-                response.setCreator(new UserResponse(
-                        creator.getId(), creator.getUsername(), creator.getEmail(), creator.getAvatarUrl()));
+        List<GanttTaskResponse> ganttTasks = new ArrayList<>(tasks.size());
+        for (TaskResponse task : tasks) {
+            GanttTaskResponse ganttTask = new GanttTaskResponse();
+            ganttTask.setTask(task);
+            WorkspaceSchedule.ScheduledTask scheduled = schedule.get(task.getId());
+            if (scheduled != null) {
+                ganttTask.setEarliestStart(scheduled.getEarliestStart());
+                ganttTask.setEarliestFinish(scheduled.getEarliestFinish());
+                ganttTask.setLatestStart(scheduled.getLatestStart());
+                ganttTask.setLatestFinish(scheduled.getLatestFinish());
+                ganttTask.setSlack(scheduled.getSlack());
+                ganttTask.setCritical(scheduled.isCritical());
             }
+            ganttTasks.add(ganttTask);
         }
 
-        // Fetch subtasks
-        LambdaQueryWrapper<Subtask> subtaskQuery = new LambdaQueryWrapper<>();
-        subtaskQuery.eq(Subtask::getTaskId, task.getId());
-        subtaskQuery.orderByAsc(Subtask::getPosition);
-        List<Subtask> subtasks = subtaskMapper.selectList(subtaskQuery);
-        List<SubtaskResponse> subtaskResponses = subtasks.stream()
-                .map(s -> new SubtaskResponse(s.getId(), s.getTaskId(), s.getTitle(), s.getIsCompleted(), s.getPosition()))
+        List<GanttEdgeResponse> edges = schedule.edges().stream()
+                .map(e -> new GanttEdgeResponse(e.getPredecessorId(), e.getSuccessorId(),
+                        e.getType().name(), e.isCritical()))
                 .collect(Collectors.toList());
-        response.setSubtasks(subtaskResponses);
-
-        // Fetch comment count
-        LambdaQueryWrapper<Comment> commentQuery = new LambdaQueryWrapper<>();
-        commentQuery.eq(Comment::getTaskId, task.getId());
-        Long commentCount = commentMapper.selectCount(commentQuery);
-        response.setCommentCount(commentCount.intValue());
-
-        // Fetch labels
-        LambdaQueryWrapper<TaskLabel> labelQuery = new LambdaQueryWrapper<>();
-        labelQuery.eq(TaskLabel::getTaskId, task.getId());
-        List<TaskLabel> taskLabels = taskLabelMapper.selectList(labelQuery);
-        List<LabelResponse> labelResponses = taskLabels.stream()
-                .map(tl -> {
-                    Label label = labelMapper.selectById(tl.getLabelId());
-                    if (label == null) return null;
-                    LabelResponse lr = new LabelResponse();
-                    lr.setId(label.getId());
-                    lr.setWorkspaceId(label.getWorkspaceId());
-                    lr.setName(label.getName());
-                    lr.setColor(label.getColor());
-                    lr.setCreatedAt(label.getCreatedAt());
-                    return lr;
-                })
-                .filter(r -> r != null)
-                .collect(Collectors.toList());
-        response.setLabels(labelResponses);
+        return new GanttResponse(ganttTasks, edges, schedule.criticalPath(), schedule.getProjectEnd());
+    }
 
-        return response;
+    @Override
+    public TaskDeltaResyncResponse getTaskDeltas(Long workspaceId, Long after) {
+        return taskDeltaPublisher.since(workspaceId, after);
+    }
+
+    private void notifyAssigned(Task task) {
+        if (task.getAssigneeId() == null) {
+            return;
+        }
+        notificationDispatcher.publish(new NotificationEvent(task.getAssigneeId(), NotificationType.TASK_ASSIGNED,
+                "Task assigned", "You have been assigned to \"" + task.getTitle() + "\"", task.getId()));
     }
 }
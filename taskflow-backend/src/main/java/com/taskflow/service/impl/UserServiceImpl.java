@@ -1,11 +1,15 @@
 package com.taskflow.service.impl;
 
-import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.taskflow.dto.response.UserResponse;
 import com.taskflow.entity.User;
 import com.taskflow.exception.BusinessException;
 import com.taskflow.mapper.UserMapper;
+import com.taskflow.search.UserSearchIndex;
+import com.taskflow.security.PasswordHasher;
+import com.taskflow.security.RefreshTokenStore;
+import com.taskflow.security.TokenRevocationList;
 import com.taskflow.service.UserService;
+import com.taskflow.service.support.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,21 +17,27 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final int SEARCH_LIMIT = 20;
+
     private final UserMapper userMapper;
+    private final UserSearchIndex userSearchIndex;
+    private final UserCache userCache;
+    private final PasswordHasher passwordHasher;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     public UserResponse getCurrentUser(Long userId) {
-        User user = userMapper.selectById(userId);
+        UserResponse user = userCache.get(userId);
         if (user == null) {
             throw new BusinessException("User not found");
         }
-        return toUserResponse(user);
+        return user;
     }
 
     @Override
@@ -43,8 +53,41 @@ public class UserServiceImpl implements UserService {
         }
         user.setUpdatedAt(LocalDateTime.now());
         userMapper.updateById(user);
+        userCache.evictAfterCommit(userId);
+
+        UserResponse response = toUserResponse(user);
+        userSearchIndex.index(response);
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public void changePassword(Long userId, String currentPassword, String newPassword) {
+        User user = userMapper.selectById(userId);
+        if (user == null) {
+            throw new BusinessException("User not found");
+        }
+
+        if (!StringUtils.hasText(currentPassword) || !StringUtils.hasText(newPassword)) {
+            throw new BusinessException("Current password and new password are required");
+        }
+
+        if (!passwordHasher.matches(currentPassword, user.getPasswordHash())) {
+            throw new BusinessException("Current password is incorrect");
+        }
+
+        if (newPassword.length() < 6) {
+            throw new BusinessException("New password must be at least 6 characters");
+        }
+
+        user.setPasswordHash(passwordHasher.encode(newPassword));
+        user.setUpdatedAt(LocalDateTime.now());
+        userMapper.updateById(user);
+        userCache.evictAfterCommit(userId);
 
-        return toUserResponse(user);
+        // Sign out every session, including this one; outstanding access tokens stop working right away
+        refreshTokenStore.revokeUser(userId);
+        tokenRevocationList.revokeUser(userId);
     }
 
     @Override
@@ -52,17 +95,7 @@ public class UserServiceImpl implements UserService {
         if (!StringUtils.hasText(keyword)) {
             return List.of();
         }
-
-        LambdaQueryWrapper<User> query = new LambdaQueryWrapper<>();
-        query.like(User::getUsername, keyword)
-             .or()
-             .like(User::getEmail, keyword);
-        query.last("LIMIT 20");
-        List<User> users = userMapper.selectList(query);
-
-        return users.stream()
-                .map(this::toUserResponse)
-                .collect(Collectors.toList());
+        return userSearchIndex.search(keyword, SEARCH_LIMIT);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.taskflow.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.taskflow.dto.request.MemberInviteRequest;
 import com.taskflow.dto.request.MemberRoleUpdateRequest;
 import com.taskflow.dto.request.WorkspaceCreateRequest;
@@ -8,22 +9,29 @@ import com.taskflow.dto.request.WorkspaceUpdateRequest;
 import com.taskflow.dto.response.UserResponse;
 import com.taskflow.dto.response.WorkspaceMemberResponse;
 import com.taskflow.dto.response.WorkspaceResponse;
-import com.taskflow.entity.User;
 import com.taskflow.entity.Workspace;
 import com.taskflow.entity.WorkspaceMember;
 import com.taskflow.enums.MemberRole;
+import com.taskflow.enums.NotificationType;
 import com.taskflow.exception.BusinessException;
-import com.taskflow.mapper.UserMapper;
 import com.taskflow.mapper.WorkspaceMapper;
 import com.taskflow.mapper.WorkspaceMemberMapper;
+import com.taskflow.notification.NotificationDispatcher;
+import com.taskflow.notification.NotificationEvent;
+import com.taskflow.security.WorkspaceAuthz;
 import com.taskflow.service.WorkspaceService;
+import com.taskflow.service.support.UserCache;
+import com.taskflow.service.support.WorkspaceListCache;
+import com.taskflow.websocket.StompSubscriptionRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,7 +40,11 @@ public class WorkspaceServiceImpl implements WorkspaceService {
 
     private final WorkspaceMapper workspaceMapper;
     private final WorkspaceMemberMapper workspaceMemberMapper;
-    private final UserMapper userMapper;
+    private final UserCache userCache;
+    private final WorkspaceAuthz workspaceAuthz;
+    private final WorkspaceListCache workspaceListCache;
+    private final NotificationDispatcher notificationDispatcher;
+    private final StompSubscriptionRegistry stompSubscriptionRegistry;
 
     @Override
     @Transactional
@@ -53,6 +65,8 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         member.setRole(MemberRole.OWNER.name());
         member.setJoinedAt(LocalDateTime.now());
         workspaceMemberMapper.insert(member);
+        workspaceAuthz.invalidateUser(ownerId);
+        workspaceListCache.invalidateUser(ownerId);
 
         return buildWorkspaceResponse(workspace);
     }
@@ -68,6 +82,11 @@ public class WorkspaceServiceImpl implements WorkspaceService {
 
     @Override
     public List<WorkspaceResponse> listWorkspaces(Long userId) {
+        return workspaceListCache.get(userId, () -> loadWorkspaces(userId));
+    }
+
+    // Three queries regardless of how many workspaces the user belongs to
+    private List<WorkspaceResponse> loadWorkspaces(Long userId) {
         // Get workspace IDs where user is a member
         LambdaQueryWrapper<WorkspaceMember> memberQuery = new LambdaQueryWrapper<>();
         memberQuery.eq(WorkspaceMember::getUserId, userId);
@@ -86,7 +105,17 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         workspaceQuery.orderByDesc(Workspace::getCreatedAt);
         List<Workspace> workspaces = workspaceMapper.selectList(workspaceQuery);
 
-        return workspaces.stream().map(this::buildWorkspaceResponse).collect(Collectors.toList());
+        Map<Long, Integer> memberCounts = loadMemberCounts(workspaceIds);
+        Map<Long, UserResponse> owners = userCache.getAll(workspaces.stream()
+                .map(Workspace::getOwnerId)
+                .collect(Collectors.toSet()));
+
+        return workspaces.stream().map(workspace -> {
+            WorkspaceResponse response = toWorkspaceResponse(workspace);
+            response.setOwner(owners.get(workspace.getOwnerId()));
+            response.setMemberCount(memberCounts.getOrDefault(workspace.getId(), 0));
+            return response;
+        }).collect(Collectors.toList());
     }
 
     @Override
@@ -105,6 +134,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         }
         workspace.setUpdatedAt(LocalDateTime.now());
         workspaceMapper.updateById(workspace);
+        workspaceListCache.invalidateWorkspace(id);
 
         return buildWorkspaceResponse(workspace);
     }
@@ -116,20 +146,25 @@ public class WorkspaceServiceImpl implements WorkspaceService {
             throw new BusinessException("Workspace not found");
         }
         workspaceMapper.deleteById(id);
+        workspaceListCache.invalidateWorkspace(id);
+        workspaceAuthz.invalidateWorkspace(id);
+        stompSubscriptionRegistry.revalidateWorkspace(id);
     }
 
     @Override
     @Transactional
-    public void inviteMember(Long workspaceId, MemberInviteRequest request) {
+    public void inviteMember(Long workspaceId, MemberInviteRequest request, Long actorId) {
         // Check workspace exists
         Workspace workspace = workspaceMapper.selectById(workspaceId);
         if (workspace == null) {
             throw new BusinessException("Workspace not found");
         }
+        if (MemberRole.OWNER.name().equals(request.getRole())) {
+            requireOwner(workspaceId, actorId);
+        }
 
         // Check user exists
-        User user = userMapper.selectById(request.getUserId());
-        if (user == null) {
+        if (userCache.get(request.getUserId()) == null) {
             throw new BusinessException("User not found");
         }
 
@@ -147,6 +182,11 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         member.setRole(request.getRole());
         member.setJoinedAt(LocalDateTime.now());
         workspaceMemberMapper.insert(member);
+        workspaceAuthz.invalidateUser(request.getUserId());
+        workspaceListCache.invalidateUser(request.getUserId());
+        workspaceListCache.invalidateWorkspace(workspaceId);
+        notificationDispatcher.publish(new NotificationEvent(request.getUserId(), NotificationType.MEMBER_INVITED,
+                "Workspace invitation", "You have been added to \"" + workspace.getName() + "\"", workspaceId));
     }
 
     @Override
@@ -154,9 +194,11 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         LambdaQueryWrapper<WorkspaceMember> query = new LambdaQueryWrapper<>();
         query.eq(WorkspaceMember::getWorkspaceId, workspaceId);
         List<WorkspaceMember> members = workspaceMemberMapper.selectList(query);
+        Map<Long, UserResponse> users = userCache.getAll(
+                members.stream().map(WorkspaceMember::getUserId).collect(Collectors.toSet()));
 
         return members.stream().map(member -> {
-            User user = userMapper.selectById(member.getUserId());
+            UserResponse user = users.get(member.getUserId());
             WorkspaceMemberResponse response = new WorkspaceMemberResponse();
             response.setId(member.getId());
             response.setUserId(member.getUserId());
@@ -173,7 +215,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
 
     @Override
     @Transactional
-    public void updateMemberRole(Long workspaceId, Long userId, MemberRoleUpdateRequest request) {
+    public void updateMemberRole(Long workspaceId, Long userId, MemberRoleUpdateRequest request, Long actorId) {
         LambdaQueryWrapper<WorkspaceMember> query = new LambdaQueryWrapper<>();
         query.eq(WorkspaceMember::getWorkspaceId, workspaceId);
         query.eq(WorkspaceMember::getUserId, userId);
@@ -183,13 +225,23 @@ public class WorkspaceServiceImpl implements WorkspaceService {
             throw new BusinessException("Member not found");
         }
 
+        boolean wasOwner = MemberRole.OWNER.name().equals(member.getRole());
+        if (wasOwner || MemberRole.OWNER.name().equals(request.getRole())) {
+            requireOwner(workspaceId, actorId);
+        }
+        if (wasOwner && !MemberRole.OWNER.name().equals(request.getRole()) && countOwners(workspaceId) <= 1) {
+            throw new BusinessException("A workspace must keep at least one owner");
+        }
+
         member.setRole(request.getRole());
         workspaceMemberMapper.updateById(member);
+        workspaceAuthz.invalidateUser(userId);
+        stompSubscriptionRegistry.revalidateUser(userId);
     }
 
     @Override
     @Transactional
-    public void removeMember(Long workspaceId, Long userId) {
+    public void removeMember(Long workspaceId, Long userId, Long actorId) {
         LambdaQueryWrapper<WorkspaceMember> query = new LambdaQueryWrapper<>();
         query.eq(WorkspaceMember::getWorkspaceId, workspaceId);
         query.eq(WorkspaceMember::getUserId, userId);
@@ -199,28 +251,64 @@ public class WorkspaceServiceImpl implements WorkspaceService {
             throw new BusinessException("Member not found");
         }
 
-        // Prevent removing owner
+        // Only an owner can remove another owner, and never the last one
         if (MemberRole.OWNER.name().equals(member.getRole())) {
-            throw new BusinessException("Cannot remove workspace owner");
+            requireOwner(workspaceId, actorId);
+            if (countOwners(workspaceId) <= 1) {
+                throw new BusinessException("Cannot remove workspace owner");
+            }
         }
 
         workspaceMemberMapper.deleteById(member.getId());
+        workspaceAuthz.invalidateUser(userId);
+        stompSubscriptionRegistry.revalidateUser(userId);
+        workspaceListCache.invalidateUser(userId);
+        workspaceListCache.invalidateWorkspace(workspaceId);
     }
 
-    private WorkspaceResponse buildWorkspaceResponse(Workspace workspace) {
+    // ADMIN may manage members below OWNER; granting OWNER or touching an owner's membership takes an owner
+    private void requireOwner(Long workspaceId, Long actorId) {
+        if (!workspaceAuthz.hasRole(actorId, workspaceId, MemberRole.OWNER.name())) {
+            throw new BusinessException("Only the workspace owner can manage owners");
+        }
+    }
+
+    private long countOwners(Long workspaceId) {
+        LambdaQueryWrapper<WorkspaceMember> query = new LambdaQueryWrapper<>();
+        query.eq(WorkspaceMember::getWorkspaceId, workspaceId);
+        query.eq(WorkspaceMember::getRole, MemberRole.OWNER.name());
+        return workspaceMemberMapper.selectCount(query);
+    }
+
+    private Map<Long, Integer> loadMemberCounts(List<Long> workspaceIds) {
+        QueryWrapper<WorkspaceMember> query = new QueryWrapper<>();
+        query.select("workspace_id", "COUNT(*) AS member_count");
+        query.in("workspace_id", workspaceIds);
+        query.groupBy("workspace_id");
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Map<String, Object> row : workspaceMemberMapper.selectMaps(query)) {
+            Long workspaceId = ((Number) row.get("workspace_id")).longValue();
+            counts.put(workspaceId, ((Number) row.get("member_count")).intValue());
+        }
+        return counts;
+    }
+
+    private WorkspaceResponse toWorkspaceResponse(Workspace workspace) {
         WorkspaceResponse response = new WorkspaceResponse();
         response.setId(workspace.getId());
         response.setName(workspace.getName());
         response.setDescription(workspace.getDescription());
         response.setCreatedAt(workspace.getCreatedAt());
+        return response;
+    }
+
+    private WorkspaceResponse buildWorkspaceResponse(Workspace workspace) {
+        WorkspaceResponse response = toWorkspaceResponse(workspace);
 
         // Fetch owner
         if (workspace.getOwnerId() != null) {
-            User owner = userMapper.selectById(workspace.getOwnerId());
-            if (owner != null) {
-                response.setOwner(new UserResponse(
-                        owner.getId(), owner.getUsername(), owner.getEmail(), owner.getAvatarUrl()));
-            }
+            response.setOwner(userCache.get(workspace.getOwnerId()));
         }
 
         // Get member count
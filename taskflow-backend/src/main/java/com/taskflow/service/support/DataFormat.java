@@ -0,0 +1,27 @@
+package com.taskflow.service.support;
+
+import com.taskflow.exception.BusinessException;
+import lombok.Getter;
+
+@Getter
+public enum DataFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String extension;
+    private final String contentType;
+
+    DataFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public static DataFormat fromParam(String param) {
+        for (DataFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(param)) {
+                return format;
+            }
+        }
+        throw new BusinessException("Unsupported data format: " + param);
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskflow.service.support;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.entity.Notification;
+import com.taskflow.entity.NotificationReadMark;
+import com.taskflow.mapper.NotificationMapper;
+import com.taskflow.mapper.NotificationReadMarkMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-user read mark and unread counter kept in memory. Counters are loaded once and then moved by inserts and
+// reads; a periodic resync bounds drift from writes made on other instances.
+@Component
+@RequiredArgsConstructor
+public class NotificationReadState {
+
+    private final NotificationMapper notificationMapper;
+    private final NotificationReadMarkMapper notificationReadMarkMapper;
+
+    @Value("${taskflow.notification.unread-resync:300000}")
+    private long resyncMillis;
+
+    private final Map<Long, State> states = new ConcurrentHashMap<>();
+
+    public long lastReadId(Long userId) {
+        return state(userId).lastReadId;
+    }
+
+    public long unreadCount(Long userId) {
+        return Math.max(0, state(userId).unread.get());
+    }
+
+    public void onCreated(Long userId) {
+        afterCommit(() -> {
+            State state = states.get(userId);
+            if (state != null) {
+                state.unread.incrementAndGet();
+            }
+        });
+    }
+
+    public void onRead(Long userId) {
+        afterCommit(() -> {
+            State state = states.get(userId);
+            if (state != null) {
+                state.unread.updateAndGet(count -> Math.max(0, count - 1));
+            }
+        });
+    }
+
+    public void onAllRead(Long userId, long lastReadId) {
+        afterCommit(() -> states.put(userId, new State(lastReadId, 0, System.currentTimeMillis())));
+    }
+
+    private State state(Long userId) {
+        long now = System.currentTimeMillis();
+        State state = states.get(userId);
+        if (state != null && state.loadedAt + resyncMillis > now) {
+            return state;
+        }
+
+        NotificationReadMark mark = notificationReadMarkMapper.selectById(userId);
+        long lastReadId = mark != null && mark.getLastReadNotificationId() != null ? mark.getLastReadNotificationId() : 0L;
+
+        LambdaQueryWrapper<Notification> query = new LambdaQueryWrapper<>();
+        query.eq(Notification::getUserId, userId);
+        query.eq(Notification::getIsRead, 0);
+        query.gt(Notification::getId, lastReadId);
+        long unread = notificationMapper.selectCount(query);
+
+        state = new State(lastReadId, unread, now);
+        states.put(userId, state);
+        return state;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class State {
+        private final long lastReadId;
+        private final AtomicLong unread;
+        private final long loadedAt;
+
+        private State(long lastReadId, long unread, long loadedAt) {
+            this.lastReadId = lastReadId;
+            this.unread = new AtomicLong(unread);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskflow.service.support;
+
+import com.taskflow.mapper.NotificationMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+// Moves read notifications past the retention window into notification_archive, one short transaction per batch.
+// Rows flagged is_read and rows covered by a read mark are found by separate queries, each able to use an index.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final NotificationMapper notificationMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${taskflow.notification.retention-days:90}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${taskflow.notification.archive-interval:3600000}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = archiveAll(cutoff, notificationMapper::selectReadIdsBefore)
+                + archiveAll(cutoff, notificationMapper::selectMarkedReadIdsBefore);
+
+        if (total > 0) {
+            log.info("Archived {} read notifications older than {} days", total, retentionDays);
+        }
+    }
+
+    private int archiveAll(LocalDateTime cutoff, BiFunction<LocalDateTime, Integer, List<Long>> select) {
+        int total = 0;
+        int moved;
+        do {
+            Integer count = transactionTemplate.execute(status -> archiveBatch(select.apply(cutoff, BATCH_SIZE)));
+            moved = count != null ? count : 0;
+            total += moved;
+        } while (moved == BATCH_SIZE);
+        return total;
+    }
+
+    private int archiveBatch(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        notificationMapper.copyToArchive(ids);
+        notificationMapper.deleteBatchIds(ids);
+        return ids.size();
+    }
+}
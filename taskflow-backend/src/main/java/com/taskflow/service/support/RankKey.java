@@ -0,0 +1,138 @@
+package com.taskflow.service.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Fractional ordering keys: base-36 strings compared bytewise, never ending in '0' so there is
+// always room for another key between two neighbours
+public final class RankKey {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int INITIAL_LENGTH = 6;
+    private static final long INITIAL_STEP = BASE * BASE;
+    private static final long INITIAL_OFFSET = (BASE / 2) * BASE + BASE / 2;
+
+    // Containers holding a key longer than this are renumbered by the rebalancer
+    public static final int REBALANCE_LENGTH = 24;
+
+    private RankKey() {
+    }
+
+    // Evenly spaced key for the index-th item; matches the V5 backfill
+    public static String initial(int index) {
+        String digits = Long.toString((index + 1L) * INITIAL_STEP + INITIAL_OFFSET, BASE);
+        StringBuilder key = new StringBuilder();
+        for (int i = digits.length(); i < INITIAL_LENGTH; i++) {
+            key.append('0');
+        }
+        return key.append(digits).toString();
+    }
+
+    // A key strictly between the two; either bound may be null for the start or end of the list
+    public static String between(String before, String after) {
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Rank keys out of order: " + before + " >= " + after);
+        }
+        String low = before != null ? before : "";
+        StringBuilder key = new StringBuilder();
+        boolean bounded = after != null;
+        for (int i = 0; ; i++) {
+            int lo = i < low.length() ? digit(low.charAt(i)) : 0;
+            int hi = bounded ? (i < after.length() ? digit(after.charAt(i)) : 0) : BASE;
+            if (lo == hi) {
+                key.append(DIGITS.charAt(lo));
+                continue;
+            }
+            int mid = (lo + hi) / 2;
+            if (mid > lo) {
+                key.append(DIGITS.charAt(mid));
+                return key.toString();
+            }
+            // Adjacent digits: keep the lower one, from here on only the lower bound matters
+            key.append(DIGITS.charAt(lo));
+            bounded = false;
+        }
+    }
+
+    // New keys for the items whose key must change so that orderedIds is ascending. Items on a
+    // longest increasing run of existing keys keep theirs, so a single drag rewrites one key.
+    public static Map<Long, String> reorder(List<Long> orderedIds, Map<Long, String> currentKeys) {
+        int n = orderedIds.size();
+        String[] keys = new String[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = currentKeys.get(orderedIds.get(i));
+        }
+
+        boolean[] keep = longestIncreasing(keys);
+        String[] nextKept = new String[n + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            nextKept[i] = keep[i] ? keys[i] : nextKept[i + 1];
+        }
+
+        Map<Long, String> changes = new HashMap<>();
+        String previous = null;
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                previous = keys[i];
+                continue;
+            }
+            String key = between(previous, nextKept[i + 1]);
+            changes.put(orderedIds.get(i), key);
+            previous = key;
+        }
+        return changes;
+    }
+
+    private static boolean[] longestIncreasing(String[] keys) {
+        int n = keys.length;
+        int[] tails = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            if (keys[i] == null) {
+                continue;
+            }
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[tails[mid]].compareTo(keys[i]) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            parent[i] = lo > 0 ? tails[lo - 1] : -1;
+            tails[lo] = i;
+            if (lo == length) {
+                length++;
+            }
+        }
+        boolean[] keep = new boolean[n];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = parent[i]) {
+            keep[i] = true;
+        }
+        return keep;
+    }
+
+    public static List<String> initialKeys(int count) {
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(initial(i));
+        }
+        return keys;
+    }
+
+    private static int digit(char c) {
+        int d = DIGITS.indexOf(c);
+        if (d < 0) {
+            throw new IllegalArgumentException("Invalid rank key character: " + c);
+        }
+        return d;
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskflow.service.support;
+
+import com.taskflow.entity.BoardColumn;
+import com.taskflow.entity.Subtask;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.BoardColumnMapper;
+import com.taskflow.mapper.SubtaskMapper;
+import com.taskflow.mapper.TaskMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class RankOrdering {
+
+    private final RankedList<Task> tasks;
+    private final RankedList<BoardColumn> columns;
+    private final RankedList<Subtask> subtasks;
+
+    public RankOrdering(TaskMapper taskMapper, BoardColumnMapper boardColumnMapper, SubtaskMapper subtaskMapper) {
+        this.tasks = new RankedList<>(taskMapper, Task::getId, Task::getBoardColumnId, Task::getRankKey,
+                "board_column_id");
+        this.columns = new RankedList<>(boardColumnMapper, BoardColumn::getId, BoardColumn::getBoardId,
+                BoardColumn::getRankKey, "board_id");
+        this.subtasks = new RankedList<>(subtaskMapper, Subtask::getId, Subtask::getTaskId, Subtask::getRankKey,
+                "task_id");
+    }
+
+    // Tasks within a board column
+    public RankedList<Task> tasks() {
+        return tasks;
+    }
+
+    // Columns within a board
+    public RankedList<BoardColumn> columns() {
+        return columns;
+    }
+
+    // Subtasks within a task
+    public RankedList<Subtask> subtasks() {
+        return subtasks;
+    }
+
+    public List<RankedList<?>> all() {
+        return List.of(tasks, columns, subtasks);
+    }
+}
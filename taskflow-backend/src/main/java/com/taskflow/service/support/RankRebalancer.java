@@ -0,0 +1,30 @@
+package com.taskflow.service.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Renumbers lists whose rank keys grew too long or collided after concurrent moves
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankRebalancer {
+
+    private final RankOrdering rankOrdering;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${taskflow.rank.rebalance-interval:60000}")
+    public void rebalance() {
+        for (RankedList<?> list : rankOrdering.all()) {
+            for (Long containerId : list.containersToRebalance()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> list.rebalance(containerId));
+                } catch (RuntimeException e) {
+                    log.warn("Rank rebalance of container {} failed", containerId, e);
+                }
+            }
+        }
+    }
+}
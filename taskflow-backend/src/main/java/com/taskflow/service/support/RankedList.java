@@ -0,0 +1,207 @@
+package com.taskflow.service.support;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import com.taskflow.exception.BusinessException;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Rank key bookkeeping for one ordered table (tasks in a column, columns in a board, subtasks in a task)
+public class RankedList<T> {
+
+    private static final int REBALANCE_SCAN_LIMIT = 100;
+
+    private final BaseMapper<T> mapper;
+    private final SFunction<T, Long> idColumn;
+    private final SFunction<T, Long> containerColumn;
+    private final SFunction<T, String> rankColumn;
+    private final String containerColumnName;
+
+    public RankedList(BaseMapper<T> mapper, SFunction<T, Long> idColumn, SFunction<T, Long> containerColumn,
+                      SFunction<T, String> rankColumn, String containerColumnName) {
+        this.mapper = mapper;
+        this.idColumn = idColumn;
+        this.containerColumn = containerColumn;
+        this.rankColumn = rankColumn;
+        this.containerColumnName = containerColumnName;
+    }
+
+    public String keyAtEnd(Long containerId) {
+        LambdaQueryWrapper<T> query = new LambdaQueryWrapper<>();
+        query.select(idColumn, rankColumn);
+        query.eq(containerColumn, containerId);
+        query.isNotNull(rankColumn);
+        query.orderByDesc(rankColumn);
+        query.orderByDesc(idColumn);
+        query.last("LIMIT 1");
+        T last = mapper.selectOne(query);
+        return RankKey.between(last != null ? rankColumn.apply(last) : null, null);
+    }
+
+    // Key for dropping an item at a list index, the way the legacy position-based endpoints address it
+    public String keyAtIndex(Long containerId, Long movingId, int index) {
+        LambdaQueryWrapper<T> query = new LambdaQueryWrapper<>();
+        query.select(idColumn, rankColumn);
+        query.eq(containerColumn, containerId);
+        query.ne(idColumn, movingId);
+        query.isNotNull(rankColumn);
+        query.orderByAsc(rankColumn);
+        query.orderByAsc(idColumn);
+        query.last("LIMIT " + (Math.max(index, 0) + 1));
+        List<T> rows = mapper.selectList(query);
+
+        int at = Math.min(Math.max(index, 0), rows.size());
+        String previous = at > 0 ? rankColumn.apply(rows.get(at - 1)) : null;
+        String next = at < rows.size() ? rankColumn.apply(rows.get(at)) : null;
+        try {
+            return RankKey.between(previous, next);
+        } catch (IllegalArgumentException e) {
+            // Two items share a key; renumber the list once and try again
+            rebalance(containerId);
+            return keyAtIndex(containerId, movingId, index);
+        }
+    }
+
+    // Key for placing an item right after previousId and/or right before nextId
+    public String keyBetween(Long containerId, Long movingId, Long previousId, Long nextId) {
+        if (previousId == null && nextId == null) {
+            return keyAtEnd(containerId);
+        }
+        if (movingId.equals(previousId) || movingId.equals(nextId)) {
+            throw new BusinessException("An item cannot be moved next to itself");
+        }
+        String previous = previousId != null ? rankOf(containerId, previousId) : null;
+        String next = nextId != null ? rankOf(containerId, nextId) : null;
+        if (previousId == null) {
+            previous = neighbour(containerId, movingId, next, false);
+        } else if (nextId == null) {
+            next = neighbour(containerId, movingId, previous, true);
+        }
+        if (previous != null && next != null && previous.compareTo(next) > 0) {
+            throw new BusinessException("The previous item must come before the next item");
+        }
+        if (previous != null && previous.equals(next)) {
+            // Two items share a key; renumber the list once and try again
+            rebalance(containerId);
+            return keyBetween(containerId, movingId, previousId, nextId);
+        }
+        return RankKey.between(previous, next);
+    }
+
+    // Applies a full client-side ordering, rewriting only the keys that have to change
+    public int reorder(Long containerId, List<Long> orderedIds) {
+        Map<Long, String> current = loadKeys(containerId);
+        List<Long> ids = new LinkedHashSet<>(orderedIds).stream()
+                .filter(current::containsKey)
+                .collect(Collectors.toList());
+        Map<Long, String> changes = RankKey.reorder(ids, current);
+        changes.forEach(this::updateKey);
+        return changes.size();
+    }
+
+    public void rebalance(Long containerId) {
+        LambdaQueryWrapper<T> query = new LambdaQueryWrapper<>();
+        query.select(idColumn, rankColumn);
+        query.eq(containerColumn, containerId);
+        query.orderByAsc(rankColumn);
+        query.orderByAsc(idColumn);
+        List<T> rows = mapper.selectList(query);
+        for (int i = 0; i < rows.size(); i++) {
+            String key = RankKey.initial(i);
+            if (!key.equals(rankColumn.apply(rows.get(i)))) {
+                updateKey(idColumn.apply(rows.get(i)), key);
+            }
+        }
+    }
+
+    // Containers with an over-long key or two items sharing a key
+    public Set<Long> containersToRebalance() {
+        Set<Long> containers = new LinkedHashSet<>();
+
+        QueryWrapper<T> longKeys = new QueryWrapper<>();
+        longKeys.select("DISTINCT " + containerColumnName + " AS container_id");
+        longKeys.isNotNull(containerColumnName);
+        longKeys.apply("LENGTH(rank_key) > {0}", RankKey.REBALANCE_LENGTH);
+        longKeys.last("LIMIT " + REBALANCE_SCAN_LIMIT);
+        collectContainers(mapper.selectMaps(longKeys), containers);
+
+        QueryWrapper<T> duplicates = new QueryWrapper<>();
+        duplicates.select(containerColumnName + " AS container_id");
+        duplicates.isNotNull(containerColumnName);
+        duplicates.isNotNull("rank_key");
+        duplicates.groupBy(containerColumnName, "rank_key");
+        duplicates.having("COUNT(*) > 1");
+        duplicates.last("LIMIT " + REBALANCE_SCAN_LIMIT);
+        collectContainers(mapper.selectMaps(duplicates), containers);
+        return containers;
+    }
+
+    private void collectContainers(List<Map<String, Object>> rows, Set<Long> containers) {
+        for (Map<String, Object> row : rows) {
+            if (row != null && row.get("container_id") != null) {
+                containers.add(((Number) row.get("container_id")).longValue());
+            }
+        }
+    }
+
+    private String rankOf(Long containerId, Long id) {
+        LambdaQueryWrapper<T> query = new LambdaQueryWrapper<>();
+        query.select(idColumn, rankColumn);
+        query.eq(idColumn, id);
+        query.eq(containerColumn, containerId);
+        T row = mapper.selectOne(query);
+        if (row == null) {
+            throw new BusinessException("Neighbouring item not found in the target list");
+        }
+        String key = rankColumn.apply(row);
+        if (key == null) {
+            rebalance(containerId);
+            return rankOf(containerId, id);
+        }
+        return key;
+    }
+
+    // Closest key after (or before) the given one, ignoring the item being moved
+    private String neighbour(Long containerId, Long movingId, String key, boolean after) {
+        LambdaQueryWrapper<T> query = new LambdaQueryWrapper<>();
+        query.select(idColumn, rankColumn);
+        query.eq(containerColumn, containerId);
+        query.ne(idColumn, movingId);
+        if (after) {
+            query.gt(rankColumn, key);
+            query.orderByAsc(rankColumn);
+        } else {
+            query.lt(rankColumn, key);
+            query.orderByDesc(rankColumn);
+        }
+        query.last("LIMIT 1");
+        T row = mapper.selectOne(query);
+        return row != null ? rankColumn.apply(row) : null;
+    }
+
+    private Map<Long, String> loadKeys(Long containerId) {
+        LambdaQueryWrapper<T> query = new LambdaQueryWrapper<>();
+        query.select(idColumn, rankColumn);
+        query.eq(containerColumn, containerId);
+        Map<Long, String> keys = new HashMap<>();
+        for (T row : mapper.selectList(query)) {
+            keys.put(idColumn.apply(row), rankColumn.apply(row));
+        }
+        return keys;
+    }
+
+    private void updateKey(Long id, String key) {
+        LambdaUpdateWrapper<T> update = new LambdaUpdateWrapper<>();
+        update.eq(idColumn, id);
+        update.set(rankColumn, key);
+        mapper.update(null, update);
+    }
+}
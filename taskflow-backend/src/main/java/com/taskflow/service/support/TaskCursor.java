@@ -0,0 +1,50 @@
+package com.taskflow.service.support;
+
+import com.taskflow.entity.Task;
+import com.taskflow.exception.BusinessException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque keyset position: the sort key of the last returned row plus its id as tie-breaker
+@Getter
+@AllArgsConstructor
+public class TaskCursor {
+
+    private static final String NULL_VALUE = "~";
+    private static final String VALUE_PREFIX = "=";
+
+    private final TaskSortField sortField;
+    private final boolean asc;
+    private final Long id;
+    private final String value;
+
+    public static TaskCursor after(Task task, TaskSortField sortField, boolean asc) {
+        return new TaskCursor(sortField, asc, task.getId(), sortField.format(task));
+    }
+
+    public String encode() {
+        String raw = sortField.getParam() + "|" + (asc ? "asc" : "desc") + "|" + id + "|"
+                + (value == null ? NULL_VALUE : VALUE_PREFIX + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new BusinessException("Invalid cursor");
+            }
+            TaskSortField sortField = TaskSortField.fromParam(parts[0]);
+            boolean asc = "asc".equals(parts[1]);
+            Long id = Long.parseLong(parts[2]);
+            String value = parts[3].startsWith(VALUE_PREFIX) ? parts[3].substring(VALUE_PREFIX.length()) : null;
+            return new TaskCursor(sortField, asc, id, value);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskflow.service.support;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.entity.Task;
+import com.taskflow.exception.BusinessException;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Which TaskResponse scalar fields and relations a caller asked for via ?fields= and ?include=
+@Getter
+public class TaskFieldSet {
+
+    public static final String ASSIGNEE = "assignee";
+    public static final String CREATOR = "creator";
+    public static final String SUBTASKS = "subtasks";
+    public static final String LABELS = "labels";
+    public static final String COMMENT_COUNT = "commentCount";
+
+    private static final Set<String> SCALAR_FIELDS = Set.of(
+            "id", "workspaceId", "boardColumnId", "title", "description", "priority", "status",
+            "startDate", "dueDate", "progress", "assigneeId", "creatorId", "parentTaskId", "position",
+            "rankKey", "createdAt", "updatedAt");
+
+    private static final Set<String> RELATIONS = Set.of(ASSIGNEE, CREATOR, SUBTASKS, LABELS, COMMENT_COUNT);
+
+    public static final TaskFieldSet ALL = new TaskFieldSet(null, null);
+
+    // null means "everything", which keeps the full payload as the default
+    private final Set<String> fields;
+    private final Set<String> includes;
+
+    private TaskFieldSet(Set<String> fields, Set<String> includes) {
+        this.fields = fields;
+        this.includes = includes;
+    }
+
+    public static TaskFieldSet parse(String fields, String include) {
+        if (fields == null && include == null) {
+            return ALL;
+        }
+        Set<String> fieldSet = null;
+        if (fields != null) {
+            fieldSet = split(fields, SCALAR_FIELDS, "Unknown task field: ");
+            fieldSet.add("id");
+        }
+        Set<String> includeSet = include != null ? split(include, RELATIONS, "Unknown task relation: ") : null;
+        return new TaskFieldSet(fieldSet, includeSet);
+    }
+
+    private static Set<String> split(String value, Set<String> allowed, String error) {
+        Set<String> names = Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String name : names) {
+            if (!allowed.contains(name)) {
+                throw new BusinessException(error + name);
+            }
+        }
+        return names;
+    }
+
+    public boolean hasField(String name) {
+        return fields == null || fields.contains(name);
+    }
+
+    public boolean includes(String relation) {
+        return includes == null || includes.contains(relation);
+    }
+
+    // The description TEXT column is the only one worth leaving out of the SQL projection
+    public boolean needsDescription() {
+        return hasField("description");
+    }
+
+    public void applyProjection(LambdaQueryWrapper<Task> queryWrapper) {
+        if (!needsDescription()) {
+            queryWrapper.select(Task.class, info -> !"description".equals(info.getProperty()));
+        }
+    }
+}
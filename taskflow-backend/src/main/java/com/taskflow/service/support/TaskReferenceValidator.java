@@ -0,0 +1,101 @@
+package com.taskflow.service.support;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.taskflow.entity.Board;
+import com.taskflow.entity.BoardColumn;
+import com.taskflow.entity.Label;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.WorkspaceMember;
+import com.taskflow.exception.BusinessException;
+import com.taskflow.mapper.BoardColumnMapper;
+import com.taskflow.mapper.BoardMapper;
+import com.taskflow.mapper.LabelMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.mapper.WorkspaceMemberMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+// Checks that ids taken from a task request point into the task's own workspace. Endpoints are authorized on the
+// workspace or task in the path only, so any other id in the body has to be checked here.
+@Component
+@RequiredArgsConstructor
+public class TaskReferenceValidator {
+
+    private final TaskMapper taskMapper;
+    private final LabelMapper labelMapper;
+    private final BoardMapper boardMapper;
+    private final BoardColumnMapper boardColumnMapper;
+    private final WorkspaceMemberMapper workspaceMemberMapper;
+
+    public void requireAssignee(Long workspaceId, Long assigneeId) {
+        if (assigneeId == null) {
+            return;
+        }
+        LambdaQueryWrapper<WorkspaceMember> memberQuery = new LambdaQueryWrapper<>();
+        memberQuery.eq(WorkspaceMember::getWorkspaceId, workspaceId);
+        memberQuery.eq(WorkspaceMember::getUserId, assigneeId);
+        if (workspaceMemberMapper.selectCount(memberQuery) == 0) {
+            throw new BusinessException("Assignee is not a member of this workspace");
+        }
+    }
+
+    public void requireColumn(Long workspaceId, Long boardColumnId) {
+        if (boardColumnId == null) {
+            return;
+        }
+        BoardColumn column = boardColumnMapper.selectById(boardColumnId);
+        Board board = column != null ? boardMapper.selectById(column.getBoardId()) : null;
+        if (board == null || !board.getWorkspaceId().equals(workspaceId)) {
+            throw new BusinessException("Board column not found");
+        }
+    }
+
+    public void requireParent(Long workspaceId, Long taskId, Long parentTaskId) {
+        if (parentTaskId == null) {
+            return;
+        }
+        if (parentTaskId.equals(taskId)) {
+            throw new BusinessException("A task cannot be its own parent");
+        }
+        requireTasks(workspaceId, Set.of(parentTaskId), "Parent task not found");
+    }
+
+    public void requireTasks(Long workspaceId, Collection<Long> taskIds, String message) {
+        Set<Long> ids = distinct(taskIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        LambdaQueryWrapper<Task> taskQuery = new LambdaQueryWrapper<>();
+        taskQuery.eq(Task::getWorkspaceId, workspaceId);
+        taskQuery.in(Task::getId, ids);
+        if (taskMapper.selectCount(taskQuery) != ids.size()) {
+            throw new BusinessException(message);
+        }
+    }
+
+    public void requireLabels(Long workspaceId, Collection<Long> labelIds) {
+        Set<Long> ids = distinct(labelIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        LambdaQueryWrapper<Label> labelQuery = new LambdaQueryWrapper<>();
+        labelQuery.eq(Label::getWorkspaceId, workspaceId);
+        labelQuery.in(Label::getId, ids);
+        if (labelMapper.selectCount(labelQuery) != ids.size()) {
+            throw new BusinessException("Label not found");
+        }
+    }
+
+    private Set<Long> distinct(Collection<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(distinct::add);
+        }
+        return distinct;
+    }
+}
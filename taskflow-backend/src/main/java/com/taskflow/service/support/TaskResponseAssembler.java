@@ -0,0 +1,225 @@
+package com.taskflow.service.support;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.taskflow.dto.response.LabelResponse;
+import com.taskflow.dto.response.SubtaskResponse;
+import com.taskflow.dto.response.TaskResponse;
+import com.taskflow.dto.response.UserResponse;
+import com.taskflow.entity.Comment;
+import com.taskflow.entity.Label;
+import com.taskflow.entity.Subtask;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskLabel;
+import com.taskflow.mapper.CommentMapper;
+import com.taskflow.mapper.LabelMapper;
+import com.taskflow.mapper.SubtaskMapper;
+import com.taskflow.mapper.TaskLabelMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class TaskResponseAssembler {
+
+    private final UserCache userCache;
+    private final SubtaskMapper subtaskMapper;
+    private final CommentMapper commentMapper;
+    private final TaskLabelMapper taskLabelMapper;
+    private final LabelMapper labelMapper;
+
+    public TaskResponse assemble(Task task) {
+        return assemble(List.of(task)).get(0);
+    }
+
+    public List<TaskResponse> assemble(List<Task> tasks) {
+        return assemble(tasks, TaskFieldSet.ALL);
+    }
+
+    // Hydrates relations with one query per relation type, independent of the batch size
+    public List<TaskResponse> assemble(List<Task> tasks, TaskFieldSet fieldSet) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> taskIds = tasks.stream().map(Task::getId).collect(Collectors.toList());
+
+        boolean withAssignee = fieldSet.includes(TaskFieldSet.ASSIGNEE);
+        boolean withCreator = fieldSet.includes(TaskFieldSet.CREATOR);
+        boolean withSubtasks = fieldSet.includes(TaskFieldSet.SUBTASKS);
+        boolean withCommentCount = fieldSet.includes(TaskFieldSet.COMMENT_COUNT);
+        boolean withLabels = fieldSet.includes(TaskFieldSet.LABELS);
+
+        Map<Long, UserResponse> users = withAssignee || withCreator
+                ? loadUsers(tasks, withAssignee, withCreator) : new HashMap<>();
+        Map<Long, List<SubtaskResponse>> subtasks = withSubtasks ? loadSubtasks(taskIds) : new HashMap<>();
+        Map<Long, Integer> commentCounts = withCommentCount ? loadCommentCounts(taskIds) : new HashMap<>();
+        Map<Long, List<LabelResponse>> labels = withLabels ? loadLabels(taskIds) : new HashMap<>();
+
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            TaskResponse response = toBaseResponse(task, fieldSet);
+            if (withAssignee && task.getAssigneeId() != null) {
+                response.setAssignee(users.get(task.getAssigneeId()));
+            }
+            if (withCreator && task.getCreatorId() != null) {
+                response.setCreator(users.get(task.getCreatorId()));
+            }
+            if (withSubtasks) {
+                response.setSubtasks(subtasks.getOrDefault(task.getId(), new ArrayList<>()));
+            }
+            if (withCommentCount) {
+                response.setCommentCount(commentCounts.getOrDefault(task.getId(), 0));
+            }
+            if (withLabels) {
+                response.setLabels(labels.getOrDefault(task.getId(), new ArrayList<>()));
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private TaskResponse toBaseResponse(Task task, TaskFieldSet fieldSet) {
+        TaskResponse response = new TaskResponse();
+        response.setId(task.getId());
+        if (fieldSet.hasField("workspaceId")) {
+            response.setWorkspaceId(task.getWorkspaceId());
+        }
+        if (fieldSet.hasField("boardColumnId")) {
+            response.setBoardColumnId(task.getBoardColumnId());
+        }
+        if (fieldSet.hasField("title")) {
+            response.setTitle(task.getTitle());
+        }
+        if (fieldSet.hasField("description")) {
+            response.setDescription(task.getDescription());
+        }
+        if (fieldSet.hasField("priority")) {
+            response.setPriority(task.getPriority());
+        }
+        if (fieldSet.hasField("status")) {
+            response.setStatus(task.getStatus());
+        }
+        if (fieldSet.hasField("startDate")) {
+            response.setStartDate(task.getStartDate());
+        }
+        if (fieldSet.hasField("dueDate")) {
+            response.setDueDate(task.getDueDate());
+        }
+        if (fieldSet.hasField("progress")) {
+            response.setProgress(task.getProgress());
+        }
+        if (fieldSet.hasField("assigneeId")) {
+            response.setAssigneeId(task.getAssigneeId());
+        }
+        if (fieldSet.hasField("creatorId")) {
+            response.setCreatorId(task.getCreatorId());
+        }
+        if (fieldSet.hasField("parentTaskId")) {
+            response.setParentTaskId(task.getParentTaskId());
+        }
+        if (fieldSet.hasField("position")) {
+            response.setPosition(task.getPosition());
+        }
+        if (fieldSet.hasField("rankKey")) {
+            response.setRankKey(task.getRankKey());
+        }
+        if (fieldSet.hasField("createdAt")) {
+            response.setCreatedAt(task.getCreatedAt());
+        }
+        if (fieldSet.hasField("updatedAt")) {
+            response.setUpdatedAt(task.getUpdatedAt());
+        }
+        return response;
+    }
+
+    private Map<Long, UserResponse> loadUsers(List<Task> tasks, boolean withAssignee, boolean withCreator) {
+        Set<Long> userIds = new HashSet<>();
+        for (Task task : tasks) {
+            if (withAssignee && task.getAssigneeId() != null) {
+                userIds.add(task.getAssigneeId());
+            }
+            if (withCreator && task.getCreatorId() != null) {
+                userIds.add(task.getCreatorId());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return userCache.getAll(userIds);
+    }
+
+    private Map<Long, List<SubtaskResponse>> loadSubtasks(Collection<Long> taskIds) {
+        LambdaQueryWrapper<Subtask> query = new LambdaQueryWrapper<>();
+        query.in(Subtask::getTaskId, taskIds);
+        query.orderByAsc(Subtask::getTaskId, Subtask::getRankKey, Subtask::getId);
+        return subtaskMapper.selectList(query).stream()
+                .map(s -> new SubtaskResponse(s.getId(), s.getTaskId(), s.getTitle(), s.getIsCompleted(),
+                        s.getPosition(), s.getRankKey()))
+                .collect(Collectors.groupingBy(SubtaskResponse::getTaskId));
+    }
+
+    private Map<Long, Integer> loadCommentCounts(Collection<Long> taskIds) {
+        QueryWrapper<Comment> query = new QueryWrapper<>();
+        query.select("task_id", "COUNT(*) AS comment_count");
+        query.in("task_id", taskIds);
+        query.groupBy("task_id");
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Map<String, Object> row : commentMapper.selectMaps(query)) {
+            Long taskId = ((Number) row.get("task_id")).longValue();
+            counts.put(taskId, ((Number) row.get("comment_count")).intValue());
+        }
+        return counts;
+    }
+
+    // Current labels per task, for pushing a label change; a task without labels maps to an empty list
+    public Map<Long, List<LabelResponse>> labelsOf(Collection<Long> taskIds) {
+        Map<Long, List<LabelResponse>> labels = loadLabels(taskIds);
+        for (Long taskId : taskIds) {
+            labels.putIfAbsent(taskId, new ArrayList<>());
+        }
+        return labels;
+    }
+
+    private Map<Long, List<LabelResponse>> loadLabels(Collection<Long> taskIds) {
+        LambdaQueryWrapper<TaskLabel> linkQuery = new LambdaQueryWrapper<>();
+        linkQuery.in(TaskLabel::getTaskId, taskIds);
+        List<TaskLabel> links = taskLabelMapper.selectList(linkQuery);
+        if (links.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Set<Long> labelIds = links.stream().map(TaskLabel::getLabelId).collect(Collectors.toSet());
+        LambdaQueryWrapper<Label> labelQuery = new LambdaQueryWrapper<>();
+        labelQuery.in(Label::getId, labelIds);
+        Map<Long, LabelResponse> labelsById = labelMapper.selectList(labelQuery).stream()
+                .map(this::toLabelResponse)
+                .collect(Collectors.toMap(LabelResponse::getId, Function.identity()));
+
+        return links.stream()
+                .filter(tl -> labelsById.containsKey(tl.getLabelId()))
+                .collect(Collectors.groupingBy(TaskLabel::getTaskId,
+                        Collectors.mapping(tl -> labelsById.get(tl.getLabelId()), Collectors.toList())));
+    }
+
+    private LabelResponse toLabelResponse(Label label) {
+        LabelResponse lr = new LabelResponse();
+        lr.setId(label.getId());
+        lr.setWorkspaceId(label.getWorkspaceId());
+        lr.setName(label.getName());
+        lr.setColor(label.getColor());
+        lr.setCreatedAt(label.getCreatedAt());
+        return lr;
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskflow.service.support;
+
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import com.taskflow.entity.Task;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+@Getter
+public enum TaskSortField {
+
+    CREATED_AT("createdAt", Task::getCreatedAt, LocalDateTime::parse),
+    UPDATED_AT("updatedAt", Task::getUpdatedAt, LocalDateTime::parse),
+    DUE_DATE("dueDate", Task::getDueDate, LocalDate::parse),
+    TITLE("title", Task::getTitle, Function.identity()),
+    PRIORITY("priority", Task::getPriority, Function.identity()),
+    STATUS("status", Task::getStatus, Function.identity());
+
+    private final String param;
+    private final SFunction<Task, ?> column;
+    private final Function<String, ?> parser;
+
+    TaskSortField(String param, SFunction<Task, ?> column, Function<String, ?> parser) {
+        this.param = param;
+        this.column = column;
+        this.parser = parser;
+    }
+
+    public static TaskSortField fromParam(String param) {
+        for (TaskSortField field : values()) {
+            if (field.param.equals(param)) {
+                return field;
+            }
+        }
+        return CREATED_AT;
+    }
+
+    public String format(Task task) {
+        Object value = column.apply(task);
+        return value != null ? value.toString() : null;
+    }
+
+    public Object parse(String value) {
+        return value != null ? parser.apply(value) : null;
+    }
+}
@@ -0,0 +1,197 @@
+package com.taskflow.service.support;
+
+import com.taskflow.dto.response.UserResponse;
+import com.taskflow.entity.User;
+import com.taskflow.mapper.UserMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bounded cache of user profiles keyed by id; entries expire after a TTL so writes from other instances show up.
+// Hits take no lock: each entry records its last access, and whichever writer pushes the map past max-size trims
+// the least recently used entries in one pass, so the bound is approximate between trims.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+
+    // Trims down to this share of max-size so a full cache is not re-sorted on every insert
+    private static final double TRIM_RATIO = 0.9;
+
+    private final UserMapper userMapper;
+
+    @Value("${taskflow.cache.user.max-size:10000}")
+    private int maxSize;
+
+    @Value("${taskflow.cache.user.ttl:600000}")
+    private long ttlMillis;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock trimLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserResponse get(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    // Resolves every cache miss with a single IN query; unknown ids are absent from the result
+    public Map<Long, UserResponse> getAll(Collection<Long> userIds) {
+        Map<Long, UserResponse> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+
+        for (Long userId : userIds) {
+            if (userId == null || result.containsKey(userId)) {
+                continue;
+            }
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.expiresAt > now) {
+                if (entry.lastAccess != now) {
+                    entry.lastAccess = now;
+                }
+                result.put(userId, entry.user);
+                hits.increment();
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        misses.add(missing.size());
+        List<User> users = userMapper.selectBatchIds(missing);
+        for (User user : users) {
+            UserResponse response = toUserResponse(user);
+            entries.put(user.getId(), new Entry(response, now + ttlMillis, now));
+            result.put(user.getId(), response);
+        }
+        if (entries.size() > maxSize) {
+            trim();
+        }
+        return result;
+    }
+
+    public List<UserResponse> getList(Collection<Long> userIds) {
+        Map<Long, UserResponse> users = getAll(userIds);
+        List<UserResponse> result = new ArrayList<>(users.size());
+        for (Long userId : userIds) {
+            UserResponse user = users.get(userId);
+            if (user != null) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
+    public void evict(Long userId) {
+        entries.remove(userId);
+    }
+
+    // Evicts again after commit so a concurrent reader cannot re-cache the pre-update row
+    public void evictAfterCommit(Long userId) {
+        evict(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(userId);
+            }
+        });
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("size", (long) entries.size());
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.cache.user.stats-interval:300000}")
+    public void logStats() {
+        Map<String, Long> stats = getStats();
+        long lookups = stats.get("hits") + stats.get("misses");
+        if (lookups > 0) {
+            log.info("User cache stats: {} (hit ratio {}%)", stats, stats.get("hits") * 100 / lookups);
+        }
+    }
+
+    // Drops expired entries, then the least recently used ones; concurrent writers skip it while a trim is running
+    private void trim() {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.entrySet().removeIf(e -> {
+                if (e.getValue().expiresAt <= now) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            });
+            int excess = entries.size() - (int) (maxSize * TRIM_RATIO);
+            if (excess <= 0) {
+                return;
+            }
+            // Access times are copied first; hits keep updating them while the snapshot is sorted
+            List<Candidate> candidates = new ArrayList<>(entries.size());
+            entries.forEach((userId, entry) -> candidates.add(new Candidate(userId, entry, entry.lastAccess)));
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                Candidate eldest = candidates.get(i);
+                if (entries.remove(eldest.userId(), eldest.entry())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private UserResponse toUserResponse(User user) {
+        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(), user.getAvatarUrl());
+    }
+
+    private record Candidate(Long userId, Entry entry, long lastAccess) {
+    }
+
+    private static final class Entry {
+        private final UserResponse user;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(UserResponse user, long expiresAt, long lastAccess) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskflow.service.support;
+
+import com.taskflow.dto.response.WorkspaceResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Short-lived per-user copy of the sidebar workspace list; dropped whenever a listed workspace or membership changes
+@Component
+public class WorkspaceListCache {
+
+    @Value("${taskflow.cache.workspace-list.ttl:30000}")
+    private long ttlMillis;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public List<WorkspaceResponse> get(Long userId, Supplier<List<WorkspaceResponse>> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.workspaces;
+        }
+
+        List<WorkspaceResponse> workspaces = List.copyOf(loader.get());
+        entries.put(userId, new Entry(workspaces, now + ttlMillis));
+        return workspaces;
+    }
+
+    // Expired entries are never served; this only keeps users who stopped asking from holding memory
+    @Scheduled(fixedDelayString = "${taskflow.cache.workspace-list.sweep-interval:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(e -> e.expiresAt <= now);
+    }
+
+    public void invalidateUser(Long userId) {
+        afterCommitToo(() -> entries.remove(userId));
+    }
+
+    // Member counts and names are shown in every member's list, so every list containing the workspace goes
+    public void invalidateWorkspace(Long workspaceId) {
+        afterCommitToo(() -> entries.values().removeIf(e -> e.workspaces.stream()
+                .anyMatch(w -> workspaceId.equals(w.getId()))));
+    }
+
+    private void afterCommitToo(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private static final class Entry {
+        private final List<WorkspaceResponse> workspaces;
+        private final long expiresAt;
+
+        private Entry(List<WorkspaceResponse> workspaces, long expiresAt) {
+            this.workspaces = workspaces;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
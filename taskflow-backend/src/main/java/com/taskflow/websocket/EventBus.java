@@ -0,0 +1,10 @@
+package com.taskflow.websocket;
+
+// Delivers a message to every subscriber of a destination, whichever node they are connected to
+public interface EventBus {
+
+    void publish(String destination, Object payload);
+
+    // Internal event for the other nodes only; they receive it as a ClusterEvent
+    void broadcast(String channel, String payload);
+}
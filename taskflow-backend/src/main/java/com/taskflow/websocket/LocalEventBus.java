@@ -0,0 +1,25 @@
+package com.taskflow.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+// Single-node setup: messages go straight to this node's broker
+@Component
+@ConditionalOnProperty(name = "taskflow.realtime.bus", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalEventBus implements EventBus {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void publish(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+
+    @Override
+    public void broadcast(String channel, String payload) {
+        // No other nodes
+    }
+}
@@ -0,0 +1,271 @@
+package com.taskflow.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// Outbound flow control per STOMP session. Each session has at most one broker message in flight on the outbound
+// channel and parks the rest in its own queue, so a slow client holds at most one outbound thread and messages keep
+// their order. When a queue reaches the high-water mark, everything parked is discarded and replaced by a single
+// RESYNC frame per subscription; the client reloads instead of working through a backlog.
+@Slf4j
+@Component
+public class OutboundBackpressureInterceptor implements ExecutorChannelInterceptor {
+
+    private static final byte[] RESYNC_PAYLOAD = "{\"type\":\"RESYNC\"}".getBytes(StandardCharsets.UTF_8);
+    private static final long IDLE_SESSION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final int LOGGED_SESSIONS = 20;
+
+    @Value("${taskflow.realtime.outbound.high-water:256}")
+    private int highWater;
+
+    private final Map<String, SessionQueue> sessions = new ConcurrentHashMap<>();
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = brokerMessageSession(message);
+        if (sessionId == null) {
+            return message;
+        }
+        SessionQueue session = sessions.computeIfAbsent(sessionId, id -> new SessionQueue());
+        synchronized (session) {
+            session.lastActivity = System.currentTimeMillis();
+            if (session.releasing == message) {
+                session.releasing = null;
+                return message;
+            }
+            if (!session.inFlight) {
+                session.inFlight = true;
+                session.inFlightSince = System.nanoTime();
+                return message;
+            }
+            enqueue(session, message);
+            return null;
+        }
+    }
+
+    // A message that never reached the executor will not be handled, so it must not keep the session blocked
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (sent && ex == null) {
+            return;
+        }
+        String sessionId = brokerMessageSession(message);
+        SessionQueue session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session != null) {
+            synchronized (session) {
+                session.inFlight = false;
+                session.releasing = null;
+            }
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        String sessionId = brokerMessageSession(message);
+        SessionQueue session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session == null) {
+            return;
+        }
+
+        Message<?> next;
+        synchronized (session) {
+            session.recordSent(System.nanoTime() - session.inFlightSince);
+            Pending pending = session.queue.pollFirst();
+            if (pending == null) {
+                session.inFlight = false;
+                return;
+            }
+            if (pending.resync) {
+                session.resyncPending.remove(SimpMessageHeaderAccessor.getSubscriptionId(pending.message.getHeaders()));
+            }
+            session.releasing = pending.message;
+            session.inFlightSince = pending.enqueuedAt;
+            next = pending.message;
+        }
+
+        try {
+            channel.send(next);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release queued message for session {}", sessionId, e);
+            synchronized (session) {
+                session.releasing = null;
+                session.inFlight = false;
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    public Map<String, Long> getStats() {
+        long queued = 0;
+        long maxLatency = 0;
+        for (SessionQueue session : sessions.values()) {
+            synchronized (session) {
+                queued += session.queue.size();
+                maxLatency = Math.max(maxLatency, session.maxLatencyNanos);
+            }
+        }
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("sessions", (long) sessions.size());
+        stats.put("queued", queued);
+        stats.put("dropped", dropped.sum());
+        stats.put("resyncs", resyncs.sum());
+        stats.put("maxLatencyMs", TimeUnit.NANOSECONDS.toMillis(maxLatency));
+        return stats;
+    }
+
+    public Map<String, Map<String, Long>> getSessionStats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        sessions.forEach((sessionId, session) -> stats.put(sessionId, session.snapshot()));
+        return stats;
+    }
+
+    // Logs the totals plus the sessions that are furthest behind, and forgets sessions that have gone quiet
+    @Scheduled(fixedDelayString = "${taskflow.realtime.outbound.stats-interval:60000}")
+    public void logStats() {
+        long idleBefore = System.currentTimeMillis() - IDLE_SESSION_MILLIS;
+        sessions.entrySet().removeIf(entry -> {
+            SessionQueue session = entry.getValue();
+            synchronized (session) {
+                return !session.inFlight && session.queue.isEmpty() && session.lastActivity < idleBefore;
+            }
+        });
+
+        Map<String, Long> stats = getStats();
+        if (stats.get("dropped") == 0 && stats.get("queued") == 0) {
+            return;
+        }
+        List<Map.Entry<String, Map<String, Long>>> lagging = getSessionStats().entrySet().stream()
+                .filter(entry -> entry.getValue().get("depth") > 0 || entry.getValue().get("dropped") > 0)
+                .sorted(Comparator.comparing((Map.Entry<String, Map<String, Long>> entry) ->
+                        entry.getValue().get("depth")).reversed())
+                .limit(LOGGED_SESSIONS)
+                .collect(Collectors.toList());
+        log.info("WebSocket outbound stats: {}, lagging sessions: {}", stats, lagging);
+    }
+
+    private void enqueue(SessionQueue session, Message<?> message) {
+        if (session.queue.size() >= highWater) {
+            coalesce(session);
+        }
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        if (subscriptionId != null && session.resyncPending.contains(subscriptionId)) {
+            // Already covered by the RESYNC waiting in the queue
+            session.dropped++;
+            dropped.increment();
+            return;
+        }
+        session.queue.addLast(new Pending(message, System.nanoTime(), false));
+        session.maxDepth = Math.max(session.maxDepth, session.queue.size());
+    }
+
+    // Replaces every parked message with one RESYNC per subscription that lost something
+    private void coalesce(SessionQueue session) {
+        Deque<Pending> kept = new ArrayDeque<>();
+        for (Pending pending : session.queue) {
+            if (pending.resync) {
+                kept.addLast(pending);
+                continue;
+            }
+            session.dropped++;
+            dropped.increment();
+            String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(pending.message.getHeaders());
+            if (subscriptionId != null && session.resyncPending.add(subscriptionId)) {
+                kept.addLast(new Pending(resyncFor(pending.message), pending.enqueuedAt, true));
+                session.resyncs++;
+                resyncs.increment();
+            }
+        }
+        session.queue = kept;
+    }
+
+    private Message<byte[]> resyncFor(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SimpMessageHeaderAccessor.getSessionId(headers));
+        accessor.setSubscriptionId(SimpMessageHeaderAccessor.getSubscriptionId(headers));
+        accessor.setDestination(SimpMessageHeaderAccessor.getDestination(headers));
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(RESYNC_PAYLOAD, accessor.getMessageHeaders());
+    }
+
+    // Only broker-to-client MESSAGE frames are flow controlled; connect acks, heartbeats and errors pass straight through
+    private String brokerMessageSession(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return null;
+        }
+        return SimpMessageHeaderAccessor.getSessionId(headers);
+    }
+
+    private record Pending(Message<?> message, long enqueuedAt, boolean resync) {
+    }
+
+    private static final class SessionQueue {
+        private Deque<Pending> queue = new ArrayDeque<>();
+        private final Set<String> resyncPending = new HashSet<>();
+        private boolean inFlight;
+        private long inFlightSince;
+        private Message<?> releasing;
+        private long lastActivity;
+
+        private int maxDepth;
+        private long sent;
+        private long dropped;
+        private long resyncs;
+        private long latencyTotalNanos;
+        private long maxLatencyNanos;
+
+        // Latency is from the broker handing the message over to it being written to the session
+        private void recordSent(long latencyNanos) {
+            sent++;
+            latencyTotalNanos += latencyNanos;
+            maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+        }
+
+        private synchronized Map<String, Long> snapshot() {
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("depth", (long) queue.size() + (inFlight ? 1 : 0));
+            stats.put("maxDepth", (long) maxDepth);
+            stats.put("sent", sent);
+            stats.put("dropped", dropped);
+            stats.put("resyncs", resyncs);
+            stats.put("avgLatencyMs", sent > 0 ? TimeUnit.NANOSECONDS.toMillis(latencyTotalNanos / sent) : 0L);
+            stats.put("maxLatencyMs", TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos));
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.taskflow.websocket;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.cluster.ClusterEvent;
+import com.taskflow.entity.RealtimeOutbox;
+import com.taskflow.mapper.RealtimeOutboxMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Multi-node fan-out through MySQL alone. A message is delivered to this node's subscribers right away and queued
+// for realtime_outbox, which is written in multi-row batches; every node polls the table for rows written by the
+// others and hands each one to its own broker exactly once. Ids are reserved at insert time but become visible at
+// commit, so a batch can appear behind ids that were already polled past; a slower re-scan of everything written
+// within the settle window picks those rows up. The same table carries cache invalidations between nodes.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "taskflow.realtime.bus", havingValue = "outbox")
+@RequiredArgsConstructor
+public class OutboxEventBus implements EventBus {
+
+    private static final int SWEEP_BATCH_SIZE = 1000;
+    // Rows under this prefix are internal events for the nodes, not broker destinations
+    private static final String CLUSTER_PREFIX = "cluster:";
+
+    private final RealtimeOutboxMapper realtimeOutboxMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${taskflow.realtime.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${taskflow.realtime.outbox.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${taskflow.realtime.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${taskflow.realtime.outbox.flush-interval:50}")
+    private long flushIntervalMillis;
+
+    @Value("${taskflow.realtime.outbox.poll-interval:100}")
+    private long pollIntervalMillis;
+
+    @Value("${taskflow.realtime.outbox.settle-window:10000}")
+    private long settleWindowMillis;
+
+    @Value("${taskflow.realtime.outbox.settle-interval:1000}")
+    private long settleIntervalMillis;
+
+    @Value("${taskflow.realtime.outbox.retention:300000}")
+    private long retentionMillis;
+
+    private String nodeId;
+    private BlockingQueue<RealtimeOutbox> outgoing;
+    private ScheduledExecutorService worker;
+    private long startId;
+    private long lastSeenId;
+
+    // Delivered ids with the local time they arrived, in arrival order; only touched from the worker thread.
+    // An id has to be remembered for as long as the settle re-scan can still return it.
+    private final LinkedHashMap<Long, Long> delivered = new LinkedHashMap<>();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writeFailed = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder late = new LongAdder();
+    private final LongAdder latencyTotal = new LongAdder();
+    private final LongAccumulator latencyMax = new LongAccumulator(Math::max, 0);
+
+    @PostConstruct
+    public void start() {
+        nodeId = StringUtils.hasText(configuredNodeId) ? configuredNodeId : UUID.randomUUID().toString();
+        outgoing = new ArrayBlockingQueue<>(queueCapacity);
+        // Start from the current end of the table; history from before this node started is not replayed
+        Long maxId = realtimeOutboxMapper.selectMaxId();
+        startId = maxId != null ? maxId : 0L;
+        lastSeenId = startId;
+
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "realtime-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        worker.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        worker.scheduleWithFixedDelay(this::settleSafely, settleIntervalMillis, settleIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Realtime outbox bus started as node {}", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        worker.shutdown();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+        flushSafely();
+    }
+
+    @Override
+    public void publish(String destination, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize message for {}", destination, e);
+            return;
+        }
+        deliver(destination, json);
+        write(destination, json);
+    }
+
+    @Override
+    public void broadcast(String channel, String payload) {
+        write(CLUSTER_PREFIX + channel, payload);
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.realtime.outbox.sweep-interval:60000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+        int deleted;
+        do {
+            LambdaQueryWrapper<RealtimeOutbox> query = new LambdaQueryWrapper<>();
+            query.lt(RealtimeOutbox::getCreatedAt, cutoff);
+            query.last("LIMIT " + SWEEP_BATCH_SIZE);
+            deleted = realtimeOutboxMapper.delete(query);
+        } while (deleted == SWEEP_BATCH_SIZE);
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("pending", (long) outgoing.size());
+        stats.put("published", published.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("written", written.sum());
+        stats.put("writeFailed", writeFailed.sum());
+        stats.put("received", received.sum());
+        stats.put("duplicates", duplicates.sum());
+        stats.put("late", late.sum());
+        long count = received.sum();
+        stats.put("avgLatencyMs", count > 0 ? latencyTotal.sum() / count : 0L);
+        stats.put("maxLatencyMs", latencyMax.get());
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.realtime.outbox.stats-interval:300000}")
+    public void logStats() {
+        Map<String, Long> stats = getStats();
+        if (stats.get("published") > 0 || stats.get("received") > 0) {
+            log.info("Realtime outbox stats for node {}: {}", nodeId, stats);
+        }
+    }
+
+    private void write(String destination, String json) {
+        RealtimeOutbox row = new RealtimeOutbox();
+        row.setNodeId(nodeId);
+        row.setDestination(destination);
+        row.setPayload(json);
+        row.setCreatedAt(LocalDateTime.now());
+        if (outgoing.offer(row)) {
+            published.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private void flushSafely() {
+        List<RealtimeOutbox> batch = new ArrayList<>(batchSize);
+        while (outgoing.drainTo(batch, batchSize) > 0) {
+            try {
+                realtimeOutboxMapper.insertAll(batch);
+                written.add(batch.size());
+            } catch (RuntimeException e) {
+                writeFailed.add(batch.size());
+                log.warn("Failed to write {} realtime messages to the outbox", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll the realtime outbox", e);
+        }
+    }
+
+    private void poll() {
+        long afterId = lastSeenId;
+        while (true) {
+            List<Long> ids = realtimeOutboxMapper.selectIdsAfter(afterId, nodeId, batchSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+            afterId = ids.get(ids.size() - 1);
+            lastSeenId = Math.max(lastSeenId, afterId);
+            deliverRows(undelivered(ids));
+            if (ids.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void settleSafely() {
+        try {
+            settle();
+        } catch (RuntimeException e) {
+            log.warn("Failed to re-scan the realtime outbox", e);
+        }
+    }
+
+    // Anything still undelivered here committed after the fast poll had moved past its id
+    private void settle() {
+        long afterId = startId;
+        while (true) {
+            List<Long> ids = realtimeOutboxMapper.selectRecentIds(settleWindowMillis, nodeId, afterId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            List<Long> fresh = undelivered(ids);
+            late.add(fresh.size());
+            deliverRows(fresh);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+
+        // Twice the window leaves room for the database and this node disagreeing on the time
+        long forgetBefore = System.currentTimeMillis() - 2 * settleWindowMillis;
+        Iterator<Long> receivedAt = delivered.values().iterator();
+        while (receivedAt.hasNext() && receivedAt.next() < forgetBefore) {
+            receivedAt.remove();
+        }
+    }
+
+    private List<Long> undelivered(List<Long> ids) {
+        List<Long> fresh = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (!delivered.containsKey(id)) {
+                fresh.add(id);
+            }
+        }
+        return fresh;
+    }
+
+    private void deliverRows(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<RealtimeOutbox> rows = new ArrayList<>(realtimeOutboxMapper.selectBatchIds(ids));
+        rows.sort(Comparator.comparing(RealtimeOutbox::getId));
+        LocalDateTime now = LocalDateTime.now();
+        long receivedAt = System.currentTimeMillis();
+        // The same message written twice in one batch (e.g. a retried write) reaches subscribers once
+        Set<String> seen = new HashSet<>();
+        for (RealtimeOutbox row : rows) {
+            delivered.put(row.getId(), receivedAt);
+            if (!seen.add(row.getDestination() + '\n' + row.getPayload())) {
+                duplicates.increment();
+                continue;
+            }
+            if (row.getDestination().startsWith(CLUSTER_PREFIX)) {
+                dispatch(row);
+                continue;
+            }
+            deliver(row.getDestination(), row.getPayload());
+            received.increment();
+            // Writer-to-subscriber delay; assumes node clocks are in sync
+            long latency = Math.max(0L, Duration.between(row.getCreatedAt(), now).toMillis());
+            latencyTotal.add(latency);
+            latencyMax.accumulate(latency);
+        }
+    }
+
+    private void dispatch(RealtimeOutbox row) {
+        try {
+            eventPublisher.publishEvent(new ClusterEvent(row.getDestination().substring(CLUSTER_PREFIX.length()),
+                    row.getPayload()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply cluster event {}", row.getDestination(), e);
+        }
+    }
+
+    // Sends pre-serialized JSON so the broker's converter does not re-encode it as a string
+    private void deliver(String destination, String json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        try {
+            messagingTemplate.send(destination, MessageBuilder.createMessage(
+                    json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to deliver realtime message to {}", destination, e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.taskflow.websocket;
+
+import com.taskflow.security.JwtAuthenticator;
+import com.taskflow.security.JwtPrincipal;
+import com.taskflow.security.WorkspaceAuthz;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// The JWT is verified once at CONNECT and the principal stays on the session. SUBSCRIBE is checked against the
+// in-memory membership map, so no frame touches the database. Clients may not publish to broker destinations.
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final Pattern WORKSPACE_TOPIC = Pattern.compile("^/topic/workspace/(\\d{1,18})/tasks$");
+    private static final Pattern USER_TOPIC = Pattern.compile("^/topic/user/(\\d{1,18})/notifications$");
+
+    private final JwtAuthenticator jwtAuthenticator;
+    private final WorkspaceAuthz workspaceAuthz;
+    private final StompSubscriptionRegistry stompSubscriptionRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> authenticate(accessor);
+            case SUBSCRIBE -> authorizeSubscribe(accessor);
+            case UNSUBSCRIBE -> stompSubscriptionRegistry.removeSubscription(
+                    accessor.getSessionId(), accessor.getSubscriptionId());
+            case SEND -> authorizeSend(accessor);
+            case DISCONNECT -> stompSubscriptionRegistry.removeSession(accessor.getSessionId());
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        String header = accessor.getFirstNativeHeader("Authorization");
+        if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
+            throw new AccessDeniedException("Missing access token");
+        }
+        JwtPrincipal principal = jwtAuthenticator.authenticate(header.substring(7));
+        if (principal == null) {
+            throw new AccessDeniedException("Invalid access token");
+        }
+        accessor.setUser(new UsernamePasswordAuthenticationToken(principal, null, Collections.emptyList()));
+    }
+
+    private void authorizeSubscribe(StompHeaderAccessor accessor) {
+        Long userId = userId(accessor);
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            throw new AccessDeniedException("Subscription destination is required");
+        }
+
+        Matcher workspace = WORKSPACE_TOPIC.matcher(destination);
+        if (workspace.matches()) {
+            Long workspaceId = Long.parseLong(workspace.group(1));
+            if (!workspaceAuthz.hasRole(userId, workspaceId, "VIEWER")) {
+                throw new AccessDeniedException("Not a member of workspace " + workspaceId);
+            }
+            stompSubscriptionRegistry.addWorkspaceSubscription(
+                    accessor.getSessionId(), userId, accessor.getSubscriptionId(), workspaceId);
+            return;
+        }
+
+        Matcher user = USER_TOPIC.matcher(destination);
+        if (user.matches() && Long.parseLong(user.group(1)) == userId) {
+            return;
+        }
+        // Anything else, including wildcard patterns the simple broker would happily match
+        throw new AccessDeniedException("Subscription to " + destination + " is not allowed");
+    }
+
+    private void authorizeSend(StompHeaderAccessor accessor) {
+        userId(accessor);
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith("/app/")) {
+            throw new AccessDeniedException("Clients may only send to /app destinations");
+        }
+    }
+
+    private Long userId(StompHeaderAccessor accessor) {
+        Principal user = accessor.getUser();
+        if (user instanceof UsernamePasswordAuthenticationToken authentication
+                && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.getUserId();
+        }
+        throw new AccessDeniedException("Not authenticated");
+    }
+}
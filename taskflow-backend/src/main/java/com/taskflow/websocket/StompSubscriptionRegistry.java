@@ -0,0 +1,175 @@
+package com.taskflow.websocket;
+
+import com.taskflow.cluster.ClusterEvent;
+import com.taskflow.cluster.ClusterInvalidator;
+import com.taskflow.security.WorkspaceAuthz;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Live workspace subscriptions per STOMP session, so a membership change can drop the ones that are no longer allowed.
+// Changes made on other nodes arrive as cluster events, since the sessions may be connected anywhere.
+@Slf4j
+@Component
+public class StompSubscriptionRegistry {
+
+    private final WorkspaceAuthz workspaceAuthz;
+
+    // Lazy: the inbound channel is built from the config that registers the interceptor using this registry
+    @Autowired
+    @Lazy
+    @Qualifier("clientInboundChannel")
+    private MessageChannel clientInboundChannel;
+
+    private final Map<String, SessionSubscriptions> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+
+    public StompSubscriptionRegistry(WorkspaceAuthz workspaceAuthz) {
+        this.workspaceAuthz = workspaceAuthz;
+    }
+
+    public void addWorkspaceSubscription(String sessionId, Long userId, String subscriptionId, Long workspaceId) {
+        sessions.computeIfAbsent(sessionId, id -> {
+            sessionsByUser.computeIfAbsent(userId, u -> ConcurrentHashMap.newKeySet()).add(sessionId);
+            return new SessionSubscriptions(userId);
+        }).workspaces.put(subscriptionId, workspaceId);
+    }
+
+    public void removeSubscription(String sessionId, String subscriptionId) {
+        SessionSubscriptions session = sessions.get(sessionId);
+        if (session != null && subscriptionId != null) {
+            session.workspaces.remove(subscriptionId);
+        }
+    }
+
+    public void removeSession(String sessionId) {
+        SessionSubscriptions session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(session.userId, (userId, ids) -> {
+            ids.remove(sessionId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // Re-checks the user's subscriptions once the membership change is committed. Runs in afterCompletion, after
+    // WorkspaceAuthz has dropped its cached roles for the user, so the check sees the committed membership.
+    public void revalidateUser(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revalidateNow(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    revalidateNow(userId);
+                }
+            }
+        });
+    }
+
+    // Same as revalidateUser for every session subscribed to the workspace, e.g. once it has been deleted
+    public void revalidateWorkspace(Long workspaceId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revalidateWorkspaceNow(workspaceId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    revalidateWorkspaceNow(workspaceId);
+                }
+            }
+        });
+    }
+
+    // Runs after WorkspaceAuthz has evicted the same change
+    @Order(1)
+    @EventListener
+    public void onClusterEvent(ClusterEvent event) {
+        if (event.is(ClusterInvalidator.MEMBERSHIP_USER)) {
+            revalidateNow(event.key());
+        } else if (event.is(ClusterInvalidator.MEMBERSHIP_WORKSPACE)) {
+            revalidateWorkspaceNow(event.key());
+        }
+    }
+
+    private void revalidateNow(Long userId) {
+        Set<String> sessionIds = sessionsByUser.get(userId);
+        if (sessionIds == null) {
+            return;
+        }
+        for (String sessionId : new ArrayList<>(sessionIds)) {
+            SessionSubscriptions session = sessions.get(sessionId);
+            if (session != null) {
+                revalidate(sessionId, session, null);
+            }
+        }
+    }
+
+    private void revalidateWorkspaceNow(Long workspaceId) {
+        for (Map.Entry<String, SessionSubscriptions> entry : sessions.entrySet()) {
+            if (entry.getValue().workspaces.containsValue(workspaceId)) {
+                revalidate(entry.getKey(), entry.getValue(), workspaceId);
+            }
+        }
+    }
+
+    // Checks the session's subscriptions to onlyWorkspaceId, or to every workspace when it is null
+    private void revalidate(String sessionId, SessionSubscriptions session, Long onlyWorkspaceId) {
+        List<String> revoked = new ArrayList<>();
+        session.workspaces.forEach((subscriptionId, workspaceId) -> {
+            if (onlyWorkspaceId != null && !onlyWorkspaceId.equals(workspaceId)) {
+                return;
+            }
+            if (!workspaceAuthz.hasRole(session.userId, workspaceId, "VIEWER")) {
+                revoked.add(subscriptionId);
+            }
+        });
+        for (String subscriptionId : revoked) {
+            unsubscribe(sessionId, subscriptionId);
+        }
+    }
+
+    // Goes through the inbound channel like a client UNSUBSCRIBE, so the broker and this registry both forget it
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setLeaveMutable(true);
+        try {
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+            log.info("Revoked subscription {} of session {} after a membership change", subscriptionId, sessionId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to revoke subscription {} of session {}", subscriptionId, sessionId, e);
+        }
+    }
+
+    private static final class SessionSubscriptions {
+        private final Long userId;
+        private final Map<String, Long> workspaces = new ConcurrentHashMap<>();
+
+        private SessionSubscriptions(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
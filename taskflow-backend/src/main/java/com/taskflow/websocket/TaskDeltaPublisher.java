@@ -0,0 +1,275 @@
+package com.taskflow.websocket;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.dto.response.TaskDeltaResponse;
+import com.taskflow.dto.response.TaskDeltaResyncResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskDelta;
+import com.taskflow.mapper.TaskDeltaMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Broadcasts task changes as compact deltas instead of whole tasks. Changes to one task within the coalescing
+// window are merged into a single frame. Each frame carries a per-workspace sequence number taken from the
+// database, so every node numbers one shared stream, and recent frames are kept in task_delta so a client that
+// sees a gap can catch up from any node without reloading the board.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskDeltaPublisher {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private static final int SWEEP_BATCH_SIZE = 1000;
+    private static final TypeReference<Map<String, Object>> FIELDS_TYPE = new TypeReference<>() {};
+
+    private final TaskWebSocketHandler taskWebSocketHandler;
+    private final TaskDeltaMapper taskDeltaMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${taskflow.realtime.coalesce-window:150}")
+    private long coalesceWindowMillis;
+
+    // Most deltas replayed to one client; further behind than this it reloads the board
+    @Value("${taskflow.realtime.history-size:1000}")
+    private int historySize;
+
+    @Value("${taskflow.realtime.delta-retention:600000}")
+    private long deltaRetentionMillis;
+
+    private final Map<Long, PendingDelta> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-delta-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdownNow();
+        for (Long taskId : new ArrayList<>(pending.keySet())) {
+            flush(taskId);
+        }
+    }
+
+    public void created(Task task) {
+        publish(task.getWorkspaceId(), task.getId(), CREATED, fieldsOf(task));
+    }
+
+    public void updated(Long workspaceId, Long taskId, Map<String, Object> changes) {
+        if (!changes.isEmpty()) {
+            publish(workspaceId, taskId, UPDATED, changes);
+        }
+    }
+
+    // Diffs two snapshots taken with fieldsOf, before and after the change
+    public void updated(Task task, Map<String, Object> before) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        fieldsOf(task).forEach((field, value) -> {
+            if (!Objects.equals(before.get(field), value)) {
+                changes.put(field, value);
+            }
+        });
+        updated(task.getWorkspaceId(), task.getId(), changes);
+    }
+
+    public void deleted(Long workspaceId, Long taskId) {
+        publish(workspaceId, taskId, DELETED, Map.of());
+    }
+
+    public Map<String, Object> fieldsOf(Task task) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", task.getTitle());
+        fields.put("description", task.getDescription());
+        fields.put("priority", task.getPriority());
+        fields.put("status", task.getStatus());
+        fields.put("startDate", task.getStartDate());
+        fields.put("dueDate", task.getDueDate());
+        fields.put("progress", task.getProgress());
+        fields.put("assigneeId", task.getAssigneeId());
+        fields.put("parentTaskId", task.getParentTaskId());
+        fields.put("boardColumnId", task.getBoardColumnId());
+        fields.put("position", task.getPosition());
+        fields.put("rankKey", task.getRankKey());
+        return fields;
+    }
+
+    // Deltas after the given sequence, or reset=true when they have already been swept
+    public TaskDeltaResyncResponse since(Long workspaceId, Long afterSeq) {
+        Long stored = taskDeltaMapper.selectSeq(workspaceId);
+        long seq = stored != null ? stored : 0;
+        if (afterSeq == null || afterSeq == seq) {
+            return new TaskDeltaResyncResponse(seq, false, List.of());
+        }
+        if (afterSeq > seq || afterSeq < 0) {
+            return new TaskDeltaResyncResponse(seq, true, List.of());
+        }
+
+        // Sequences commit in order, so everything up to seq is already visible
+        LambdaQueryWrapper<TaskDelta> query = new LambdaQueryWrapper<>();
+        query.eq(TaskDelta::getWorkspaceId, workspaceId);
+        query.gt(TaskDelta::getSeq, afterSeq);
+        query.le(TaskDelta::getSeq, seq);
+        query.orderByAsc(TaskDelta::getSeq);
+        query.last("LIMIT " + historySize);
+        List<TaskDelta> rows = taskDeltaMapper.selectList(query);
+        if (rows.size() != seq - afterSeq) {
+            return new TaskDeltaResyncResponse(seq, true, List.of());
+        }
+        List<TaskDeltaResponse> deltas = new ArrayList<>(rows.size());
+        for (TaskDelta row : rows) {
+            deltas.add(new TaskDeltaResponse(row.getSeq(), row.getType(), row.getTaskId(), readFields(row)));
+        }
+        return new TaskDeltaResyncResponse(seq, false, deltas);
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.realtime.delta-sweep-interval:60000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(deltaRetentionMillis));
+        int deleted;
+        do {
+            LambdaQueryWrapper<TaskDelta> query = new LambdaQueryWrapper<>();
+            query.lt(TaskDelta::getCreatedAt, cutoff);
+            query.last("LIMIT " + SWEEP_BATCH_SIZE);
+            deleted = taskDeltaMapper.delete(query);
+        } while (deleted == SWEEP_BATCH_SIZE);
+    }
+
+    private void publish(Long workspaceId, Long taskId, String type, Map<String, Object> fields) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(workspaceId, taskId, type, fields);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(workspaceId, taskId, type, fields);
+            }
+        });
+    }
+
+    private void enqueue(Long workspaceId, Long taskId, String type, Map<String, Object> fields) {
+        boolean[] first = {false};
+        pending.compute(taskId, (id, current) -> {
+            if (current == null) {
+                first[0] = true;
+                return new PendingDelta(workspaceId, type, fields);
+            }
+            current.merge(type, fields);
+            return current;
+        });
+        if (!first[0]) {
+            return;
+        }
+        try {
+            flusher.schedule(() -> flush(taskId), coalesceWindowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flush(taskId);
+        }
+    }
+
+    private void flush(Long taskId) {
+        PendingDelta delta = pending.remove(taskId);
+        if (delta == null) {
+            return;
+        }
+        TaskDeltaResponse message;
+        try {
+            message = transactionTemplate.execute(status -> append(taskId, delta));
+        } catch (RuntimeException e) {
+            log.warn("Failed to record delta for task {} in workspace {}", taskId, delta.workspaceId, e);
+            return;
+        }
+        // Frames from different nodes can reach a client out of order; it holds a frame back briefly for the gap
+        try {
+            taskWebSocketHandler.broadcastTaskDelta(delta.workspaceId, message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast delta {} for workspace {}", message.getSeq(), delta.workspaceId, e);
+        }
+    }
+
+    private TaskDeltaResponse append(Long taskId, PendingDelta delta) {
+        taskDeltaMapper.incrementSeq(delta.workspaceId);
+        long seq = taskDeltaMapper.selectSeq(delta.workspaceId);
+
+        TaskDelta row = new TaskDelta();
+        row.setWorkspaceId(delta.workspaceId);
+        row.setSeq(seq);
+        row.setType(delta.type);
+        row.setTaskId(taskId);
+        row.setFields(writeFields(delta.fields));
+        row.setCreatedAt(LocalDateTime.now());
+        taskDeltaMapper.insert(row);
+        return new TaskDeltaResponse(seq, delta.type, taskId, delta.fields);
+    }
+
+    private String writeFields(Map<String, Object> fields) {
+        try {
+            return objectMapper.writeValueAsString(fields);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize task delta", e);
+        }
+    }
+
+    private Map<String, Object> readFields(TaskDelta row) {
+        try {
+            return objectMapper.readValue(row.getFields(), FIELDS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read task delta " + row.getId(), e);
+        }
+    }
+
+    private static final class PendingDelta {
+        private final Long workspaceId;
+        private String type;
+        private final Map<String, Object> fields;
+
+        private PendingDelta(Long workspaceId, String type, Map<String, Object> fields) {
+            this.workspaceId = workspaceId;
+            this.type = type;
+            this.fields = new LinkedHashMap<>(fields);
+        }
+
+        // A delete wins; a create stays a create with the later changes folded in
+        private void merge(String nextType, Map<String, Object> nextFields) {
+            if (DELETED.equals(nextType)) {
+                type = DELETED;
+                fields.clear();
+            } else if (!DELETED.equals(type)) {
+                fields.putAll(nextFields);
+            }
+        }
+    }
+}
@@ -1,21 +1,20 @@
 package com.taskflow.websocket;
 
 import com.taskflow.dto.response.NotificationResponse;
-import com.taskflow.dto.response.TaskResponse;
+import com.taskflow.dto.response.TaskDeltaResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class TaskWebSocketHandler {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final EventBus eventBus;
 
-    public void broadcastTaskUpdate(Long workspaceId, TaskResponse task) {
-        messagingTemplate.convertAndSend("/topic/workspace/" + workspaceId + "/tasks", task);
+    public void broadcastTaskDelta(Long workspaceId, TaskDeltaResponse delta) {
+        eventBus.publish("/topic/workspace/" + workspaceId + "/tasks", delta);
     }
 
     public void broadcastNotification(Long userId, NotificationResponse notification) {
-        messagingTemplate.convertAndSend("/topic/user/" + userId + "/notifications", notification);
+        eventBus.publish("/topic/user/" + userId + "/notifications", notification);
     }
 }
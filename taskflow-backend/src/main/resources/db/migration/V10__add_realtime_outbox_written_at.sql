@@ -0,0 +1,4 @@
+-- Database-clock write time, so pollers can re-scan recent rows that committed after higher ids
+ALTER TABLE `realtime_outbox`
+    ADD COLUMN `written_at` DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    ADD INDEX `idx_realtime_outbox_written` (`written_at`, `node_id`);
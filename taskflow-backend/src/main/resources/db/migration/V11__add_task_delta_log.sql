@@ -0,0 +1,17 @@
+-- Per-workspace task delta sequence shared by every node, and the recent deltas for clients catching up after a gap
+CREATE TABLE IF NOT EXISTS `workspace_delta_seq` (
+    `workspace_id` BIGINT PRIMARY KEY,
+    `seq` BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS `task_delta` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+    `workspace_id` BIGINT NOT NULL,
+    `seq` BIGINT NOT NULL,
+    `type` VARCHAR(16) NOT NULL,
+    `task_id` BIGINT NOT NULL,
+    `fields` MEDIUMTEXT NOT NULL,
+    `created_at` DATETIME(3) NOT NULL,
+    UNIQUE KEY `uk_task_delta_workspace_seq` (`workspace_id`, `seq`),
+    INDEX `idx_task_delta_created` (`created_at`)
+);
@@ -0,0 +1,2 @@
+-- Revocation deletes the row now; clear rows flagged by the old revoke path so the sweep only has to look at expiry
+DELETE FROM `refresh_token` WHERE `is_revoked` = 1;
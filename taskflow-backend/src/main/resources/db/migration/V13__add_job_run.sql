@@ -0,0 +1,7 @@
+-- One row per run of a scheduled job; the node whose insert succeeds runs it, the other replicas skip
+CREATE TABLE IF NOT EXISTS `job_run` (
+    `job_name` VARCHAR(64) NOT NULL,
+    `run_key` VARCHAR(64) NOT NULL,
+    `claimed_at` DATETIME(3) NOT NULL,
+    PRIMARY KEY (`job_name`, `run_key`)
+);
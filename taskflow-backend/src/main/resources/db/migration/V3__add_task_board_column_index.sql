@@ -0,0 +1,2 @@
+-- Board loading reads all tasks of a board ordered by column and position
+CREATE INDEX `idx_task_column_position` ON `task` (`board_column_id`, `position`);
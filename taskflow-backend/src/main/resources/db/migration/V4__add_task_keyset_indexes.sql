@@ -0,0 +1,7 @@
+-- Keyset pagination for workspace task listing: (workspace_id, deleted, sort key, id)
+CREATE INDEX `idx_task_ws_created` ON `task` (`workspace_id`, `deleted`, `created_at`, `id`);
+CREATE INDEX `idx_task_ws_updated` ON `task` (`workspace_id`, `deleted`, `updated_at`, `id`);
+CREATE INDEX `idx_task_ws_due_date` ON `task` (`workspace_id`, `deleted`, `due_date`, `id`);
+CREATE INDEX `idx_task_ws_title` ON `task` (`workspace_id`, `deleted`, `title`, `id`);
+CREATE INDEX `idx_task_ws_priority` ON `task` (`workspace_id`, `deleted`, `priority`, `id`);
+CREATE INDEX `idx_task_ws_status` ON `task` (`workspace_id`, `deleted`, `status`, `id`);
@@ -0,0 +1,25 @@
+-- Fractional rank keys replace integer positions for ordering: a move rewrites only the moved row.
+-- Keys are base-36 strings compared bytewise; backfilled keys are 6 chars spaced 1296 apart.
+ALTER TABLE `task` ADD COLUMN `rank_key` VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER `position`;
+ALTER TABLE `board_column` ADD COLUMN `rank_key` VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER `position`;
+ALTER TABLE `subtask` ADD COLUMN `rank_key` VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER `position`;
+
+UPDATE `task` t
+JOIN (SELECT `id`, ROW_NUMBER() OVER (PARTITION BY `board_column_id` ORDER BY `position`, `id`) AS rn FROM `task`) r
+    ON r.`id` = t.`id`
+SET t.`rank_key` = LPAD(LOWER(CONV(r.rn * 1296 + 666, 10, 36)), 6, '0');
+
+UPDATE `board_column` c
+JOIN (SELECT `id`, ROW_NUMBER() OVER (PARTITION BY `board_id` ORDER BY `position`, `id`) AS rn FROM `board_column`) r
+    ON r.`id` = c.`id`
+SET c.`rank_key` = LPAD(LOWER(CONV(r.rn * 1296 + 666, 10, 36)), 6, '0');
+
+UPDATE `subtask` s
+JOIN (SELECT `id`, ROW_NUMBER() OVER (PARTITION BY `task_id` ORDER BY `position`, `id`) AS rn FROM `subtask`) r
+    ON r.`id` = s.`id`
+SET s.`rank_key` = LPAD(LOWER(CONV(r.rn * 1296 + 666, 10, 36)), 6, '0');
+
+CREATE INDEX `idx_task_column_rank` ON `task` (`board_column_id`, `rank_key`, `id`);
+CREATE INDEX `idx_board_column_rank` ON `board_column` (`board_id`, `rank_key`, `id`);
+CREATE INDEX `idx_subtask_rank` ON `subtask` (`task_id`, `rank_key`, `id`);
+DROP INDEX `idx_task_column_position` ON `task`;
@@ -0,0 +1,14 @@
+-- Store refresh tokens as SHA-256 hashes under a fixed-length unique key instead of the raw value
+
+ALTER TABLE `refresh_token`
+    ADD COLUMN `token_hash` CHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER `user_id`;
+
+UPDATE `refresh_token` SET `token_hash` = SHA2(`token`, 256);
+
+ALTER TABLE `refresh_token`
+    MODIFY COLUMN `token_hash` CHAR(64) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    DROP INDEX `idx_refresh_token`,
+    DROP COLUMN `token`,
+    ADD UNIQUE INDEX `uk_refresh_token_hash` (`token_hash`),
+    ADD INDEX `idx_refresh_token_user_created` (`user_id`, `created_at`),
+    ADD INDEX `idx_refresh_token_expires` (`expires_at`);
@@ -0,0 +1,18 @@
+-- Keyset inbox: newest first per user
+CREATE INDEX `idx_notification_user_created` ON `notification` (`user_id`, `created_at`, `id`);
+
+-- Retention job scans read notifications by age
+CREATE INDEX `idx_notification_read_created` ON `notification` (`is_read`, `created_at`);
+
+CREATE TABLE IF NOT EXISTS `notification_archive` (
+    `id` BIGINT PRIMARY KEY,
+    `user_id` BIGINT NOT NULL,
+    `type` VARCHAR(50) NOT NULL,
+    `title` VARCHAR(200) NOT NULL,
+    `content` VARCHAR(500),
+    `reference_id` BIGINT,
+    `is_read` TINYINT DEFAULT 0,
+    `created_at` DATETIME,
+    `archived_at` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    INDEX `idx_notification_archive_user_created` (`user_id`, `created_at`, `id`)
+);
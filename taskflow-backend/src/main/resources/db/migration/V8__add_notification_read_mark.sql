@@ -0,0 +1,7 @@
+-- Per-user read high-water mark: every notification with id <= last_read_notification_id counts as read
+CREATE TABLE IF NOT EXISTS `notification_read_mark` (
+    `user_id` BIGINT PRIMARY KEY,
+    `last_read_notification_id` BIGINT NOT NULL DEFAULT 0,
+    `updated_at` DATETIME DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (`user_id`) REFERENCES `user`(`id`)
+);
@@ -0,0 +1,9 @@
+-- Cross-node WebSocket fan-out when taskflow.realtime.bus=outbox; rows are swept after a few minutes
+CREATE TABLE IF NOT EXISTS `realtime_outbox` (
+    `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+    `node_id` VARCHAR(64) NOT NULL,
+    `destination` VARCHAR(255) NOT NULL,
+    `payload` MEDIUMTEXT NOT NULL,
+    `created_at` DATETIME(3) NOT NULL,
+    INDEX `idx_realtime_outbox_created` (`created_at`)
+);
@@ -0,0 +1,66 @@
+package com.taskflow.graph;
+
+import com.taskflow.enums.DependencyType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyGraphTest {
+
+    private final DependencyGraph graph = new DependencyGraph();
+
+    @Test
+    void rejectsAnEdgeThatClosesACycle() {
+        assertThat(graph.addEdge(1, 2, DependencyType.FINISH_TO_START)).isTrue();
+        assertThat(graph.addEdge(2, 3, DependencyType.START_TO_START)).isTrue();
+        assertThat(graph.addEdge(3, 4, DependencyType.FINISH_TO_FINISH)).isTrue();
+
+        assertThat(graph.addEdge(4, 1, DependencyType.FINISH_TO_START)).isFalse();
+        assertThat(graph.addEdge(3, 1, DependencyType.START_TO_FINISH)).isFalse();
+        assertThat(graph.addEdge(2, 1, DependencyType.FINISH_TO_START)).isFalse();
+        assertThat(graph.edgeCount()).isEqualTo(3);
+        assertThat(graph.predecessors(1)).isEmpty();
+    }
+
+    @Test
+    void rejectsASelfLoop() {
+        assertThat(graph.addEdge(1, 1, DependencyType.FINISH_TO_START)).isFalse();
+        assertThat(graph.nodeIds()).isEmpty();
+    }
+
+    @Test
+    void acceptsADiamondAndShortcuts() {
+        assertThat(graph.addEdge(1, 2, DependencyType.FINISH_TO_START)).isTrue();
+        assertThat(graph.addEdge(1, 3, DependencyType.FINISH_TO_START)).isTrue();
+        assertThat(graph.addEdge(2, 4, DependencyType.FINISH_TO_START)).isTrue();
+        assertThat(graph.addEdge(3, 4, DependencyType.FINISH_TO_START)).isTrue();
+        assertThat(graph.addEdge(1, 4, DependencyType.FINISH_TO_START)).isTrue();
+
+        assertThat(graph.topologicalOrder()).containsExactly(1, 2, 3, 4);
+        assertThat(graph.transitiveSuccessors(1)).containsExactlyInAnyOrder(2, 3, 4);
+    }
+
+    @Test
+    void allowsTheReverseEdgeOnceThePathIsGone() {
+        graph.addEdge(1, 2, DependencyType.FINISH_TO_START);
+        graph.addEdge(2, 3, DependencyType.FINISH_TO_START);
+        assertThat(graph.addEdge(3, 1, DependencyType.FINISH_TO_START)).isFalse();
+
+        graph.removeEdge(2, 3);
+        assertThat(graph.addEdge(3, 1, DependencyType.FINISH_TO_START)).isTrue();
+
+        graph.removeNode(1);
+        assertThat(graph.addEdge(2, 3, DependencyType.FINISH_TO_START)).isTrue();
+        assertThat(graph.edgeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void addingAnExistingEdgeAgainIsANoOp() {
+        assertThat(graph.addEdge(1, 2, DependencyType.FINISH_TO_START)).isTrue();
+        assertThat(graph.addEdge(1, 2, DependencyType.START_TO_START)).isTrue();
+
+        assertThat(graph.edgeCount()).isEqualTo(1);
+        assertThat(graph.incomingEdges(2)).extracting(DependencyGraph.Edge::getType)
+                .containsExactly(DependencyType.FINISH_TO_START);
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskflow.graph;
+
+import com.taskflow.cluster.ClusterEvent;
+import com.taskflow.cluster.ClusterInvalidator;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.TaskDependencyMapper;
+import com.taskflow.mapper.TaskMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduleEngineTest {
+
+    private static final Long WORKSPACE_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 5);
+
+    private final TaskMapper taskMapper = mock(TaskMapper.class);
+    private final TaskDependencyMapper taskDependencyMapper = mock(TaskDependencyMapper.class);
+    private final ClusterInvalidator clusterInvalidator = mock(ClusterInvalidator.class);
+    private final ScheduleEngine engine = new ScheduleEngine(taskMapper,
+            new DependencyGraphRegistry(taskDependencyMapper, clusterInvalidator), clusterInvalidator);
+
+    @BeforeEach
+    void setUp() {
+        when(taskDependencyMapper.selectByWorkspaceId(WORKSPACE_ID)).thenReturn(List.of());
+        when(taskMapper.selectList(any())).thenReturn(List.of(task(10L, DAY)));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void patchesTheCachedPlanOnlyAfterCommit() {
+        WorkspaceSchedule schedule = engine.get(WORKSPACE_ID);
+
+        engine.onDatesChanged(task(10L, DAY.plusDays(7)));
+        assertThat(schedule.get(10L).getEarliestStart()).isEqualTo(DAY);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(schedule.get(10L).getEarliestStart()).isEqualTo(DAY.plusDays(7));
+        verify(clusterInvalidator).invalidate(ClusterInvalidator.SCHEDULE, WORKSPACE_ID);
+    }
+
+    @Test
+    void keepsTheCachedPlanWhenTheUpdateRollsBack() {
+        WorkspaceSchedule schedule = engine.get(WORKSPACE_ID);
+
+        engine.onDatesChanged(task(10L, DAY.plusDays(7)));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(engine.get(WORKSPACE_ID)).isSameAs(schedule);
+        assertThat(schedule.get(10L).getEarliestStart()).isEqualTo(DAY);
+    }
+
+    @Test
+    void dropsThePlanWhenAnotherNodeChangesIt() {
+        WorkspaceSchedule schedule = engine.get(WORKSPACE_ID);
+
+        engine.onClusterEvent(new ClusterEvent(ClusterInvalidator.SCHEDULE, String.valueOf(WORKSPACE_ID)));
+
+        assertThat(engine.get(WORKSPACE_ID)).isNotSameAs(schedule);
+    }
+
+    private Task task(Long id, LocalDate startDate) {
+        Task task = new Task();
+        task.setId(id);
+        task.setWorkspaceId(WORKSPACE_ID);
+        task.setStartDate(startDate);
+        return task;
+    }
+}
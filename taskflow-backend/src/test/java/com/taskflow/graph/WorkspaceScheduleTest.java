@@ -0,0 +1,151 @@
+package com.taskflow.graph;
+
+import com.taskflow.enums.DependencyType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkspaceScheduleTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 5);
+
+    // A runs DAY..DAY+2; B is two days long and may start well before, so only the dependency decides its start
+    @Test
+    void appliesEachDependencyType() {
+        assertThat(successorOfA(DependencyType.FINISH_TO_START).getEarliestStart()).isEqualTo(DAY.plusDays(3));
+        assertThat(successorOfA(DependencyType.START_TO_START).getEarliestStart()).isEqualTo(DAY);
+        assertThat(successorOfA(DependencyType.FINISH_TO_FINISH).getEarliestFinish()).isEqualTo(DAY.plusDays(2));
+        assertThat(successorOfA(DependencyType.START_TO_FINISH).getEarliestFinish()).isEqualTo(DAY.minusDays(1));
+    }
+
+    @Test
+    void marksTheChainThatSetsTheProjectEndAsCritical() {
+        WorkspaceSchedule schedule = schedule(
+                new long[]{1, 2, 3},
+                new LocalDate[]{DAY, DAY, DAY},
+                new LocalDate[]{DAY.plusDays(4), DAY.plusDays(1), DAY},
+                List.of(edge(1, 3, DependencyType.FINISH_TO_START), edge(2, 3, DependencyType.FINISH_TO_START)));
+
+        assertThat(schedule.criticalPath()).containsExactly(1L, 3L);
+        assertThat(schedule.get(2).getSlack()).isEqualTo(3);
+        assertThat(schedule.getProjectEnd()).isEqualTo(DAY.plusDays(5));
+    }
+
+    // 1 -> 2 -> 3 with 2 undated: 3 still waits for 1, and 2 shows as a zero-length step between them
+    @Test
+    void propagatesThroughAnUndatedTask() {
+        WorkspaceSchedule schedule = schedule(
+                new long[]{1, 2, 3},
+                new LocalDate[]{DAY, null, DAY},
+                new LocalDate[]{DAY.plusDays(2), null, DAY},
+                List.of(edge(1, 2, DependencyType.FINISH_TO_START), edge(2, 3, DependencyType.FINISH_TO_START)));
+
+        assertThat(schedule.get(3).getEarliestStart()).isEqualTo(DAY.plusDays(3));
+        assertThat(schedule.get(2).getEarliestStart()).isEqualTo(DAY.plusDays(3));
+        assertThat(schedule.get(2).getEarliestFinish()).isEqualTo(DAY.plusDays(3));
+        assertThat(schedule.criticalPath()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void leavesAnUndatedTaskWithNothingDatedBeforeItUnscheduled() {
+        WorkspaceSchedule schedule = schedule(
+                new long[]{1, 2},
+                new LocalDate[]{null, DAY},
+                new LocalDate[]{null, DAY.plusDays(1)},
+                List.of(edge(1, 2, DependencyType.FINISH_TO_START)));
+
+        assertThat(schedule.get(1)).isNull();
+        assertThat(schedule.get(2).getEarliestStart()).isEqualTo(DAY);
+        assertThat(schedule.criticalPath()).containsExactly(2L);
+        assertThat(schedule.edges()).singleElement().extracting(WorkspaceSchedule.ScheduledEdge::isCritical)
+                .isEqualTo(false);
+    }
+
+    @Test
+    void hasNoProjectEndWithoutDates() {
+        WorkspaceSchedule schedule = schedule(new long[]{1, 2}, new LocalDate[2], new LocalDate[2],
+                List.of(edge(1, 2, DependencyType.FINISH_TO_START)));
+
+        assertThat(schedule.getProjectEnd()).isNull();
+        assertThat(schedule.criticalPath()).isEmpty();
+    }
+
+    // Incremental updates, including clearing and restoring dates, must land where a full rebuild does
+    @Test
+    void incrementalUpdatesMatchAFullRecompute() {
+        Random random = new Random(42);
+        int n = 200;
+        long[] ids = new long[n];
+        LocalDate[] starts = new LocalDate[n];
+        LocalDate[] dues = new LocalDate[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = 1000 + i;
+            randomDates(random, starts, dues, i);
+        }
+        DependencyType[] types = DependencyType.values();
+        List<DependencyGraph.Edge> edges = new ArrayList<>();
+        for (int j = 1; j < n; j++) {
+            for (int k = 0; k < 2; k++) {
+                int i = random.nextInt(j);
+                DependencyGraph.Edge edge = edge(ids[i], ids[j], types[random.nextInt(types.length)]);
+                if (edges.stream().noneMatch(e -> e.getPredecessorId() == edge.getPredecessorId()
+                        && e.getSuccessorId() == edge.getSuccessorId())) {
+                    edges.add(edge);
+                }
+            }
+        }
+
+        WorkspaceSchedule incremental = schedule(ids, starts, dues, edges);
+        for (int round = 0; round < 300; round++) {
+            int i = random.nextInt(n);
+            randomDates(random, starts, dues, i);
+            incremental.updateDates(ids[i], starts[i], dues[i]);
+
+            WorkspaceSchedule full = schedule(ids, starts, dues, edges);
+            for (long id : ids) {
+                assertThat(incremental.get(id)).as("task %d after round %d", id, round)
+                        .usingRecursiveComparison().isEqualTo(full.get(id));
+            }
+            assertThat(incremental.getProjectEnd()).isEqualTo(full.getProjectEnd());
+            assertThat(incremental.criticalPath()).isEqualTo(full.criticalPath());
+            assertThat(incremental.edges()).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(full.edges());
+        }
+    }
+
+    private WorkspaceSchedule.ScheduledTask successorOfA(DependencyType type) {
+        WorkspaceSchedule schedule = schedule(
+                new long[]{1, 2},
+                new LocalDate[]{DAY, DAY.minusDays(10)},
+                new LocalDate[]{DAY.plusDays(2), DAY.minusDays(9)},
+                List.of(edge(1, 2, type)));
+        return schedule.get(2);
+    }
+
+    // One task in five is undated
+    private void randomDates(Random random, LocalDate[] starts, LocalDate[] dues, int i) {
+        if (random.nextInt(5) == 0) {
+            starts[i] = null;
+            dues[i] = null;
+            return;
+        }
+        starts[i] = DAY.plusDays(random.nextInt(60));
+        dues[i] = random.nextBoolean() ? starts[i].plusDays(random.nextInt(10)) : null;
+    }
+
+    private WorkspaceSchedule schedule(long[] ids, LocalDate[] starts, LocalDate[] dues,
+                                       List<DependencyGraph.Edge> edges) {
+        return new WorkspaceSchedule(Arrays.copyOf(ids, ids.length), Arrays.copyOf(starts, starts.length),
+                Arrays.copyOf(dues, dues.length), edges);
+    }
+
+    private DependencyGraph.Edge edge(long predecessorId, long successorId, DependencyType type) {
+        return new DependencyGraph.Edge(predecessorId, successorId, type);
+    }
+}
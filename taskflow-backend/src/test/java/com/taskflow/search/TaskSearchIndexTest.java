@@ -0,0 +1,35 @@
+package com.taskflow.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSearchIndexTest {
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+
+    @Test
+    void findsASingleCjkCharacterInsideALongerRun() {
+        index.index(1L, 10L, "项目计划", null, List.of());
+        index.index(1L, 11L, "周报", "整理进度", List.of());
+
+        assertThat(taskIds("划")).containsExactly(10L);
+        assertThat(taskIds("进")).containsExactly(11L);
+        assertThat(taskIds("计划")).containsExactly(10L);
+        assertThat(taskIds("猫")).isEmpty();
+    }
+
+    @Test
+    void indexesUnigramsInStartOrderForHighlighting() {
+        List<SearchTokenizer.Token> tokens = SearchTokenizer.tokenizeForIndex("a计划");
+
+        assertThat(tokens).extracting(SearchTokenizer.Token::getTerm).containsExactly("a", "计", "计划", "划");
+        assertThat(SearchTokenizer.terms("计划")).containsExactly("计划");
+    }
+
+    private List<Long> taskIds(String query) {
+        return index.search(1L, query, 10).stream().map(SearchHit::getTaskId).toList();
+    }
+}
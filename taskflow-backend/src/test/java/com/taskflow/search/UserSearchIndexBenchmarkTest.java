@@ -0,0 +1,83 @@
+package com.taskflow.search;
+
+import com.taskflow.cluster.ClusterInvalidator;
+import com.taskflow.dto.response.UserResponse;
+import com.taskflow.entity.User;
+import com.taskflow.mapper.UserMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Builds the index over a million users under the production heap (-Pbenchmark runs with -Xmx512m) and times
+// searches of each kind
+@Tag("benchmark")
+class UserSearchIndexBenchmarkTest {
+
+    private static final int USERS = 1_000_000;
+    private static final int SEARCHES = 20_000;
+    private static final String[] DOMAINS = {"example.com", "mail.test", "corp.example.org", "taskflow.dev"};
+
+    @Test
+    void indexesAMillionUsers() {
+        UserMapper userMapper = mock(UserMapper.class);
+        AtomicLong nextId = new AtomicLong(1);
+        when(userMapper.selectList(any())).thenAnswer(invocation -> {
+            List<User> batch = new ArrayList<>();
+            while (batch.size() < 5000 && nextId.get() <= USERS) {
+                batch.add(user(nextId.getAndIncrement()));
+            }
+            return batch;
+        });
+        UserSearchIndex index = new UserSearchIndex(userMapper, mock(ClusterInvalidator.class));
+
+        long heapBefore = usedHeap();
+        long started = System.nanoTime();
+        index.rebuild();
+        long buildMillis = (System.nanoTime() - started) / 1_000_000;
+        long heapMb = (usedHeap() - heapBefore) / (1024 * 1024);
+        assertThat(index.isReady()).isTrue();
+
+        String[] queries = {"user0424242", "user04242", "0424242", "4242@ma", "taskflow", "zzz"};
+        for (String query : queries) {
+            long[] nanos = new long[SEARCHES / queries.length];
+            for (int i = 0; i < nanos.length; i++) {
+                long t = System.nanoTime();
+                index.search(query, 20);
+                nanos[i] = System.nanoTime() - t;
+            }
+            Arrays.sort(nanos);
+            System.out.printf("search %-12s p50 %6d us, p99 %6d us%n", query,
+                    nanos[nanos.length / 2] / 1000, nanos[nanos.length * 99 / 100] / 1000);
+        }
+        System.out.printf("Indexed %d users in %d ms, %d MB retained%n", USERS, buildMillis, heapMb);
+
+        assertThat(index.search("user0424242", 20)).extracting(UserResponse::getId).first().isEqualTo(424242L);
+        assertThat(index.search("0424242", 20)).extracting(UserResponse::getId).contains(424242L);
+        assertThat(heapMb).isLessThan(400);
+    }
+
+    private static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(String.format("user%07d", id));
+        user.setEmail("u" + id + "@" + DOMAINS[(int) (id % DOMAINS.length)]);
+        return user;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
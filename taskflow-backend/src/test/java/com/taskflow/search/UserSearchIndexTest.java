@@ -0,0 +1,70 @@
+package com.taskflow.search;
+
+import com.taskflow.cluster.ClusterInvalidator;
+import com.taskflow.dto.response.UserResponse;
+import com.taskflow.entity.User;
+import com.taskflow.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserSearchIndexTest {
+
+    private final UserMapper userMapper = mock(UserMapper.class);
+    private final UserSearchIndex index = new UserSearchIndex(userMapper, mock(ClusterInvalidator.class));
+
+    @BeforeEach
+    void build() {
+        List<User> users = List.of(
+                user(1, "alice", "alice@example.com"),
+                user(2, "alicia", "ally@example.com"),
+                user(3, "bob", "bob@alice.dev"),
+                user(4, "Carol", "carol@example.com"));
+        List<List<User>> batches = new ArrayList<>(List.of(users, List.of()));
+        when(userMapper.selectList(any())).thenAnswer(invocation -> batches.remove(0));
+        index.rebuild();
+    }
+
+    @Test
+    void ranksExactThenUsernamePrefixThenEmailPrefixThenInfix() {
+        assertThat(ids(index.search("alice", 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.search("ali", 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(index.search("ally", 10))).containsExactly(2L);
+        assertThat(ids(index.search("CAROL", 10))).containsExactly(4L);
+    }
+
+    @Test
+    void followsUpdatesAndRemovals() {
+        index.put(new UserResponse(2L, "zed", "zed@example.com", null));
+        index.put(new UserResponse(5L, "alina", "alina@example.com", null));
+        index.remove(3L);
+
+        assertThat(ids(index.search("ali", 10))).containsExactly(1L, 5L);
+        assertThat(ids(index.search("zed", 10))).containsExactly(2L);
+        assertThat(index.search("bob", 10)).isEmpty();
+
+        // A freed slot is reused without leaking the old user's postings
+        index.put(new UserResponse(6L, "dave", "dave@example.com", null));
+        assertThat(ids(index.search("dave", 10))).containsExactly(6L);
+        assertThat(index.search("alice.dev", 10)).isEmpty();
+    }
+
+    private static List<Long> ids(List<UserResponse> users) {
+        return users.stream().map(UserResponse::getId).toList();
+    }
+
+    private static User user(long id, String username, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -0,0 +1,84 @@
+package com.taskflow.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// Per-request cost of JWT authentication: claim parsing and signature check, the revocation lookup, and the
+// whole servlet filter. Run through JwtAuthenticationBenchmarkTest.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private JwtAuthenticator authenticator;
+    private JwtAuthenticationFilter filter;
+    private String validToken;
+    private String revokedToken;
+    private String tamperedToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secret", "BenchmarkSecretKeyForJWTTokenGenerationMustBeLongEnough");
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 3600000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 604800000L);
+        provider.init();
+
+        TokenRevocationList revocations = new TokenRevocationList();
+        ReflectionTestUtils.setField(revocations, "accessTokenExpiration", 3600000L);
+        // A few thousand revoked users, as after a wave of password resets
+        for (long userId = 1000; userId < 6000; userId++) {
+            revocations.revokeUser(userId);
+        }
+        revokedToken = provider.generateAccessToken(2000L, "revoked");
+        // iat has second precision; wait so the valid token is issued after every cut-off
+        Thread.sleep(1100);
+        validToken = provider.generateAccessToken(42L, "alice");
+        tamperedToken = validToken.substring(0, validToken.length() - 2) + "xx";
+
+        authenticator = new JwtAuthenticator(provider, revocations);
+        filter = new JwtAuthenticationFilter(authenticator);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public JwtPrincipal authenticateValid() {
+        return authenticator.authenticate(validToken);
+    }
+
+    @Benchmark
+    public JwtPrincipal authenticateRevoked() {
+        return authenticator.authenticate(revokedToken);
+    }
+
+    @Benchmark
+    public JwtPrincipal authenticateTampered() {
+        return authenticator.authenticate(tamperedToken);
+    }
+
+    @Benchmark
+    public Object filterRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/workspaces");
+        request.addHeader("Authorization", "Bearer " + validToken);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
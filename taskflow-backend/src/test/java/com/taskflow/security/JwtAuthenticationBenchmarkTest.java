@@ -0,0 +1,38 @@
+package com.taskflow.security;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+class JwtAuthenticationBenchmarkTest {
+
+    @Test
+    void measuresTheTokenPath() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getName() + "\\.")
+                // In-process: surefire's classpath is not visible to a forked JMH JVM
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .threads(4)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertThat(results).hasSize(4);
+        for (RunResult result : results) {
+            // Well under a millisecond per request, with no database involved
+            assertThat(result.getPrimaryResult().getScore()).isLessThan(1000.0);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskflow.security;
+
+import com.taskflow.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A burst of logins far beyond the hashing pool: hashing concurrency stays at the pool size, the overflow is
+// turned away quickly with 503s, and every request thread is released instead of queueing behind BCrypt
+@Tag("benchmark")
+class PasswordHasherLoginStormTest {
+
+    private static final int REQUEST_THREADS = 200;
+    private static final int HASH_THREADS = 2;
+    private static final int QUEUE_CAPACITY = 8;
+
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void shutdown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    void shedsALoginStorm() throws InterruptedException {
+        ConcurrencyTrackingEncoder encoder = new ConcurrencyTrackingEncoder(new BCryptPasswordEncoder(10));
+        String stored = encoder.encode("correct horse");
+        hasher = new PasswordHasher(encoder, 10, HASH_THREADS, QUEUE_CAPACITY, 5000);
+
+        List<Long> acceptedMillis = Collections.synchronizedList(new ArrayList<>());
+        List<Long> rejectedMillis = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_THREADS);
+        ExecutorService requests = Executors.newFixedThreadPool(REQUEST_THREADS);
+        for (int i = 0; i < REQUEST_THREADS; i++) {
+            requests.execute(() -> {
+                try {
+                    start.await();
+                    long t = System.nanoTime();
+                    try {
+                        boolean matched = hasher.matches("correct horse", stored);
+                        acceptedMillis.add((System.nanoTime() - t) / 1_000_000);
+                        if (!matched) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (BusinessException e) {
+                        assertThat(e.getCode()).isEqualTo(503);
+                        rejectedMillis.add((System.nanoTime() - t) / 1_000_000);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        requests.shutdown();
+
+        System.out.printf("Login storm: %d requests in %d ms, %d hashed (max %d ms), %d shed (max %d ms), "
+                        + "peak hashing concurrency %d%n",
+                REQUEST_THREADS, elapsedMillis, acceptedMillis.size(), max(acceptedMillis), rejectedMillis.size(),
+                max(rejectedMillis), encoder.peak.get());
+
+        assertThat(failures).hasValue(0);
+        assertThat(encoder.peak.get()).isLessThanOrEqualTo(HASH_THREADS);
+        // The burst arrives within milliseconds, far faster than one hash, so most of it cannot fit the queue
+        assertThat(acceptedMillis).isNotEmpty();
+        assertThat(rejectedMillis.size()).isGreaterThan(REQUEST_THREADS / 2);
+        assertThat(max(rejectedMillis)).isLessThan(1000L);
+    }
+
+    private static long max(List<Long> values) {
+        synchronized (values) {
+            return values.stream().mapToLong(Long::longValue).max().orElse(0);
+        }
+    }
+
+    private static final class ConcurrencyTrackingEncoder implements PasswordEncoder {
+        private final PasswordEncoder delegate;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        private ConcurrencyTrackingEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                return delegate.matches(rawPassword, encodedPassword);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+}
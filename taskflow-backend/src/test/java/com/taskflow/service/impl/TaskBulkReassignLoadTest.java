@@ -0,0 +1,169 @@
+package com.taskflow.service.impl;
+
+import com.taskflow.dto.request.TaskBulkUpdateRequest;
+import com.taskflow.dto.response.NotificationResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.TaskLabelMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.notification.NotificationDispatcher;
+import com.taskflow.notification.NotificationEvent;
+import com.taskflow.service.NotificationService;
+import com.taskflow.service.support.RankOrdering;
+import com.taskflow.service.support.TaskReferenceValidator;
+import com.taskflow.service.support.TaskResponseAssembler;
+import com.taskflow.websocket.TaskDeltaPublisher;
+import com.taskflow.websocket.TaskWebSocketHandler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Concurrent bulk reassignments of large task sets: each request only enqueues its notifications, and the
+// dispatcher stores and pushes them in batches behind the requests. The database is stubbed with a fixed
+// per-statement cost.
+@Tag("benchmark")
+class TaskBulkReassignLoadTest {
+
+    private static final int CLIENTS = 8;
+    private static final int REQUESTS_PER_CLIENT = 25;
+    private static final int TASKS_PER_REQUEST = 500;
+    private static final long STATEMENT_MILLIS = 2;
+
+    @Test
+    void reassignsUnderLoadWithoutWaitingForNotifications() throws Exception {
+        AtomicLong notificationIds = new AtomicLong();
+        NotificationService notificationService = mock(NotificationService.class);
+        when(notificationService.createNotifications(anyList())).thenAnswer(invocation -> {
+            List<NotificationEvent> events = invocation.getArgument(0);
+            Thread.sleep(STATEMENT_MILLIS);
+            List<NotificationResponse> saved = new ArrayList<>(events.size());
+            for (NotificationEvent event : events) {
+                NotificationResponse response = new NotificationResponse();
+                response.setId(notificationIds.incrementAndGet());
+                response.setReferenceId(event.getReferenceId());
+                saved.add(response);
+            }
+            return saved;
+        });
+        NotificationDispatcher dispatcher = new NotificationDispatcher(notificationService,
+                mock(TaskWebSocketHandler.class));
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", CLIENTS * REQUESTS_PER_CLIENT * TASKS_PER_REQUEST);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 200);
+        ReflectionTestUtils.setField(dispatcher, "shutdownTimeoutMillis", 30000L);
+        dispatcher.start();
+
+        TaskBulkServiceImpl service = service(dispatcher);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<long[]>> latencies = new ArrayList<>();
+        long started = System.nanoTime();
+        for (int c = 0; c < CLIENTS; c++) {
+            int client = c;
+            latencies.add(clients.submit(() -> {
+                long[] nanos = new long[REQUESTS_PER_CLIENT];
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    TaskBulkUpdateRequest request = new TaskBulkUpdateRequest();
+                    long firstId = ((long) client * REQUESTS_PER_CLIENT + r) * TASKS_PER_REQUEST + 1;
+                    request.setTaskIds(ids(firstId, TASKS_PER_REQUEST));
+                    request.setAssigneeId(100L + client);
+                    long t = System.nanoTime();
+                    service.bulkUpdate(1L, request);
+                    nanos[r] = System.nanoTime() - t;
+                }
+                return nanos;
+            }));
+        }
+        long[] all = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        int n = 0;
+        for (Future<long[]> future : latencies) {
+            for (long nanos : future.get(60, TimeUnit.SECONDS)) {
+                all[n++] = nanos;
+            }
+        }
+        long requestsMillis = (System.nanoTime() - started) / 1_000_000;
+        clients.shutdown();
+
+        int expected = CLIENTS * REQUESTS_PER_CLIENT * TASKS_PER_REQUEST;
+        long deadline = System.currentTimeMillis() + 60000;
+        while (dispatcher.getStats().get("delivered") < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        long drainedMillis = (System.nanoTime() - started) / 1_000_000;
+        dispatcher.shutdown();
+
+        Arrays.sort(all);
+        Map<String, Long> stats = dispatcher.getStats();
+        System.out.printf("Bulk reassign: %d requests x %d tasks in %d ms, p50 %d ms, p99 %d ms; "
+                        + "notifications drained after %d ms: %s%n",
+                all.length, TASKS_PER_REQUEST, requestsMillis, all[all.length / 2] / 1_000_000,
+                all[all.length * 99 / 100] / 1_000_000, drainedMillis, stats);
+
+        assertThat(stats.get("delivered")).isEqualTo(expected);
+        assertThat(stats.get("dropped")).isZero();
+        assertThat(stats.get("failed")).isZero();
+        // Batched: a few hundred inserts, not one per notification
+        assertThat(stats.get("batches")).isLessThan(expected / 50L);
+        // A request costs its own statements only, never the notification inserts
+        assertThat(all[all.length * 99 / 100] / 1_000_000).isLessThan(STATEMENT_MILLIS * 20);
+    }
+
+    private TaskBulkServiceImpl service(NotificationDispatcher dispatcher) {
+        TaskMapper taskMapper = mock(TaskMapper.class);
+        when(taskMapper.selectList(any())).thenAnswer(invocation -> {
+            Thread.sleep(STATEMENT_MILLIS);
+            // Both lookups (existing tasks, tasks not yet assigned to the user) see every requested id
+            return lastRequested.get().stream().map(TaskBulkReassignLoadTest::task).toList();
+        });
+        when(taskMapper.update(isNull(), any())).thenAnswer(invocation -> {
+            Thread.sleep(STATEMENT_MILLIS);
+            return TASKS_PER_REQUEST;
+        });
+        return new TaskBulkServiceImpl(taskMapper, mock(TaskLabelMapper.class), mock(TaskReferenceValidator.class),
+                mock(RankOrdering.class), mock(TaskDeltaPublisher.class), dispatcher,
+                mock(TaskResponseAssembler.class)) {
+            @Override
+            public com.taskflow.dto.response.TaskBulkUpdateResponse bulkUpdate(Long workspaceId,
+                                                                           TaskBulkUpdateRequest request) {
+                lastRequested.set(request.getTaskIds());
+                try {
+                    return super.bulkUpdate(workspaceId, request);
+                } finally {
+                    lastRequested.remove();
+                }
+            }
+        };
+    }
+
+    // The ids of the request running on this client thread, for the mapper stub
+    private final ThreadLocal<List<Long>> lastRequested = new ThreadLocal<>();
+
+    private static List<Long> ids(long first, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(first + i);
+        }
+        return ids;
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        return task;
+    }
+}
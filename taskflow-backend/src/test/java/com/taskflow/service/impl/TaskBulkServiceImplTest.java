@@ -0,0 +1,85 @@
+package com.taskflow.service.impl;
+
+import com.taskflow.dto.request.TaskBulkUpdateRequest;
+import com.taskflow.dto.response.LabelResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.TaskLabelMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.notification.NotificationDispatcher;
+import com.taskflow.service.support.RankOrdering;
+import com.taskflow.service.support.TaskReferenceValidator;
+import com.taskflow.service.support.TaskResponseAssembler;
+import com.taskflow.websocket.TaskDeltaPublisher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskBulkServiceImplTest {
+
+    private static final Long WORKSPACE_ID = 1L;
+
+    private final TaskMapper taskMapper = mock(TaskMapper.class);
+    private final TaskLabelMapper taskLabelMapper = mock(TaskLabelMapper.class);
+    private final TaskDeltaPublisher taskDeltaPublisher = mock(TaskDeltaPublisher.class);
+    private final TaskResponseAssembler taskResponseAssembler = mock(TaskResponseAssembler.class);
+    private final TaskBulkServiceImpl service = new TaskBulkServiceImpl(taskMapper, taskLabelMapper,
+            mock(TaskReferenceValidator.class), mock(RankOrdering.class), taskDeltaPublisher,
+            mock(NotificationDispatcher.class), taskResponseAssembler);
+
+    @Test
+    void publishesTheLabelsOfEveryTaskAfterABulkLabelChange() {
+        when(taskMapper.selectList(any())).thenReturn(List.of(task(10L), task(11L)));
+        LabelResponse urgent = label(7L);
+        when(taskResponseAssembler.labelsOf(List.of(10L, 11L)))
+                .thenReturn(Map.of(10L, List.of(urgent), 11L, new ArrayList<>()));
+
+        TaskBulkUpdateRequest request = new TaskBulkUpdateRequest();
+        request.setTaskIds(List.of(10L, 11L));
+        request.setAddLabelIds(List.of(7L));
+        request.setRemoveLabelIds(List.of(8L));
+        service.bulkUpdate(WORKSPACE_ID, request);
+
+        verify(taskDeltaPublisher).updated(WORKSPACE_ID, 10L, Map.of("labels", List.of(urgent)));
+        verify(taskDeltaPublisher).updated(WORKSPACE_ID, 11L, Map.of("labels", List.of()));
+    }
+
+    @Test
+    void sendsOneDeltaPerTaskForFieldAndLabelChanges() {
+        when(taskMapper.selectList(any())).thenReturn(List.of(task(10L)));
+        when(taskResponseAssembler.labelsOf(List.of(10L))).thenReturn(Map.of(10L, List.of(label(7L))));
+
+        TaskBulkUpdateRequest request = new TaskBulkUpdateRequest();
+        request.setTaskIds(List.of(10L));
+        request.setStatus("DONE");
+        request.setAddLabelIds(List.of(7L));
+        service.bulkUpdate(WORKSPACE_ID, request);
+
+        verify(taskDeltaPublisher, times(1)).updated(eq(WORKSPACE_ID), anyLong(), anyMap());
+        verify(taskDeltaPublisher).updated(WORKSPACE_ID, 10L, Map.of("status", "DONE", "labels", List.of(label(7L))));
+    }
+
+    private Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setWorkspaceId(WORKSPACE_ID);
+        return task;
+    }
+
+    private LabelResponse label(Long id) {
+        LabelResponse label = new LabelResponse();
+        label.setId(id);
+        label.setName("Label " + id);
+        return label;
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskflow.service.impl;
+
+import com.taskflow.cluster.ClusterInvalidator;
+import com.taskflow.dto.request.TaskDependencyCreateRequest;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskDependency;
+import com.taskflow.exception.BusinessException;
+import com.taskflow.graph.DependencyGraphRegistry;
+import com.taskflow.graph.ScheduleEngine;
+import com.taskflow.mapper.TaskDependencyMapper;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.mapper.WorkspaceMapper;
+import com.taskflow.service.support.TaskResponseAssembler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskDependencyServiceImplTest {
+
+    private static final Long WORKSPACE_ID = 1L;
+
+    private final TaskDependencyMapper taskDependencyMapper = mock(TaskDependencyMapper.class);
+    private final TaskMapper taskMapper = mock(TaskMapper.class);
+    private final WorkspaceMapper workspaceMapper = mock(WorkspaceMapper.class);
+    private final ClusterInvalidator clusterInvalidator = mock(ClusterInvalidator.class);
+    private final DependencyGraphRegistry registry = new DependencyGraphRegistry(taskDependencyMapper, clusterInvalidator);
+    private final ScheduleEngine scheduleEngine = mock(ScheduleEngine.class);
+    private final TaskDependencyServiceImpl service = new TaskDependencyServiceImpl(taskDependencyMapper, taskMapper,
+            workspaceMapper, mock(TaskResponseAssembler.class), registry, scheduleEngine);
+
+    @BeforeEach
+    void setUp() {
+        when(taskMapper.selectById(10L)).thenReturn(task(10L));
+        when(taskMapper.selectById(20L)).thenReturn(task(20L));
+    }
+
+    // This node cached the graph before another node committed 20 -> 10; adding 10 -> 20 here must still fail
+    @Test
+    void rejectsACycleThroughAnEdgeCommittedOnAnotherNode() {
+        when(taskDependencyMapper.selectByWorkspaceId(WORKSPACE_ID)).thenReturn(List.of());
+        registry.get(WORKSPACE_ID);
+        when(taskDependencyMapper.selectByWorkspaceIdLocked(WORKSPACE_ID)).thenReturn(List.of(edge(20L, 10L)));
+
+        assertThatThrownBy(() -> service.addDependency(10L, request(10L, 20L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("This dependency would create a cycle");
+        verify(taskDependencyMapper, never()).insert(any(TaskDependency.class));
+    }
+
+    @Test
+    void locksTheWorkspaceBeforeReadingTheEdgesAndTellsTheOtherNodes() {
+        when(taskDependencyMapper.selectByWorkspaceIdLocked(WORKSPACE_ID)).thenReturn(List.of());
+
+        service.addDependency(10L, request(10L, 20L));
+
+        InOrder order = inOrder(workspaceMapper, taskDependencyMapper);
+        order.verify(workspaceMapper).lockById(WORKSPACE_ID);
+        order.verify(taskDependencyMapper).selectByWorkspaceIdLocked(WORKSPACE_ID);
+        order.verify(taskDependencyMapper).insert(any(TaskDependency.class));
+        verify(clusterInvalidator).invalidate(ClusterInvalidator.DEPENDENCY_GRAPH, WORKSPACE_ID);
+    }
+
+    private TaskDependencyCreateRequest request(Long predecessorId, Long successorId) {
+        TaskDependencyCreateRequest request = new TaskDependencyCreateRequest();
+        request.setPredecessorTaskId(predecessorId);
+        request.setSuccessorTaskId(successorId);
+        return request;
+    }
+
+    private TaskDependency edge(Long predecessorId, Long successorId) {
+        TaskDependency dependency = new TaskDependency();
+        dependency.setPredecessorTaskId(predecessorId);
+        dependency.setSuccessorTaskId(successorId);
+        dependency.setDependencyType("FINISH_TO_START");
+        return dependency;
+    }
+
+    private Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setWorkspaceId(WORKSPACE_ID);
+        return task;
+    }
+}
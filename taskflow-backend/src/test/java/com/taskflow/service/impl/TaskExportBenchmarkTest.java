@@ -0,0 +1,121 @@
+package com.taskflow.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.dto.response.TaskResponse;
+import com.taskflow.entity.Task;
+import com.taskflow.mapper.TaskMapper;
+import com.taskflow.service.support.DataFormat;
+import com.taskflow.service.support.TaskFieldSet;
+import com.taskflow.service.support.TaskResponseAssembler;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Export throughput with the database and relation lookups stubbed out: measures the chunking, serialization
+// and writing path on its own
+@Tag("benchmark")
+class TaskExportBenchmarkTest {
+
+    private static final int TASKS = 200_000;
+
+    @Test
+    void streamsCsvAndNdjson() throws Exception {
+        for (DataFormat format : List.of(DataFormat.CSV, DataFormat.NDJSON)) {
+            TaskExportServiceImpl service = service();
+            CountingOutputStream out = new CountingOutputStream();
+
+            // One untimed pass to warm up, then the measured one
+            service.exportTasks(1L, format, TaskFieldSet.parse(null, null), new CountingOutputStream());
+            long started = System.nanoTime();
+            service.exportTasks(1L, format, TaskFieldSet.parse(null, null), out);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            System.out.printf("%s export: %d tasks in %.2f s, %.0f tasks/s, %.1f MB/s%n", format, TASKS, seconds,
+                    TASKS / seconds, out.bytes / seconds / (1024 * 1024));
+            assertThat(out.bytes).isPositive();
+        }
+    }
+
+    private TaskExportServiceImpl service() {
+        TaskMapper taskMapper = mock(TaskMapper.class);
+        doAnswer(invocation -> {
+            ResultHandler<Task> handler = invocation.getArgument(2);
+            DefaultResultContext<Task> context = new DefaultResultContext<>();
+            for (long id = 1; id <= TASKS; id++) {
+                context.nextResultObject(task(id));
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(taskMapper).streamTasks(any(), anyLong(), any());
+
+        TaskResponseAssembler assembler = mock(TaskResponseAssembler.class);
+        when(assembler.assemble(anyList(), any(TaskFieldSet.class))).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            List<TaskResponse> responses = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                TaskResponse response = new TaskResponse();
+                BeanUtils.copyProperties(task, response);
+                responses.add(response);
+            }
+            return responses;
+        });
+
+        TaskExportServiceImpl service = new TaskExportServiceImpl(taskMapper, assembler,
+                new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(service, "maxDurationMillis", 300000L);
+        ReflectionTestUtils.setField(service, "maxConcurrent", 2);
+        service.start();
+        return service;
+    }
+
+    private static Task task(long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setWorkspaceId(1L);
+        task.setBoardColumnId(id % 5 + 1);
+        task.setTitle("Task " + id + ", follow up with \"ops\"");
+        task.setDescription("Description of task " + id + " with enough text to look like a real one.");
+        task.setPriority("MEDIUM");
+        task.setStatus("TODO");
+        task.setStartDate(LocalDate.of(2026, 1, 1).plusDays(id % 300));
+        task.setDueDate(LocalDate.of(2026, 1, 8).plusDays(id % 300));
+        task.setProgress((int) (id % 100));
+        task.setAssigneeId(id % 50 + 1);
+        task.setCreatorId(1L);
+        task.setPosition((int) id);
+        task.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0));
+        task.setUpdatedAt(LocalDateTime.of(2026, 1, 2, 9, 0));
+        return task;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskflow.service.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankKeyTest {
+
+    @Test
+    void insertsRepeatedlyAtTheStart() {
+        String first = RankKey.initial(0);
+        for (int i = 0; i < 500; i++) {
+            String key = RankKey.between(null, first);
+            assertValid(key);
+            assertThat(key).isLessThan(first);
+            first = key;
+        }
+    }
+
+    @Test
+    void insertsRepeatedlyAtTheEnd() {
+        String last = RankKey.initial(0);
+        for (int i = 0; i < 500; i++) {
+            String key = RankKey.between(last, null);
+            assertValid(key);
+            assertThat(key).isGreaterThan(last);
+            last = key;
+        }
+        assertThat(RankKey.between("zzz", null)).isGreaterThan("zzz");
+        assertThat(RankKey.between(null, null)).isNotEmpty();
+    }
+
+    @Test
+    void fitsBetweenAdjacentKeys() {
+        assertBetween("a", "b");
+        assertBetween("az", "b");
+        assertBetween("a", "a1");
+        assertBetween("azzz", "b");
+        assertBetween("0001", "0002");
+        assertBetween(null, "0001");
+    }
+
+    @Test
+    void keepsSplittingTheSameGap() {
+        String low = RankKey.initial(0);
+        String high = RankKey.initial(1);
+        for (int i = 0; i < 200; i++) {
+            String key = assertBetween(low, high);
+            // Alternate sides so the gap shrinks from both ends
+            if (i % 2 == 0) {
+                low = key;
+            } else {
+                high = key;
+            }
+        }
+    }
+
+    @Test
+    void rejectsKeysOutOfOrder() {
+        assertThatThrownBy(() -> RankKey.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKey.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void initialKeysAreAscendingAndEvenlySized() {
+        List<String> keys = RankKey.initialKeys(1000);
+        for (int i = 1; i < keys.size(); i++) {
+            assertThat(keys.get(i)).isGreaterThan(keys.get(i - 1)).hasSameSizeAs(keys.get(0));
+        }
+    }
+
+    @Test
+    void reorderRewritesOnlyTheMovedItem() {
+        List<String> keys = RankKey.initialKeys(5);
+        Map<Long, String> current = Map.of(1L, keys.get(0), 2L, keys.get(1), 3L, keys.get(2),
+                4L, keys.get(3), 5L, keys.get(4));
+        List<Long> order = List.of(1L, 4L, 2L, 3L, 5L);
+
+        Map<Long, String> changes = RankKey.reorder(order, current);
+
+        assertThat(changes).containsOnlyKeys(4L);
+        List<String> reordered = new ArrayList<>();
+        for (Long id : order) {
+            reordered.add(changes.getOrDefault(id, current.get(id)));
+        }
+        assertThat(reordered).isSorted();
+    }
+
+    private String assertBetween(String before, String after) {
+        String key = RankKey.between(before, after);
+        assertValid(key);
+        if (before != null) {
+            assertThat(key).isGreaterThan(before);
+        }
+        assertThat(key).isLessThan(after);
+        return key;
+    }
+
+    private void assertValid(String key) {
+        assertThat(key).matches("[0-9a-z]*[1-9a-z]");
+    }
+}
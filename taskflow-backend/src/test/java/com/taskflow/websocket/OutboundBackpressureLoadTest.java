@@ -0,0 +1,149 @@
+package com.taskflow.websocket;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A workspace broadcast to many fast clients and a few clients that take 20 ms per frame, through a real executor
+// channel the size of the outbound pool. Fast clients must keep low latency and lose nothing while the slow ones
+// are coalesced to RESYNC frames, each holding at most one outbound thread.
+@Tag("benchmark")
+class OutboundBackpressureLoadTest {
+
+    private static final int POOL_THREADS = 8;
+    private static final int FAST_SESSIONS = 40;
+    private static final int SLOW_SESSIONS = 3;
+    private static final int ROUNDS = 500;
+    private static final long ROUND_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long FAST_HANDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final long SLOW_HANDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final int HIGH_WATER = 64;
+
+    private static final String SEQ = "seq";
+    private static final String SENT_AT = "sentAt";
+
+    private final Map<String, List<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, List<Long>> sequences = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> resyncsReceived = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> handling = new ConcurrentHashMap<>();
+    private final AtomicInteger maxHandlingPerSession = new AtomicInteger();
+
+    @Test
+    void slowClientsDoNotDelayFastOnes() throws Exception {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(POOL_THREADS);
+        executor.setMaxPoolSize(POOL_THREADS);
+        executor.initialize();
+
+        OutboundBackpressureInterceptor interceptor = new OutboundBackpressureInterceptor();
+        ReflectionTestUtils.setField(interceptor, "highWater", HIGH_WATER);
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(executor);
+        channel.addInterceptor(interceptor);
+        channel.subscribe(this::handle);
+
+        List<String> sessionIds = new ArrayList<>();
+        for (int i = 0; i < FAST_SESSIONS; i++) {
+            sessionIds.add("fast-" + i);
+        }
+        for (int i = 0; i < SLOW_SESSIONS; i++) {
+            sessionIds.add("slow-" + i);
+        }
+        for (String sessionId : sessionIds) {
+            latencies.put(sessionId, Collections.synchronizedList(new ArrayList<>()));
+            sequences.put(sessionId, Collections.synchronizedList(new ArrayList<>()));
+            resyncsReceived.put(sessionId, new AtomicInteger());
+            handling.put(sessionId, new AtomicInteger());
+        }
+
+        long next = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String sessionId : sessionIds) {
+                channel.send(message(sessionId, round));
+            }
+            next += ROUND_NANOS;
+            LockSupport.parkNanos(next - System.nanoTime());
+        }
+
+        long deadline = System.currentTimeMillis() + 30000;
+        while (!drained(interceptor) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        executor.shutdown();
+
+        List<Long> fastLatencies = new ArrayList<>();
+        sessionIds.stream().filter(id -> id.startsWith("fast")).forEach(id -> fastLatencies.addAll(latencies.get(id)));
+        Collections.sort(fastLatencies);
+        long p50 = TimeUnit.NANOSECONDS.toMillis(fastLatencies.get(fastLatencies.size() / 2));
+        long p99 = TimeUnit.NANOSECONDS.toMillis(fastLatencies.get(fastLatencies.size() * 99 / 100));
+        System.out.printf("Outbound load: %d fast + %d slow sessions x %d frames; fast p50 %d ms, p99 %d ms; %s%n",
+                FAST_SESSIONS, SLOW_SESSIONS, ROUNDS, p50, p99, interceptor.getStats());
+
+        assertThat(drained(interceptor)).isTrue();
+        assertThat(maxHandlingPerSession.get()).isEqualTo(1);
+        for (String sessionId : sessionIds) {
+            Map<String, Long> stats = interceptor.getSessionStats().get(sessionId);
+            if (sessionId.startsWith("fast")) {
+                // Every frame, in order, and never coalesced
+                assertThat(sequences.get(sessionId)).hasSize(ROUNDS).isSorted();
+                assertThat(stats.get("dropped")).isZero();
+                assertThat(resyncsReceived.get(sessionId).get()).isZero();
+            } else {
+                assertThat(stats.get("maxDepth")).isLessThanOrEqualTo(HIGH_WATER);
+                assertThat(stats.get("dropped")).isPositive();
+                assertThat(resyncsReceived.get(sessionId).get()).isPositive();
+            }
+        }
+        assertThat(p99).isLessThan(50);
+    }
+
+    private void handle(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        int concurrent = handling.get(sessionId).incrementAndGet();
+        maxHandlingPerSession.accumulateAndGet(concurrent, Math::max);
+        try {
+            Long seq = (Long) message.getHeaders().get(SEQ);
+            if (seq == null) {
+                resyncsReceived.get(sessionId).incrementAndGet();
+            } else {
+                sequences.get(sessionId).add(seq);
+                latencies.get(sessionId).add(System.nanoTime() - (Long) message.getHeaders().get(SENT_AT));
+            }
+            LockSupport.parkNanos(sessionId.startsWith("slow") ? SLOW_HANDLE_NANOS : FAST_HANDLE_NANOS);
+        } finally {
+            handling.get(sessionId).decrementAndGet();
+        }
+    }
+
+    private boolean drained(OutboundBackpressureInterceptor interceptor) {
+        return interceptor.getSessionStats().values().stream().allMatch(stats -> stats.get("depth") == 0);
+    }
+
+    private Message<byte[]> message(String sessionId, long seq) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination("/topic/workspace/1");
+        accessor.setHeader(SEQ, seq);
+        accessor.setHeader(SENT_AT, System.nanoTime());
+        byte[] payload = ("{\"type\":\"UPDATED\",\"seq\":" + seq + "}").getBytes(StandardCharsets.UTF_8);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
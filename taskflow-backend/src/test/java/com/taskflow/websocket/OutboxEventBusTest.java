@@ -0,0 +1,250 @@
+package com.taskflow.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.cluster.ClusterEvent;
+import com.taskflow.entity.RealtimeOutbox;
+import com.taskflow.mapper.RealtimeOutboxMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Two bus instances share an in-memory outbox table, standing in for two nodes on one MySQL
+class OutboxEventBusTest {
+
+    private static final String DESTINATION = "/topic/workspace/1/tasks";
+
+    private final OutboxTable table = new OutboxTable();
+    private final List<OutboxEventBus> nodes = new ArrayList<>();
+
+    @AfterEach
+    void stopNodes() throws InterruptedException {
+        for (OutboxEventBus node : nodes) {
+            node.stop();
+        }
+    }
+
+    @Test
+    void deliversToTheOtherNodeInOrderAndMeasuresLatency() throws InterruptedException {
+        Deliveries onA = new Deliveries();
+        Deliveries onB = new Deliveries();
+        OutboxEventBus a = startNode("a", onA);
+        OutboxEventBus b = startNode("b", onB);
+
+        int messages = 500;
+        for (int i = 0; i < messages; i++) {
+            a.publish(DESTINATION, Map.of("n", i));
+        }
+        onB.await(messages, Duration.ofSeconds(10));
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < messages; i++) {
+            expected.add("{\"n\":" + i + "}");
+        }
+        assertThat(onB.payloads()).containsExactlyElementsOf(expected);
+        // The publishing node delivers to its own subscribers once and never re-reads its own rows
+        assertThat(onA.payloads()).containsExactlyElementsOf(expected);
+
+        Map<String, Long> stats = b.getStats();
+        assertThat(stats.get("received")).isEqualTo(messages);
+        assertThat(stats.get("duplicates")).isZero();
+        assertThat(stats.get("maxLatencyMs")).isLessThan(2000L);
+        System.out.printf("Two-node broadcast latency over %d messages: avg %d ms, max %d ms%n",
+                messages, stats.get("avgLatencyMs"), stats.get("maxLatencyMs"));
+    }
+
+    @Test
+    void deliversABatchThatCommitsBehindNewerIds() throws InterruptedException {
+        Deliveries onB = new Deliveries();
+        OutboxEventBus b = startNode("b", onB);
+
+        // Node a reserves ids for a large batch, then node c commits a newer batch well past the old lookback
+        List<Long> slowBatch = table.reserve(500);
+        for (int i = 0; i < 300; i++) {
+            table.commit(table.reserve(1), "c", "c");
+        }
+        onB.await(300, Duration.ofSeconds(5));
+
+        table.commit(slowBatch, "a", "a");
+        onB.await(800, Duration.ofSeconds(5));
+
+        assertThat(onB.payloads()).hasSize(800).doesNotHaveDuplicates();
+        assertThat(onB.payloads().stream().filter(payload -> payload.startsWith("{\"a\"")).count()).isEqualTo(500);
+        // Rows from c may also be found by a re-scan that ran before the fast poll reached them
+        assertThat(b.getStats().get("late")).isGreaterThanOrEqualTo(500L);
+    }
+
+    @Test
+    void carriesClusterEventsToTheOtherNodesOnly() throws InterruptedException {
+        Deliveries onA = new Deliveries();
+        Deliveries onB = new Deliveries();
+        Deliveries eventsOnA = new Deliveries();
+        Deliveries eventsOnB = new Deliveries();
+        OutboxEventBus a = startNode("a", onA, eventsOnA);
+        startNode("b", onB, eventsOnB);
+
+        a.broadcast("membership-user", "42");
+        a.publish(DESTINATION, Map.of("n", 1));
+        onB.await(1, Duration.ofSeconds(5));
+        eventsOnB.await(1, Duration.ofSeconds(5));
+
+        assertThat(eventsOnB.payloads()).containsExactly("membership-user=42");
+        assertThat(onB.payloads()).containsExactly("{\"n\":1}");
+        assertThat(eventsOnA.payloads()).isEmpty();
+    }
+
+    private OutboxEventBus startNode(String nodeId, Deliveries deliveries) {
+        return startNode(nodeId, deliveries, new Deliveries());
+    }
+
+    private OutboxEventBus startNode(String nodeId, Deliveries deliveries, Deliveries events) {
+        SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+        doAnswer(invocation -> {
+            Message<?> message = invocation.getArgument(1);
+            deliveries.add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+            return null;
+        }).when(template).send(anyString(), any(Message.class));
+
+        OutboxEventBus bus = new OutboxEventBus(table.mapper(), template, new ObjectMapper(), event -> {
+            ClusterEvent clusterEvent = (ClusterEvent) event;
+            events.add(clusterEvent.getChannel() + "=" + clusterEvent.getPayload());
+        });
+        ReflectionTestUtils.setField(bus, "configuredNodeId", nodeId);
+        ReflectionTestUtils.setField(bus, "queueCapacity", 10000);
+        ReflectionTestUtils.setField(bus, "batchSize", 500);
+        ReflectionTestUtils.setField(bus, "flushIntervalMillis", 20L);
+        ReflectionTestUtils.setField(bus, "pollIntervalMillis", 20L);
+        ReflectionTestUtils.setField(bus, "settleWindowMillis", 10000L);
+        ReflectionTestUtils.setField(bus, "settleIntervalMillis", 100L);
+        ReflectionTestUtils.setField(bus, "retentionMillis", 300000L);
+        bus.start();
+        nodes.add(bus);
+        return bus;
+    }
+
+    private static final class Deliveries {
+        private final List<String> payloads = new ArrayList<>();
+
+        private synchronized void add(String payload) {
+            payloads.add(payload);
+            notifyAll();
+        }
+
+        private synchronized List<String> payloads() {
+            return new ArrayList<>(payloads);
+        }
+
+        private synchronized void await(int count, Duration timeout) throws InterruptedException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (payloads.size() < count) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                wait(Math.max(1, remaining / 1_000_000));
+            }
+        }
+    }
+
+    // Ids are handed out when a row is inserted and the row becomes visible when its transaction commits,
+    // as in InnoDB; written_at is the insert time
+    private static final class OutboxTable {
+        private final AtomicLong nextId = new AtomicLong();
+        private final Map<Long, Long> writtenAt = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<Long, RealtimeOutbox> committed = new ConcurrentSkipListMap<>();
+
+        private List<Long> reserve(int count) {
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = nextId.incrementAndGet();
+                writtenAt.put(id, System.currentTimeMillis());
+                ids.add(id);
+            }
+            return ids;
+        }
+
+        // Payloads are distinct per row; identical rows in one poll would be collapsed as retried writes
+        private void commit(List<Long> ids, String nodeId, String field) {
+            for (Long id : ids) {
+                RealtimeOutbox row = new RealtimeOutbox();
+                row.setId(id);
+                row.setNodeId(nodeId);
+                row.setDestination(DESTINATION);
+                row.setPayload("{\"" + field + "\":" + id + "}");
+                row.setCreatedAt(LocalDateTime.now());
+                committed.put(id, row);
+            }
+        }
+
+        private RealtimeOutboxMapper mapper() {
+            RealtimeOutboxMapper mapper = mock(RealtimeOutboxMapper.class);
+            when(mapper.insertAll(anyList())).thenAnswer(invocation -> {
+                List<RealtimeOutbox> rows = invocation.getArgument(0);
+                List<Long> ids = reserve(rows.size());
+                for (int i = 0; i < rows.size(); i++) {
+                    RealtimeOutbox row = rows.get(i);
+                    RealtimeOutbox copy = new RealtimeOutbox();
+                    copy.setId(ids.get(i));
+                    copy.setNodeId(row.getNodeId());
+                    copy.setDestination(row.getDestination());
+                    copy.setPayload(row.getPayload());
+                    copy.setCreatedAt(row.getCreatedAt());
+                    committed.put(copy.getId(), copy);
+                }
+                return rows.size();
+            });
+            when(mapper.selectMaxId()).thenAnswer(invocation -> committed.isEmpty() ? null : committed.lastKey());
+            when(mapper.selectIdsAfter(anyLong(), anyString(), anyInt())).thenAnswer(invocation -> {
+                long afterId = invocation.getArgument(0);
+                return ids(committed.tailMap(afterId, false).values(), invocation.getArgument(1), 0L,
+                        invocation.getArgument(2));
+            });
+            when(mapper.selectRecentIds(anyLong(), anyString(), anyLong(), anyInt())).thenAnswer(invocation -> {
+                long windowMillis = invocation.getArgument(0);
+                long afterId = invocation.getArgument(2);
+                long since = System.currentTimeMillis() - windowMillis;
+                return ids(committed.tailMap(afterId, false).values(), invocation.getArgument(1), since,
+                        invocation.getArgument(3));
+            });
+            when(mapper.selectBatchIds(anyCollection())).thenAnswer(invocation -> {
+                Collection<? extends Serializable> ids = invocation.getArgument(0);
+                return ids.stream().map(committed::get).filter(Objects::nonNull).toList();
+            });
+            return mapper;
+        }
+
+        private List<Long> ids(Collection<RealtimeOutbox> rows, String excludedNode, long writtenSince, int limit) {
+            return rows.stream()
+                    .filter(row -> !row.getNodeId().equals(excludedNode))
+                    .filter(row -> writtenAt.get(row.getId()) >= writtenSince)
+                    .map(RealtimeOutbox::getId)
+                    .limit(limit)
+                    .toList();
+        }
+    }
+}
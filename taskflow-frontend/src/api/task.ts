@@ -1,5 +1,5 @@
 import api from './index'
-import type { ApiResponse, Task, TaskCreateRequest, TaskUpdateRequest, TaskMoveRequest, TaskFilterParams, PageResult, Subtask, SubtaskCreateRequest, Comment, TaskDependency } from '@/types'
+import type { ApiResponse, Task, TaskCreateRequest, TaskUpdateRequest, TaskMoveRequest, TaskFilterParams, TaskDeltaResync, PageResult, Subtask, SubtaskCreateRequest, Comment, TaskDependency } from '@/types'
 
 export const taskApi = {
   create(workspaceId: number, data: TaskCreateRequest) {
@@ -23,6 +23,9 @@ export const taskApi = {
   move(taskId: number, data: TaskMoveRequest) {
     return api.put<any, ApiResponse<Task>>(`/tasks/${taskId}/move`, data)
   },
+  getDeltas(workspaceId: number, params?: { after?: number }) {
+    return api.get<any, ApiResponse<TaskDeltaResync>>(`/workspaces/${workspaceId}/tasks/deltas`, { params })
+  },
   getCalendarTasks(workspaceId: number, start: string, end: string) {
     return api.get<any, ApiResponse<Task[]>>(`/workspaces/${workspaceId}/tasks/calendar`, { params: { start, end } })
   },
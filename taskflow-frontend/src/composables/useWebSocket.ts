@@ -5,10 +5,12 @@ import { useAuthStore } from '@/stores/auth'
 import { useWorkspaceStore } from '@/stores/workspace'
 import { useNotificationStore } from '@/stores/notification'
 import { useTaskStore } from '@/stores/task'
-import type { Notification } from '@/types'
+import { taskApi } from '@/api/task'
+import type { Notification, TaskDelta } from '@/types'
 
 const connected = ref(false)
 let stompClient: Client | null = null
+let connectedBefore = false
 
 export function useWebSocket() {
   const authStore = useAuthStore()
@@ -24,9 +26,20 @@ export function useWebSocket() {
       reconnectDelay: 5000,
       heartbeatIncoming: 10000,
       heartbeatOutgoing: 10000,
+      // Read the token on every (re)connect so a refreshed access token is picked up
+      beforeConnect: () => {
+        if (stompClient) {
+          stompClient.connectHeaders = { Authorization: `Bearer ${authStore.accessToken}` }
+        }
+      },
       onConnect: () => {
         connected.value = true
         subscribeToChannels()
+        // Anything pushed while we were disconnected is gone; reload what is on screen
+        if (connectedBefore) {
+          reloadAfterMissedMessages()
+        }
+        connectedBefore = true
       },
       onDisconnect: () => {
         connected.value = false
@@ -47,7 +60,14 @@ export function useWebSocket() {
       stompClient.subscribe(
         `/topic/user/${authStore.user.id}/notifications`,
         (message: IMessage) => {
-          const notification: Notification = JSON.parse(message.body)
+          const body = JSON.parse(message.body)
+          // The server dropped messages because we fell behind; fetch the current state instead
+          if (body.type === 'RESYNC') {
+            notificationStore.fetchNotifications()
+            notificationStore.fetchUnreadCount()
+            return
+          }
+          const notification: Notification = body
           notificationStore.notifications.unshift(notification)
           notificationStore.unreadCount++
         }
@@ -61,6 +81,23 @@ export function useWebSocket() {
   }
 
   let workspaceSubscription: { unsubscribe: () => void } | null = null
+  // Last applied sequence of the workspace stream. Frames arriving during a resync are parked until it finishes;
+  // frames past a gap wait in `early` for a moment, since frames sent by different backend nodes can cross.
+  let position: number | null = null
+  let resyncing: TaskDelta[] | null = null
+  let early = new Map<number, TaskDelta>()
+  let gapTimer: ReturnType<typeof setTimeout> | null = null
+  const GAP_GRACE_MS = 1000
+
+  function resetStream() {
+    position = null
+    resyncing = []
+    early = new Map()
+    if (gapTimer) {
+      clearTimeout(gapTimer)
+      gapTimer = null
+    }
+  }
 
   function subscribeToWorkspace(workspaceId: number) {
     if (!stompClient?.active) return
@@ -70,21 +107,92 @@ export function useWebSocket() {
       workspaceSubscription.unsubscribe()
     }
 
+    resetStream()
     workspaceSubscription = stompClient.subscribe(
       `/topic/workspace/${workspaceId}/tasks`,
       (message: IMessage) => {
         try {
-          const taskData = JSON.parse(message.body)
-          if (taskData && taskData.id) {
-            taskStore.updateTaskInList(taskData.id, taskData)
-          }
+          handleDelta(workspaceId, JSON.parse(message.body))
         } catch {
-          // Message body is not task JSON, ignore parse error
+          // Message body is not delta JSON, ignore parse error
         }
+      }
+    )
+    resync(workspaceId)
+  }
+
+  function handleDelta(workspaceId: number, delta: TaskDelta) {
+    if (delta.type === 'RESYNC') {
+      // The server dropped deltas because we fell behind; start a fresh stream and reload
+      resetStream()
+      taskStore.notifyTaskChange()
+      taskStore.refreshCurrentView()
+      resync(workspaceId)
+      return
+    }
+    if (resyncing || position === null) {
+      resyncing?.push(delta)
+      return
+    }
+    if (delta.seq <= position) return
+    if (delta.seq > position + 1) {
+      early.set(delta.seq, delta)
+      if (!gapTimer) {
+        gapTimer = setTimeout(() => {
+          gapTimer = null
+          // Still missing after the grace period; fetch the gap and replay what was held back after it
+          if (early.size > 0) {
+            resyncing = [...early.values()].sort((a, b) => a.seq - b.seq)
+            early = new Map()
+            resync(workspaceId, position ?? undefined)
+          }
+        }, GAP_GRACE_MS)
+      }
+      return
+    }
+    position = delta.seq
+    taskStore.applyDelta(delta)
+    // The frame closed a gap; apply whatever was waiting behind it
+    let next = early.get(position + 1)
+    while (next) {
+      early.delete(next.seq)
+      position = next.seq
+      taskStore.applyDelta(next)
+      next = early.get(position + 1)
+    }
+    early.forEach((_, seq) => {
+      if (seq <= (position as number)) early.delete(seq)
+    })
+  }
+
+  // Without `after` this only records where the stream is; with it the server replays the gap
+  async function resync(workspaceId: number, after?: number) {
+    try {
+      const res = await taskApi.getDeltas(workspaceId, after !== undefined ? { after } : undefined)
+      const data = res.data
+      const parked = resyncing || []
+      resyncing = null
+      if (after === undefined) {
+        position = data.seq
+      } else if (data.reset) {
+        // Too far behind to replay; reload whatever is on screen and carry on from the current sequence
+        position = data.seq
         taskStore.notifyTaskChange()
         taskStore.refreshCurrentView()
       }
-    )
+      for (const delta of [...data.deltas, ...parked]) {
+        handleDelta(workspaceId, delta)
+      }
+    } catch {
+      resyncing = null
+    }
+  }
+
+  function reloadAfterMissedMessages() {
+    notificationStore.fetchNotifications()
+    notificationStore.fetchUnreadCount()
+    taskStore.notifyTaskChange()
+    taskStore.refreshCurrentView()
   }
 
   function disconnect() {
@@ -93,6 +201,7 @@ export function useWebSocket() {
     }
     stompClient = null
     connected.value = false
+    connectedBefore = false
   }
 
   // Watch for workspace changes to re-subscribe
@@ -2,7 +2,7 @@ import { defineStore } from 'pinia'
 import { ref } from 'vue'
 import { taskApi } from '@/api/task'
 import { useWorkspaceStore } from '@/stores/workspace'
-import type { Task, TaskCreateRequest, TaskUpdateRequest, TaskFilterParams } from '@/types'
+import type { Task, TaskDelta, TaskCreateRequest, TaskUpdateRequest, TaskFilterParams } from '@/types'
 
 export const useTaskStore = defineStore('task', () => {
   const tasks = ref<Task[]>([])
@@ -11,6 +11,7 @@ export const useTaskStore = defineStore('task', () => {
   const loading = ref(false)
   const lastFilterParams = ref<TaskFilterParams | undefined>()
   const taskEventVersion = ref(0)
+  const lastDelta = ref<TaskDelta | null>(null)
 
   function notifyTaskChange() {
     taskEventVersion.value++
@@ -23,6 +24,19 @@ export const useTaskStore = defineStore('task', () => {
     }
   }
 
+  // Applies a real-time change pushed by the server; views that keep their own copy watch lastDelta
+  function applyDelta(delta: TaskDelta) {
+    if (delta.type === 'DELETED') {
+      tasks.value = tasks.value.filter(t => t.id !== delta.taskId)
+    } else if (delta.type === 'CREATED') {
+      // Where a new task lands depends on the list's filters and sort, so let the server place it
+      refreshCurrentView()
+    } else {
+      updateTaskInList(delta.taskId, delta.fields)
+    }
+    lastDelta.value = delta
+  }
+
   async function fetchTasks(workspaceId: number, params?: TaskFilterParams) {
     loading.value = true
     lastFilterParams.value = params
@@ -69,5 +83,5 @@ export const useTaskStore = defineStore('task', () => {
     }
   }
 
-  return { tasks, currentTask, pagination, loading, taskEventVersion, fetchTasks, fetchTask, createTask, updateTask, deleteTask, refreshCurrentView, notifyTaskChange, updateTaskInList }
+  return { tasks, currentTask, pagination, loading, taskEventVersion, lastDelta, fetchTasks, fetchTask, createTask, updateTask, deleteTask, refreshCurrentView, notifyTaskChange, updateTaskInList, applyDelta }
 })
@@ -33,6 +33,7 @@ export interface Task {
   creatorId: number
   parentTaskId?: number
   position: number
+  rankKey?: string
   assignee?: User
   creator?: User
   subtasks?: Subtask[]
@@ -42,6 +43,22 @@ export interface Task {
   updatedAt: string
 }
 
+// RESYNC is sent instead of the deltas a slow client could not keep up with
+export type TaskDeltaType = 'CREATED' | 'UPDATED' | 'DELETED' | 'RESYNC'
+
+export interface TaskDelta {
+  seq: number
+  type: TaskDeltaType
+  taskId: number
+  fields: Partial<Task>
+}
+
+export interface TaskDeltaResync {
+  seq: number
+  reset: boolean
+  deltas: TaskDelta[]
+}
+
 export interface Subtask {
   id: number
   taskId: number